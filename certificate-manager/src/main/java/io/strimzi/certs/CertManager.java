@@ -6,6 +6,7 @@ package io.strimzi.certs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -148,4 +149,41 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generate a new private key and a certificate signed by a Certificate Authority, and store them in a PKCS12
+     * keystore. The default implementation uses temporary files with the other methods of this interface.
+     *
+     * @param sbj subject information
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @param keyStorePassword password for protecting the keystore
+     * @return the private key, the signed certificate and the keystore
+     * @throws IOException If the key, the certificate or the keystore could not be generated.
+     */
+    default CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        File csrFile = Files.createTempFile("tls", "csr").toFile();
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+        File certFile = Files.createTempFile("tls", "cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
+
+        try {
+            generateCsr(keyFile, csrFile, sbj);
+            generateCert(csrFile, caKey, caCert, certFile, sbj, days);
+            addKeyAndCertToKeyStore(keyFile, certFile, sbj.commonName(), keyStoreFile, keyStorePassword);
+
+            return new CertAndKey(
+                    Files.readAllBytes(keyFile.toPath()),
+                    Files.readAllBytes(certFile.toPath()),
+                    null,
+                    Files.readAllBytes(keyStoreFile.toPath()),
+                    keyStorePassword);
+        } finally {
+            Files.deleteIfExists(csrFile.toPath());
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+            Files.deleteIfExists(keyStoreFile.toPath());
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.util.Locale;
+
+/**
+ * Certificate manager implementations which can be selected in the operator configuration
+ */
+public enum CertManagerType {
+    /**
+     * Certificate manager which uses the openssl binary
+     */
+    OPENSSL,
+
+    /**
+     * Certificate manager which generates the keys and certificates in-process using the JCA APIs
+     */
+    JCA;
+
+    /**
+     * Parses the certificate manager type from its name
+     *
+     * @param name  Name of the certificate manager type (case-insensitive)
+     *
+     * @return  The certificate manager type
+     */
+    public static CertManagerType fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * @return  New instance of the certificate manager of this type
+     */
+    public CertManager create() {
+        return create(null);
+    }
+
+    /**
+     * Creates the certificate manager which takes the keys from the key pair pool. The pool is used only by the JCA
+     * certificate manager. The openssl binary always generates its own keys.
+     *
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys when needed
+     *
+     * @return  New instance of the certificate manager of this type
+     */
+    public CertManager create(KeyPairPool keyPairPool) {
+        return create(keyPairPool != null ? keyPairPool.algorithm() : KeyAlgorithm.RSA, keyPairPool);
+    }
+
+    /**
+     * Creates the certificate manager which generates the end-entity keys with the given algorithm, or takes them
+     * from the key pair pool when it is used. The algorithm and the pool are used only by the JCA certificate manager.
+     * The openssl binary always generates its own keys.
+     *
+     * @param keyAlgorithm  Algorithm of the end-entity keys
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys when needed
+     *
+     * @return  New instance of the certificate manager of this type
+     */
+    public CertManager create(KeyAlgorithm keyAlgorithm, KeyPairPool keyPairPool) {
+        return switch (this) {
+            case OPENSSL -> new OpenSslCertManager();
+            case JCA -> new JcaCertManager(keyAlgorithm, keyPairPool);
+        };
+    }
+}
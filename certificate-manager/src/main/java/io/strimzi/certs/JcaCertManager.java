@@ -0,0 +1,571 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A certificate manager which generates the keys, certificate signing requests, certificates and PKCS12 stores
+ * in-process using the JCA and the BouncyCastle PKIX APIs instead of forking the {@code openssl} binary. The files
+ * passed to its methods are only read and written once, no temporary files or OpenSSL CA databases are used.
+ *
+ * The certificates use the same profile as the ones issued by {@link OpenSslCertManager}:
+ *     - RSA keys (4096 bits for CAs, 2048 bits for end entities) stored in the PKCS#8 PEM format
+ *     - SHA-512 signatures and random 159-bit serial numbers
+ *     - Subject DN with only the organization name and the common name
+ *     - Subject key identifier, critical basic constraints and critical key usage extensions
+ *
+ * The end-entity keys can be taken from a {@link KeyPairPool} which generates them in the background. The pool can
+ * also use elliptic curve keys instead of the RSA keys.
+ */
+public class JcaCertManager implements CertManager {
+    /*test*/ static final int CA_KEY_SIZE = 4096;
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final String SIGNATURE_DIGEST = "SHA512";
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Clock clock;
+    private final KeyAlgorithm keyAlgorithm;
+    private final KeyPairPool keyPairPool;
+
+    /**
+     * Constructs the JcaCertManager with the system time
+     */
+    public JcaCertManager() {
+        this(Clock.systemUTC(), null);
+    }
+
+    /**
+     * Configures the JcaCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public JcaCertManager(Clock clock) {
+        this(clock, null);
+    }
+
+    /**
+     * Constructs the JcaCertManager with the system time which takes the end-entity keys from the key pair pool
+     *
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys when needed
+     */
+    public JcaCertManager(KeyPairPool keyPairPool) {
+        this(Clock.systemUTC(), keyPairPool);
+    }
+
+    /**
+     * Configures the JcaCertManager with time and key pair pool passed as parameters
+     *
+     * @param clock         Clock / Time which should be used by the manager
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys when needed
+     */
+    public JcaCertManager(Clock clock, KeyPairPool keyPairPool) {
+        this(clock, keyPairPool != null ? keyPairPool.algorithm() : KeyAlgorithm.RSA, keyPairPool);
+    }
+
+    /**
+     * Constructs the JcaCertManager with the system time which generates the end-entity keys with the given algorithm
+     *
+     * @param keyAlgorithm  Algorithm of the end-entity keys
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys when needed
+     */
+    public JcaCertManager(KeyAlgorithm keyAlgorithm, KeyPairPool keyPairPool) {
+        this(Clock.systemUTC(), keyAlgorithm, keyPairPool);
+    }
+
+    /**
+     * Configures the JcaCertManager with time, algorithm of the end-entity keys and key pair pool passed as parameters
+     *
+     * @param clock         Clock / Time which should be used by the manager
+     * @param keyAlgorithm  Algorithm of the end-entity keys
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys when needed
+     */
+    public JcaCertManager(Clock clock, KeyAlgorithm keyAlgorithm, KeyPairPool keyPairPool) {
+        if (keyPairPool != null && keyPairPool.algorithm() != keyAlgorithm) {
+            throw new IllegalArgumentException("The key pair pool generates " + keyPairPool.algorithm() + " keys instead of " + keyAlgorithm + " keys");
+        }
+
+        this.clock = clock;
+        this.keyAlgorithm = keyAlgorithm;
+        this.keyPairPool = keyPairPool;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        // The key file is not empty => the existing key is reused
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generates a root or an intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile   The issuing CA key (or null for a root CA)
+     * @param issuerCaCertFile  The issuing CA cert (or null for a root CA)
+     * @param subject           The required subject
+     * @param subjectKeyFile    The subject key file. If this file is empty then a new CA key will be generated and
+     *                          populated by this call. Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile   The subject certificate file, populated by this call
+     * @param notBefore         The required NotBefore date of the issued certificate
+     * @param notAfter          The required NotAfter date of the issued certificate
+     * @param pathLength        The number of CA certificates below this certificate in a certificate chain
+     *
+     * @throws IOException  IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        boolean newKey = subjectKeyFile.length() == 0;
+        KeyPair subjectKeyPair = newKey ? generateCaKeyPair() : PemUtils.readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+
+        X500Name issuer;
+        PrivateKey signingKey;
+        if (issuerCaCertFile == null) {
+            issuer = x500Name(subject);
+            signingKey = subjectKeyPair.getPrivate();
+        } else {
+            issuer = PemUtils.readCertificate(Files.readAllBytes(issuerCaCertFile.toPath())).getSubject();
+            signingKey = PemUtils.readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+        }
+
+        X509CertificateHolder cert = signCertificate(issuer, signingKey, x500Name(subject), subjectKeyPair.getPublic(),
+                notBefore, notAfter, new BasicConstraints(pathLength), new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign), null);
+
+        PemUtils.writePem(subjectCertFile, cert);
+
+        if (newKey) {
+            PemUtils.writePrivateKey(subjectKeyFile, subjectKeyPair.getPrivate());
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        X509Certificate certificate;
+        try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+            certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+        }
+
+        KeyStore trustStore = loadKeyStore(trustStoreFile, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        storeKeyStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        try {
+            PrivateKey key = PemUtils.readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+
+            Collection<? extends Certificate> chain;
+            try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+                chain = CertificateFactory.getInstance("X.509").generateCertificates(isCertificate);
+            }
+
+            // The key store is always created from scratch in the same way as openssl pkcs12 -export does it
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, null);
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+            storeKeyStore(keyStore, keyStoreFile, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the PKCS12 key store " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadKeyStore(trustStoreFile, trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        storeKeyStore(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        KeyPair keyPair = keyPairPool != null ? keyPairPool.take() : keyAlgorithm.generateKeyPair();
+
+        try {
+            JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+            PKCS10CertificationRequest csr = builder.build(contentSigner(keyPair.getPrivate()));
+
+            PemUtils.writePrivateKey(keyFile, keyPair.getPrivate());
+            PemUtils.writePem(csrFile, csr);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Failed to sign the certificate signing request", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key file of the CA which should sign this certificate
+     * @param caCert        Cert file of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, notBefore, notAfter);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    private void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        PKCS10CertificationRequest csr = PemUtils.readCsr(csrFile);
+
+        PublicKey publicKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+        // Key encipherment applies only to the RSA keys
+        KeyUsage keyUsage = KEY_ALGORITHM.equals(publicKey.getAlgorithm()) ? new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment) : new KeyUsage(KeyUsage.digitalSignature);
+        X509CertificateHolder cert = signCertificate(PemUtils.readCertificate(caCert).getSubject(),
+                PemUtils.readPrivateKey(caKey), policyName(csr.getSubject()), publicKey,
+                notBefore, notAfter, new BasicConstraints(false), keyUsage,
+                sbj.hasSubjectAltNames() ? subjectAltNames(sbj) : null);
+
+        PemUtils.writePem(crtFile, cert);
+    }
+
+    /**
+     * Generates the key, the certificate and the PKCS12 keystore in memory without any temporary files. The
+     * certificate is the same as the one signed from a CSR by the file based methods.
+     */
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days, String keyStorePassword) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(sbj);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(keyStorePassword);
+
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        checkValidity(notBefore, notAfter);
+
+        KeyPair keyPair = keyPairPool != null ? keyPairPool.take() : keyAlgorithm.generateKeyPair();
+        PublicKey publicKey = keyPair.getPublic();
+        // Key encipherment applies only to the RSA keys
+        KeyUsage keyUsage = KEY_ALGORITHM.equals(publicKey.getAlgorithm()) ? new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment) : new KeyUsage(KeyUsage.digitalSignature);
+        X509CertificateHolder cert = signCertificate(PemUtils.readCertificate(caCert).getSubject(),
+                PemUtils.readPrivateKey(caKey), policyName(x500Name(sbj)), publicKey,
+                notBefore, notAfter, new BasicConstraints(false), keyUsage,
+                sbj.hasSubjectAltNames() ? subjectAltNames(sbj) : null);
+
+        try {
+            Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(cert.getEncoded()));
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, null);
+            keyStore.setKeyEntry(sbj.commonName(), keyPair.getPrivate(), keyStorePassword.toCharArray(), new Certificate[] {certificate});
+
+            ByteArrayOutputStream keyStoreBytes = new ByteArrayOutputStream();
+            keyStore.store(keyStoreBytes, keyStorePassword.toCharArray());
+
+            return new CertAndKey(PemUtils.encodePrivateKey(keyPair.getPrivate()), PemUtils.encodePem(cert), null, keyStoreBytes.toByteArray(), keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the PKCS12 key store for " + sbj.commonName(), e);
+        }
+    }
+
+    /**
+     * Builds and signs the certificate
+     *
+     * @param issuer            Name of the issuer
+     * @param signingKey        Private key of the issuer
+     * @param subject           Name of the subject
+     * @param subjectPublicKey  Public key of the subject
+     * @param notBefore         Not before validity
+     * @param notAfter          Not after validity
+     * @param basicConstraints  Basic constraints extension
+     * @param keyUsage          Key usage extension
+     * @param subjectAltNames   Subject alternative names or null if the certificate has none
+     *
+     * @return  The signed certificate
+     *
+     * @throws IOException  Thrown when the certificate cannot be built or signed
+     */
+    private X509CertificateHolder signCertificate(X500Name issuer, PrivateKey signingKey, X500Name subject, PublicKey subjectPublicKey,
+                                                  ZonedDateTime notBefore, ZonedDateTime notAfter,
+                                                  BasicConstraints basicConstraints, KeyUsage keyUsage, GeneralNames subjectAltNames) throws IOException {
+        try {
+            JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuer, serialNumber(),
+                    Date.from(notBefore.toInstant().truncatedTo(ChronoUnit.SECONDS)),
+                    Date.from(notAfter.toInstant().truncatedTo(ChronoUnit.SECONDS)),
+                    subject, subjectPublicKey);
+
+            builder.addExtension(Extension.subjectKeyIdentifier, false, new JcaX509ExtensionUtils().createSubjectKeyIdentifier(subjectPublicKey))
+                    .addExtension(Extension.basicConstraints, true, basicConstraints)
+                    .addExtension(Extension.keyUsage, true, keyUsage);
+
+            if (subjectAltNames != null) {
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames);
+            }
+
+            return builder.build(contentSigner(signingKey));
+        } catch (CertIOException | NoSuchAlgorithmException | OperatorCreationException e) {
+            throw new IOException("Failed to sign the certificate for " + subject, e);
+        }
+    }
+
+    /**
+     * Generates a new RSA key pair for a CA
+     *
+     * @return  New key pair
+     */
+    private static KeyPair generateCaKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(CA_KEY_SIZE, RANDOM);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to generate the " + KEY_ALGORITHM + " key", e);
+        }
+    }
+
+    private static ContentSigner contentSigner(PrivateKey signingKey) throws OperatorCreationException {
+        String keyAlgorithm = "EC".equals(signingKey.getAlgorithm()) ? "ECDSA" : signingKey.getAlgorithm();
+        return new JcaContentSignerBuilder(SIGNATURE_DIGEST + "with" + keyAlgorithm).build(signingKey);
+    }
+
+    private static BigInteger serialNumber() {
+        BigInteger serial;
+
+        do {
+            serial = new BigInteger(SERIAL_NUMBER_BITS, RANDOM);
+        } while (serial.signum() == 0);
+
+        return serial;
+    }
+
+    /**
+     * Converts the subject to an X500 name with the organization name followed by the common name. This is the same
+     * order as used by the OpenSSL based certificate manager.
+     *
+     * @param subject   Subject
+     *
+     * @return  X500 name
+     */
+    /*test*/ static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Keeps only the organization name and the common name from the CSR subject. This mirrors the policy used by the
+     * OpenSSL based certificate manager.
+     *
+     * @param csrSubject    Subject from the CSR
+     *
+     * @return  X500 name used in the certificate
+     */
+    private static X500Name policyName(X500Name csrSubject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        for (RDN rdn : csrSubject.getRDNs(BCStyle.O)) {
+            builder.addRDN(rdn.getFirst());
+        }
+
+        for (RDN rdn : csrSubject.getRDNs(BCStyle.CN)) {
+            builder.addRDN(rdn.getFirst());
+        }
+
+        return builder.build();
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>(subject.dnsNames().size() + subject.ipAddresses().size());
+
+        for (String dnsName : subject.dnsNames()) {
+            names.add(new GeneralName(GeneralName.dNSName, dnsName));
+        }
+
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(new GeneralName(GeneralName.iPAddress, ipAddress));
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private static KeyStore loadKeyStore(File storeFile, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+
+        // The KeyStore class is able to create an empty store if the input stream is null
+        if (storeFile.length() > 0) {
+            try (InputStream is = new FileInputStream(storeFile)) {
+                store.load(is, password.toCharArray());
+            }
+        } else {
+            store.load(null, password.toCharArray());
+        }
+
+        return store;
+    }
+
+    private static void storeKeyStore(KeyStore store, File storeFile, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        try (FileOutputStream os = new FileOutputStream(storeFile)) {
+            store.store(os, password.toCharArray());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Locale;
+
+/**
+ * Algorithms which can be used for the keys of the end-entity (user, broker, etc.) certificates
+ */
+public enum KeyAlgorithm {
+    /**
+     * 2048-bit RSA keys (same as the keys generated by the openssl binary)
+     */
+    RSA,
+
+    /**
+     * Elliptic curve keys using the NIST P-256 curve
+     */
+    EC;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /*test*/ static final int RSA_KEY_SIZE = 2048;
+    /*test*/ static final String EC_CURVE = "secp256r1";
+
+    /**
+     * Parses the key algorithm from its name
+     *
+     * @param name  Name of the key algorithm (case-insensitive)
+     *
+     * @return  The key algorithm
+     */
+    public static KeyAlgorithm fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Generates a new key pair. This method is thread-safe.
+     *
+     * @return  New key pair
+     */
+    public KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(name());
+
+            if (this == EC) {
+                generator.initialize(new ECGenParameterSpec(EC_CURVE), RANDOM);
+            } else {
+                generator.initialize(RSA_KEY_SIZE, RANDOM);
+            }
+
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the " + name() + " key", e);
+        }
+    }
+}
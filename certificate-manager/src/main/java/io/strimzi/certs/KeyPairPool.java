@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.security.KeyPair;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of pre-generated key pairs. A background thread keeps the pool full, so the key generation (which is
+ * the most expensive part of issuing a certificate) happens outside the reconciliation path and bursts of new
+ * certificates are served from the pool. When the pool is empty, the key pair is generated on the caller thread.
+ *
+ * Every key pair is handed out only once.
+ */
+public class KeyPairPool implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+    private static final long INITIAL_BACKOFF_MS = 1_000L;
+    private static final long MAX_BACKOFF_MS = 60_000L;
+
+    private final KeyAlgorithm algorithm;
+    private final int size;
+    private final BlockingQueue<KeyPair> pool;
+    private final KeyPairPoolMetrics metrics;
+    private final Thread refillThread;
+
+    private volatile boolean running = false;
+
+    /**
+     * Constructs the key pair pool. The pool is filled only after it is started.
+     *
+     * @param algorithm     Algorithm of the keys in the pool
+     * @param size          Maximal number of key pairs kept in the pool
+     * @param metrics       Receives the pool hit / miss and refill events
+     */
+    public KeyPairPool(KeyAlgorithm algorithm, int size, KeyPairPoolMetrics metrics) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size of the key pair pool has to be positive");
+        }
+
+        this.algorithm = algorithm;
+        this.size = size;
+        this.pool = new ArrayBlockingQueue<>(size);
+        this.metrics = metrics;
+        this.refillThread = new Thread(this::refill, "key-pair-pool-" + algorithm.name().toLowerCase(Locale.ENGLISH));
+        this.refillThread.setDaemon(true);
+    }
+
+    /**
+     * Starts the background thread which fills the pool
+     */
+    public void start() {
+        LOGGER.info("Starting the {} key pair pool with size {}", algorithm, size);
+        running = true;
+        refillThread.start();
+    }
+
+    /**
+     * @return  Algorithm of the keys in this pool
+     */
+    public KeyAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return  Number of key pairs currently available in the pool
+     */
+    public int available() {
+        return pool.size();
+    }
+
+    /**
+     * Takes a key pair from the pool. When the pool is empty, a new key pair is generated on the caller thread.
+     *
+     * @return  Key pair which was not used before
+     */
+    public KeyPair take() {
+        KeyPair keyPair = pool.poll();
+
+        if (keyPair != null) {
+            metrics.hit();
+            return keyPair;
+        } else {
+            metrics.miss();
+            return algorithm.generateKeyPair();
+        }
+    }
+
+    /**
+     * Generates the key pairs until the pool is full and then waits until some of them are taken. When the key
+     * generation fails, the refill is retried with an exponential backoff. The callers generate the keys themselves in
+     * the meantime.
+     */
+    private void refill() {
+        long backoffMs = INITIAL_BACKOFF_MS;
+
+        while (running) {
+            try {
+                long start = System.nanoTime();
+                KeyPair keyPair;
+
+                try {
+                    keyPair = algorithm.generateKeyPair();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to generate a key pair for the pool. The refill will be retried in {} ms", backoffMs, e);
+                    Thread.sleep(backoffMs);
+                    backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+                    continue;
+                }
+
+                metrics.refilled(System.nanoTime() - start);
+                backoffMs = INITIAL_BACKOFF_MS;
+
+                // Blocks while the pool is full
+                pool.put(keyPair);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        LOGGER.info("The {} key pair pool was stopped", algorithm);
+    }
+
+    /**
+     * Stops the background thread and discards the pooled key pairs
+     */
+    @Override
+    public void close() {
+        running = false;
+        refillThread.interrupt();
+        pool.clear();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * Receives the metrics events from the key pair pool. The certificate manager does not depend on any metrics library,
+ * so the operators provide their own implementation which records the events in their metrics registry.
+ */
+public interface KeyPairPoolMetrics {
+    /**
+     * Metrics implementation which ignores all events
+     */
+    KeyPairPoolMetrics NOOP = new KeyPairPoolMetrics() {
+        @Override
+        public void hit() {
+        }
+
+        @Override
+        public void miss() {
+        }
+
+        @Override
+        public void refilled(long durationNanos) {
+        }
+    };
+
+    /**
+     * Called when a key pair was taken from the pool
+     */
+    void hit();
+
+    /**
+     * Called when the pool was empty and the key pair had to be generated on the caller thread
+     */
+    void miss();
+
+    /**
+     * Called when the background thread added a new key pair to the pool
+     *
+     * @param durationNanos     Time in nanoseconds it took to generate the key pair
+     */
+    void refilled(long durationNanos);
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaMiscPEMGenerator;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.openssl.jcajce.JcaPKCS8Generator;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.util.io.pem.PemObjectGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+
+/**
+ * Utility methods for reading and writing the PEM encoded keys, certificates and certificate signing requests used by
+ * the {@link JcaCertManager}.
+ */
+class PemUtils {
+    private PemUtils() {
+        // Static utility class
+    }
+
+    /**
+     * Reads the RSA private key in the PKCS#8 or PKCS#1 PEM format and derives the key pair from it.
+     *
+     * @param pem   PEM encoded private key
+     *
+     * @return  The key pair
+     *
+     * @throws IOException  Thrown when the key cannot be parsed
+     */
+    static KeyPair readKeyPair(byte[] pem) throws IOException {
+        Object key = readPemObject(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (key instanceof PEMKeyPair) {
+            // PKCS#1 key (BEGIN RSA PRIVATE KEY)
+            return converter.getKeyPair((PEMKeyPair) key);
+        } else if (key instanceof PrivateKeyInfo) {
+            // PKCS#8 key (BEGIN PRIVATE KEY)
+            PrivateKey privateKey = converter.getPrivateKey((PrivateKeyInfo) key);
+            return new KeyPair(publicKey(privateKey), privateKey);
+        } else {
+            throw new IOException("The PEM data does not contain a supported private key");
+        }
+    }
+
+    /**
+     * Reads the private key in the PKCS#8 or PKCS#1 PEM format
+     *
+     * @param pem   PEM encoded private key
+     *
+     * @return  The private key
+     *
+     * @throws IOException  Thrown when the key cannot be parsed
+     */
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Object key = readPemObject(pem);
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+        if (key instanceof PEMKeyPair) {
+            // PKCS#1 key (BEGIN RSA PRIVATE KEY)
+            return converter.getKeyPair((PEMKeyPair) key).getPrivate();
+        } else if (key instanceof PrivateKeyInfo) {
+            // PKCS#8 key (BEGIN PRIVATE KEY)
+            return converter.getPrivateKey((PrivateKeyInfo) key);
+        } else {
+            throw new IOException("The PEM data does not contain a supported private key");
+        }
+    }
+
+    /**
+     * Reads the PEM encoded certificate
+     *
+     * @param pem   PEM encoded certificate
+     *
+     * @return  The certificate
+     *
+     * @throws IOException  Thrown when the certificate cannot be parsed
+     */
+    static X509CertificateHolder readCertificate(byte[] pem) throws IOException {
+        Object cert = readPemObject(pem);
+
+        if (cert instanceof X509CertificateHolder) {
+            return (X509CertificateHolder) cert;
+        } else {
+            throw new IOException("The PEM data does not contain a certificate");
+        }
+    }
+
+    /**
+     * Reads the PEM encoded certificate signing request
+     *
+     * @param csrFile   File with the certificate signing request
+     *
+     * @return  The certificate signing request
+     *
+     * @throws IOException  Thrown when the file cannot be read or parsed
+     */
+    static PKCS10CertificationRequest readCsr(File csrFile) throws IOException {
+        Object csr = readPemObject(Files.readAllBytes(csrFile.toPath()));
+
+        if (csr instanceof PKCS10CertificationRequest) {
+            return (PKCS10CertificationRequest) csr;
+        } else {
+            throw new IOException("File " + csrFile + " does not contain a certificate signing request");
+        }
+    }
+
+    /**
+     * Writes the private key in the PKCS#8 PEM format
+     *
+     * @param file  File where the key should be written
+     * @param key   Private key
+     *
+     * @throws IOException  Thrown when the file cannot be written
+     */
+    static void writePrivateKey(File file, PrivateKey key) throws IOException {
+        writePem(file, new JcaPKCS8Generator(key, null));
+    }
+
+    /**
+     * Writes the certificate or certificate signing request in the PEM format
+     *
+     * @param file      File where the object should be written
+     * @param object    Certificate or certificate signing request
+     *
+     * @throws IOException  Thrown when the file cannot be written
+     */
+    static void writePem(File file, Object object) throws IOException {
+        writePem(file, new JcaMiscPEMGenerator(object));
+    }
+
+    /**
+     * Encodes the private key in the PKCS#8 PEM format
+     *
+     * @param key   Private key
+     *
+     * @return  PEM encoded private key
+     *
+     * @throws IOException  Thrown when the key cannot be encoded
+     */
+    static byte[] encodePrivateKey(PrivateKey key) throws IOException {
+        return encodePem(new JcaPKCS8Generator(key, null));
+    }
+
+    /**
+     * Encodes the certificate or certificate signing request in the PEM format
+     *
+     * @param object    Certificate or certificate signing request
+     *
+     * @return  PEM encoded object
+     *
+     * @throws IOException  Thrown when the object cannot be encoded
+     */
+    static byte[] encodePem(Object object) throws IOException {
+        return encodePem(new JcaMiscPEMGenerator(object));
+    }
+
+    private static byte[] encodePem(PemObjectGenerator pem) throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(pem);
+        }
+
+        return writer.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static void writePem(File file, PemObjectGenerator pem) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.US_ASCII);
+             JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(pem);
+        }
+    }
+
+    private static Object readPemObject(byte[] pem) throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.US_ASCII);
+             PEMParser parser = new PEMParser(reader)) {
+            return parser.readObject();
+        }
+    }
+
+    /**
+     * Derives the public key from the RSA private key.
+     *
+     * @param privateKey    RSA private key in the CRT form
+     *
+     * @return  The public key
+     *
+     * @throws IOException  Thrown when the public key cannot be derived
+     */
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        if (privateKey instanceof RSAPrivateCrtKey) {
+            RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+
+            try {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Failed to derive the public key", e);
+            }
+        } else {
+            throw new IOException("Unsupported private key type " + privateKey.getAlgorithm());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyPairPoolTest {
+    static class CountingMetrics implements KeyPairPoolMetrics {
+        final AtomicInteger hits = new AtomicInteger();
+        final AtomicInteger misses = new AtomicInteger();
+        final AtomicInteger refills = new AtomicInteger();
+
+        @Override
+        public void hit() {
+            hits.incrementAndGet();
+        }
+
+        @Override
+        public void miss() {
+            misses.incrementAndGet();
+        }
+
+        @Override
+        public void refilled(long durationNanos) {
+            refills.incrementAndGet();
+        }
+    }
+
+    private static void waitUntilFull(KeyPairPool pool, int size) throws InterruptedException {
+        for (int i = 0; i < 600 && pool.available() < size; i++) {
+            Thread.sleep(100);
+        }
+
+        assertThat(pool.available(), is(size));
+    }
+
+    @Test
+    public void testPool() throws InterruptedException {
+        CountingMetrics metrics = new CountingMetrics();
+
+        try (KeyPairPool pool = new KeyPairPool(KeyAlgorithm.EC, 3, metrics)) {
+            // Not started => everything is a miss
+            KeyPair miss = pool.take();
+            assertThat(miss.getPublic() instanceof ECPublicKey, is(true));
+            assertThat(metrics.misses.get(), is(1));
+            assertThat(metrics.hits.get(), is(0));
+
+            pool.start();
+            waitUntilFull(pool, 3);
+
+            Set<KeyPair> keyPairs = new HashSet<>();
+            keyPairs.add(miss);
+            for (int i = 0; i < 3; i++) {
+                keyPairs.add(pool.take());
+            }
+
+            // Each key pair is used only once
+            assertThat(keyPairs.size(), is(4));
+            assertThat(metrics.hits.get(), is(3));
+            assertThat(metrics.misses.get(), is(1));
+
+            // The pool is refilled in the background
+            waitUntilFull(pool, 3);
+            assertThat(metrics.refills.get() >= 6, is(true));
+        }
+    }
+
+    @Test
+    public void testKeyAlgorithm() {
+        assertThat(((RSAPublicKey) KeyAlgorithm.RSA.generateKeyPair().getPublic()).getModulus().bitLength(), is(KeyAlgorithm.RSA_KEY_SIZE));
+        assertThat(KeyAlgorithm.fromName("ec"), is(KeyAlgorithm.EC));
+        assertThrows(IllegalArgumentException.class, () -> KeyAlgorithm.fromName("DSA"));
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(KeyAlgorithm.RSA, 0, KeyPairPoolMetrics.NOOP));
+    }
+}
@@ -487,4 +487,54 @@ public class OpenSslCertManagerIT {
         caCert.delete();
         caStore.delete();
     }
+
+    @Test
+    public void testInteroperabilityWithJcaCertManager() throws Exception {
+        JcaCertManager jca = new JcaCertManager();
+        Subject caSubject = new Subject.Builder().withCommonName("MyCommonName").withOrganizationName("MyOrganization").build();
+        Subject subject = new Subject.Builder().withCommonName("MyUser").withOrganizationName("MyOrganization").addDnsName("my-user.io").build();
+
+        // CA generated by OpenSSL and used by JCA
+        File caKey = Files.createTempFile("ca-", ".key").toFile();
+        File caCert = Files.createTempFile("ca-", ".crt").toFile();
+        File key = Files.createTempFile("client-", ".key").toFile();
+        File csr = Files.createTempFile("client-", ".csr").toFile();
+        File cert = Files.createTempFile("client-", ".crt").toFile();
+        File keyStore = Files.createTempFile("client-", ".p12").toFile();
+
+        ssl.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+        ssl.generateCsr(key, csr, subject);
+        jca.generateCert(csr, caKey, caCert, cert, subject, 365);
+        jca.addKeyAndCertToKeyStore(key, cert, "user", keyStore, "123456");
+
+        X509Certificate x509Certificate = loadCertificate(cert);
+        x509Certificate.verify(loadCertificate(caCert).getPublicKey());
+        assertSubject(subject, x509Certificate);
+
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(new FileInputStream(keyStore), "123456".toCharArray());
+        assertThat(store.getKey("user", "123456".toCharArray()), is(notNullValue()));
+
+        // CA generated by JCA and used by OpenSSL (the empty key file makes sure a new CA key is generated)
+        Files.write(caKey.toPath(), new byte[0]);
+        jca.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+        jca.generateCsr(key, csr, subject);
+        ssl.generateCert(csr, caKey, caCert, cert, subject, 365);
+        ssl.addKeyAndCertToKeyStore(key, cert, "user", keyStore, "123456");
+
+        x509Certificate = loadCertificate(cert);
+        x509Certificate.verify(loadCertificate(caCert).getPublicKey());
+        assertSubject(subject, x509Certificate);
+
+        store = KeyStore.getInstance("PKCS12");
+        store.load(new FileInputStream(keyStore), "123456".toCharArray());
+        assertThat(store.getKey("user", "123456".toCharArray()), is(notNullValue()));
+
+        caKey.delete();
+        caCert.delete();
+        key.delete();
+        csr.delete();
+        cert.delete();
+        keyStore.delete();
+    }
 }
@@ -161,7 +161,9 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerThreadPoolSize(),
+                        config.getPodSetControllerMaxPodOperations()
                 );
                 strimziPodSetController.start();
                 return null;
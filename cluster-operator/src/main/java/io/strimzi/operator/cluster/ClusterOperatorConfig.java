@@ -5,6 +5,8 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -15,6 +17,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
 import io.strimzi.operator.common.operator.resource.ConfigParameterParser;
+import io.strimzi.operator.common.operator.resource.PatchStrategy;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -32,6 +35,8 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -218,6 +223,16 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Number of the StrimziPodSetController worker threads reconciling the StrimziPodSets in parallel
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_THREAD_POOL_SIZE", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Maximal number of pods created or patched in parallel within a single StrimziPodSet reconciliation
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_MAX_POD_OPERATIONS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_MAX_POD_OPERATIONS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -229,6 +244,51 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<String> POD_SECURITY_PROVIDER_CLASS = new ConfigParameter<>("STRIMZI_POD_SECURITY_PROVIDER_CLASS", STRING, "io.strimzi.plugin.security.profiles.impl.BaselinePodSecurityProvider", CONFIG_VALUES);
 
+    /**
+     * Certificate manager implementation used to generate the CA and component certificates (openssl or jca)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
+    /**
+     * Number of pre-generated key pairs kept in the key pair pool of the jca certificate manager (0 disables the pool)
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_SIZE", nonNegative(INTEGER), "0", CONFIG_VALUES);
+
+    /**
+     * Algorithm of the component certificate keys generated by the jca certificate manager (RSA or EC)
+     */
+    public static final ConfigParameter<KeyAlgorithm> KEY_PAIR_ALGORITHM = new ConfigParameter<>("STRIMZI_KEY_PAIR_ALGORITHM", ConfigParameterParser.KEY_ALGORITHM, "RSA", CONFIG_VALUES);
+
+    /**
+     * Serve the reads of the resources created by the operator from informer-backed caches
+     */
+    public static final ConfigParameter<Boolean> RESOURCE_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_RESOURCE_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Strategy used to update the existing resources (json, merge or server-side-apply)
+     */
+    public static final ConfigParameter<PatchStrategy> PATCH_STRATEGY = new ConfigParameter<>("STRIMZI_PATCH_STRATEGY", ConfigParameterParser.PATCH_STRATEGY, "json", CONFIG_VALUES);
+
+    /**
+     * Maximal number of Kafka brokers restarted at the same time during rolling updates
+     */
+    public static final ConfigParameter<Integer> KAFKA_ROLLER_MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_KAFKA_ROLLER_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Time in milliseconds after which the pooled Kafka Admin clients which are not used are closed. 0 disables the pool.
+     */
+    public static final ConfigParameter<Long> ADMIN_CLIENT_POOL_IDLE_TIMEOUT_MS = new ConfigParameter<>("STRIMZI_ADMIN_CLIENT_POOL_IDLE_TIMEOUT_MS", nonNegative(LONG), "300000", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connections per host kept by the HTTP clients of the Kafka Connect and Cruise Control REST APIs
+     */
+    public static final ConfigParameter<Integer> HTTP_CLIENT_MAX_POOL_SIZE = new ConfigParameter<>("STRIMZI_HTTP_CLIENT_MAX_POOL_SIZE", strictlyPositive(INTEGER), "5", CONFIG_VALUES);
+
+    /**
+     * Enables HTTP/2 in the HTTP clients of the Kafka Connect and Cruise Control REST APIs
+     */
+    public static final ConfigParameter<Boolean> HTTP_CLIENT_HTTP2_ENABLED = new ConfigParameter<>("STRIMZI_HTTP_CLIENT_HTTP2_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
     /**
      * Configuration of the Cluster Operator leader election
      */
@@ -582,6 +642,20 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return  Number of the StrimziPodSetController worker threads
+     */
+    public int getPodSetControllerThreadPoolSize() {
+        return get(POD_SET_CONTROLLER_THREAD_POOL_SIZE);
+    }
+
+    /**
+     * @return  Maximal number of pods created or patched in parallel within a single StrimziPodSet reconciliation
+     */
+    public int getPodSetControllerMaxPodOperations() {
+        return get(POD_SET_CONTROLLER_MAX_POD_OPERATIONS);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -596,6 +670,71 @@ public class ClusterOperatorConfig {
         return parsePodSecurityProviderClass(get(POD_SECURITY_PROVIDER_CLASS));
     }
 
+    /**
+     * @return  Certificate manager implementation used to generate the certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return  Number of pre-generated key pairs kept in the key pair pool
+     */
+    public int getKeyPairPoolSize() {
+        return get(KEY_PAIR_POOL_SIZE);
+    }
+
+    /**
+     * @return  Algorithm of the component certificate keys generated by the jca certificate manager
+     */
+    public KeyAlgorithm getKeyPairAlgorithm() {
+        return get(KEY_PAIR_ALGORITHM);
+    }
+
+    /**
+     * @return  True if the reads of the resources created by the operator should be served from informer-backed caches
+     */
+    public boolean isResourceCacheEnabled() {
+        return get(RESOURCE_CACHE_ENABLED);
+    }
+
+    /**
+     * @return  Strategy used to update the existing resources
+     */
+    public PatchStrategy getPatchStrategy() {
+        return get(PATCH_STRATEGY);
+    }
+
+    /**
+     * @return  Maximal number of Kafka brokers restarted at the same time during rolling updates
+     */
+    public int getKafkaRollerMaxBatchSize() {
+        return get(KAFKA_ROLLER_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @return  Time in milliseconds after which the pooled Kafka Admin clients which are not used are closed. 0 when
+     *          the Admin clients are not pooled.
+     */
+    public long getAdminClientPoolIdleTimeoutMs() {
+        return get(ADMIN_CLIENT_POOL_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * @return  Maximal number of connections per host kept by the HTTP clients of the Kafka Connect and Cruise Control
+     *          REST APIs
+     */
+    public int getHttpClientMaxPoolSize() {
+        return get(HTTP_CLIENT_MAX_POOL_SIZE);
+    }
+
+    /**
+     * @return  True if the HTTP clients of the Kafka Connect and Cruise Control REST APIs should use HTTP/2
+     */
+    public boolean isHttpClientHttp2Enabled() {
+        return get(HTTP_CLIENT_HTTP2_ENABLED);
+    }
+
     /**
      * @return Returns the Leader Election Manager configuration
      */
@@ -627,8 +766,19 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tpodSetControllerThreadPoolSize=" + getPodSetControllerThreadPoolSize() +
+                "\n\tpodSetControllerMaxPodOperations=" + getPodSetControllerMaxPodOperations() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tkeyPairPoolSize=" + getKeyPairPoolSize() +
+                "\n\tkeyPairAlgorithm=" + getKeyPairAlgorithm() +
+                "\n\tresourceCacheEnabled=" + isResourceCacheEnabled() +
+                "\n\tpatchStrategy=" + getPatchStrategy() +
+                "\n\tkafkaRollerMaxBatchSize=" + getKafkaRollerMaxBatchSize() +
+                "\n\tadminClientPoolIdleTimeoutMs=" + getAdminClientPoolIdleTimeoutMs() +
+                "\n\thttpClientMaxPoolSize=" + getHttpClientMaxPoolSize() +
+                "\n\thttpClientHttp2Enabled=" + isHttpClientHttp2Enabled() +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
                 "}";
     }
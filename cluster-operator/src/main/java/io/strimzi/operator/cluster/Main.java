@@ -8,8 +8,11 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -18,12 +21,16 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOp
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AdminClientPool;
+import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ShutdownHook;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.KeyPairPoolMetricsHolder;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -74,6 +81,9 @@ public class Main {
         ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(System.getenv());
         LOGGER.info("Cluster Operator configuration is {}", config);
 
+        // Load the Kafka configuration models before the first reconciliation needs them
+        KafkaConfiguration.preloadConfigModels(config.versions());
+
         // setting DNS cache TTL
         Security.setProperty("networkaddress.cache.ttl", String.valueOf(config.getDnsCacheTtlSec()));
 
@@ -149,6 +159,7 @@ public class Main {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
+                createAdminClientProvider(config, metricsProvider, shutdownHook),
                 metricsProvider,
                 pfa,
                 config.getOperationTimeoutMs(),
@@ -166,7 +177,14 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator = null;
 
         if (!config.isPodSetReconciliationOnly()) {
-            OpenSslCertManager certManager = new OpenSslCertManager();
+            resourceOperatorSupplier.setPatchStrategy(config.getPatchStrategy());
+
+            if (config.isResourceCacheEnabled()) {
+                resourceOperatorSupplier.enableResourceCaches(config.getNamespaces());
+                shutdownHook.register(() -> resourceOperatorSupplier.stopResourceCaches(SHUTDOWN_TIMEOUT));
+            }
+
+            CertManager certManager = createCertManager(config, metricsProvider);
             PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                     "abcdefghijklmnopqrstuvwxyz" +
                             "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -214,6 +232,50 @@ public class Main {
         return Future.join(futures);
     }
 
+    /**
+     * Creates the certificate manager. When the key pair pool is enabled, the pool is created and started as well.
+     *
+     * @param config            Cluster Operator configuration
+     * @param metricsProvider   Metrics provider used for the key pair pool metrics
+     *
+     * @return  Certificate manager instance
+     */
+    private static CertManager createCertManager(ClusterOperatorConfig config, MetricsProvider metricsProvider) {
+        if (config.getKeyPairPoolSize() > 0) {
+            if (config.getCertManagerType() == CertManagerType.JCA) {
+                KeyPairPool pool = new KeyPairPool(config.getKeyPairAlgorithm(), config.getKeyPairPoolSize(), new KeyPairPoolMetricsHolder(config.getKeyPairAlgorithm(), metricsProvider));
+                pool.start();
+
+                return config.getCertManagerType().create(config.getKeyPairAlgorithm(), pool);
+            } else {
+                LOGGER.warn("The key pair pool is supported only with the jca certificate manager and will be ignored");
+            }
+        }
+
+        return config.getCertManagerType().create(config.getKeyPairAlgorithm(), null);
+    }
+
+    /**
+     * Creates the Kafka Admin client provider. When the Admin client pool is enabled, the pooled clients are closed by
+     * the shutdown hook.
+     *
+     * @param config            Cluster Operator configuration
+     * @param metricsProvider   Metrics provider used for the Admin client pool metrics
+     * @param shutdownHook      Shutdown hook to register the closing of the Admin client pool
+     *
+     * @return  Kafka Admin client provider
+     */
+    private static AdminClientProvider createAdminClientProvider(ClusterOperatorConfig config, MetricsProvider metricsProvider, ShutdownHook shutdownHook) {
+        if (config.getAdminClientPoolIdleTimeoutMs() > 0) {
+            AdminClientPool pool = new AdminClientPool(new DefaultAdminClientProvider(), config.getAdminClientPoolIdleTimeoutMs(), metricsProvider);
+            shutdownHook.register(pool::close);
+
+            return pool;
+        } else {
+            return new DefaultAdminClientProvider();
+        }
+    }
+
     /**
      * Utility method which waits until this instance of the operator is elected as a leader:
      *   - When it is not a leader, it will just wait
@@ -9,15 +9,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.kafka.config.model.Type;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -25,6 +30,8 @@ import static java.util.Collections.emptyList;
  * Class for handling Kafka configuration passed by the user
  */
 public class KafkaConfiguration extends AbstractConfiguration {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaConfiguration.class.getName());
+
     /**
      * Configuration key of the inter-broker protocol version option
      */
@@ -48,6 +55,26 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Config models which were already loaded, keyed by the Kafka version
+     */
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
+    /**
+     * Distinct config models shared by all loaded Kafka versions. Most options have the same model in all Kafka
+     * versions (and many options have the same model as other options), so the loaded versions share the instances.
+     */
+    private static final Map<ConfigModelKey, ConfigModel> INTERNED_CONFIG_MODELS = new ConcurrentHashMap<>();
+
+    /**
+     * Key used to find equal config models
+     */
+    private record ConfigModelKey(Scope scope, Type type, Number minimum, Number maximum, List<String> items, List<String> values, String pattern) {
+        ConfigModelKey(ConfigModel model) {
+            this(model.getScope(), model.getType(), model.getMinimum(), model.getMaximum(), model.getItems(), model.getValues(), model.getPattern());
+        }
+    }
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -252,11 +279,47 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model is read from the classpath only
+     * the first time it is requested and then it is cached for the lifetime of the process. The returned map and the
+     * config models in it are shared and cannot be modified.
+     *
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        Map<String, ConfigModel> configModel = CONFIG_MODELS.get(kafkaVersion.version());
+
+        if (configModel == null) {
+            configModel = CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> loadConfigModel(kafkaVersion));
+        }
+
+        return configModel;
+    }
+
+    /**
+     * Loads the config models of all supported Kafka versions into the cache and logs how long it took and how many
+     * config models are kept in memory. Kafka versions with a missing or invalid config model are only logged, because
+     * the error will be reported again when the config model is used in a reconciliation.
+     *
+     * @param versions  Kafka versions supported by the operator
+     */
+    public static void preloadConfigModels(KafkaVersion.Lookup versions) {
+        long start = System.nanoTime();
+        int options = 0;
+
+        for (String version : versions.supportedVersions()) {
+            try {
+                options += readConfigModel(versions.supportedVersion(version)).size();
+            } catch (RuntimeException e) {
+                LOGGER.warnOp("Failed to load the configuration model of Kafka version {}", version, e);
+            }
+        }
+
+        LOGGER.infoOp("Loaded configuration models of {} Kafka versions in {} ms: {} options share {} distinct config models",
+                CONFIG_MODELS.size(), (System.nanoTime() - start) / 1_000_000, options, INTERNED_CONFIG_MODELS.size());
+    }
+
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -265,7 +328,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
                     if (!kafkaVersion.version().equals(configModels.getVersion())) {
                         throw new RuntimeException("Incorrect version");
                     }
-                    return configModels.getConfigs();
+                    return intern(configModels.getConfigs());
                 } else {
                     // The configuration model does not exist
                     throw new RuntimeException("Configuration model " + name + " was not found");
@@ -276,6 +339,82 @@ public class KafkaConfiguration extends AbstractConfiguration {
         }
     }
 
+    /**
+     * Creates a compact immutable copy of the config models where the option names are interned and equal config models
+     * are represented by the same instance.
+     *
+     * @param configs   Config models read from the classpath
+     *
+     * @return  Immutable map with the interned config models
+     */
+    private static Map<String, ConfigModel> intern(Map<String, ConfigModel> configs) {
+        Map<String, ConfigModel> interned = new HashMap<>(configs.size());
+
+        for (Map.Entry<String, ConfigModel> entry : configs.entrySet()) {
+            ConfigModel model = entry.getValue();
+
+            interned.put(entry.getKey().intern(), INTERNED_CONFIG_MODELS.computeIfAbsent(new ConfigModelKey(model), key -> new ImmutableConfigModel(model)));
+        }
+
+        return Map.copyOf(interned);
+    }
+
+    /**
+     * Config model which cannot be modified. The cached config models are shared by all reconciliations, so their
+     * setters throw an exception instead of changing them.
+     */
+    private static final class ImmutableConfigModel extends ConfigModel {
+        /**
+         * Creates an immutable copy of the config model
+         *
+         * @param model     Config model which should be copied
+         */
+        ImmutableConfigModel(ConfigModel model) {
+            super.setScope(model.getScope());
+            super.setType(model.getType());
+            super.setMinimum(model.getMinimum());
+            super.setMaximum(model.getMaximum());
+            super.setItems(model.getItems() != null ? List.copyOf(model.getItems()) : null);
+            super.setValues(model.getValues() != null ? List.copyOf(model.getValues()) : null);
+            super.setPattern(model.getPattern());
+        }
+
+        @Override
+        public void setScope(Scope scope) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+
+        @Override
+        public void setType(Type type) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+
+        @Override
+        public void setMinimum(Number minimum) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+
+        @Override
+        public void setMaximum(Number maximum) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+
+        @Override
+        public void setItems(List<String> items) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+
+        @Override
+        public void setValues(List<String> values) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+
+        @Override
+        public void setPattern(String pattern) {
+            throw new UnsupportedOperationException("Cached config models cannot be modified");
+        }
+    }
+
     /**
      * Return the config properties with their values in this KafkaConfiguration which are not known broker configs.
      * These might be consumed by broker plugins.
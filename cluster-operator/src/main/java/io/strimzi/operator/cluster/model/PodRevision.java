@@ -53,11 +53,9 @@ public class PodRevision {
      * @return                  True if the revision changed. False otherwise.
      */
     public static boolean hasChanged(Pod currentPod, StrimziPodSet desiredPodSet)   {
-        Pod desiredPod = desiredPodSet
-                .getSpec()
-                .getPods()
+        Pod desiredPod = PodSetUtils
+                .podSetToPods(desiredPodSet)
                 .stream()
-                .map(pod -> PodSetUtils.mapToPod(pod))
                 .filter(pod -> currentPod.getMetadata().getName().equals(pod.getMetadata().getName()))
                 .findFirst()
                 .orElse(null);
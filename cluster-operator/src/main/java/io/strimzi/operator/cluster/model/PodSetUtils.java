@@ -12,6 +12,7 @@ import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +22,26 @@ public class PodSetUtils {
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final TypeReference<Map<String, Object>> POD_TYPE = new TypeReference<>() { };
 
+    /**
+     * Maximal number of StrimziPodSets with decoded pods kept in the cache. When the cache is full, the pods of other
+     * StrimziPodSets are decoded without caching them.
+     */
+    private static final int MAX_CACHED_POD_SETS = 10_000;
+
+    /**
+     * Cache of the decoded pods keyed by the UID of the StrimziPodSet. Only the pods from the latest seen resource
+     * version of each StrimziPodSet are kept.
+     */
+    private static final Map<String, DecodedPods> DECODED_PODS = new ConcurrentHashMap<>();
+
+    /**
+     * Pods decoded from a StrimziPodSet
+     *
+     * @param resourceVersion   Resource version of the StrimziPodSet from which the pods were decoded
+     * @param pods              Decoded pods
+     */
+    private record DecodedPods(String resourceVersion, List<Pod> pods) { }
+
     /**
      * Converts Pod to Map for storing it in StrimziPodSets
      *
@@ -68,7 +89,27 @@ public class PodSetUtils {
     }
 
     /**
-     * Converts a PdoSet to a List of Pods. This is useful when extracting information from the Pods in a PodSet
+     * Gets the name of the Pod represented as Map without decoding the whole Pod
+     *
+     * @param map   Pod represented as Map
+     *
+     * @return      Name of the Pod
+     */
+    public static String podName(Map<String, Object> map) {
+        if (map.get("metadata") instanceof Map<?, ?> metadata
+                && metadata.get("name") instanceof String name) {
+            return name;
+        } else {
+            return mapToPod(map).getMetadata().getName();
+        }
+    }
+
+    /**
+     * Converts a PdoSet to a List of Pods. This is useful when extracting information from the Pods in a PodSet.
+     *
+     * The pods decoded from StrimziPodSets which were read from the Kubernetes API are cached based on the UID and
+     * resource version of the StrimziPodSet. So the returned Pods are shared and must not be modified. Callers which
+     * need to modify them have to copy them first.
      *
      * @param podSet  PodSet with the Pods
      *
@@ -78,12 +119,49 @@ public class PodSetUtils {
         if (podSet != null
                 && podSet.getSpec() != null
                 && podSet.getSpec().getPods() != null)   {
-            return podSet.getSpec().getPods().stream().map(m -> mapToPod(m)).toList();
+            String uid = podSet.getMetadata() != null ? podSet.getMetadata().getUid() : null;
+            String resourceVersion = podSet.getMetadata() != null ? podSet.getMetadata().getResourceVersion() : null;
+
+            if (uid == null || resourceVersion == null) {
+                // The StrimziPodSet was not read from the Kubernetes API (e.g. it is the desired StrimziPodSet) and
+                // its pods might still change => we do not cache them
+                return decode(podSet);
+            }
+
+            DecodedPods cached = DECODED_PODS.get(uid);
+            if (cached != null && resourceVersion.equals(cached.resourceVersion())) {
+                return cached.pods();
+            }
+
+            List<Pod> pods = decode(podSet);
+            if (cached != null || DECODED_PODS.size() < MAX_CACHED_POD_SETS) {
+                DECODED_PODS.put(uid, new DecodedPods(resourceVersion, pods));
+            }
+
+            return pods;
         } else {
             return List.of();
         }
     }
 
+    private static List<Pod> decode(StrimziPodSet podSet) {
+        return podSet.getSpec().getPods().stream().map(m -> mapToPod(m)).toList();
+    }
+
+    /**
+     * Removes the decoded pods of a StrimziPodSet from the cache. This should be called when the StrimziPodSet is
+     * deleted.
+     *
+     * @param podSet    The deleted StrimziPodSet
+     */
+    public static void evictDecodedPods(StrimziPodSet podSet) {
+        if (podSet != null
+                && podSet.getMetadata() != null
+                && podSet.getMetadata().getUid() != null) {
+            DECODED_PODS.remove(podSet.getMetadata().getUid());
+        }
+    }
+
     /**
      * Extracts Pod names from a PodSet
      *
@@ -92,7 +170,13 @@ public class PodSetUtils {
      * @return  List of pod names
      */
     public static List<String> podNames(StrimziPodSet podSet)   {
-        return podSetToPods(podSet).stream().map(pod -> pod.getMetadata().getName()).toList();
+        if (podSet != null
+                && podSet.getSpec() != null
+                && podSet.getSpec().getPods() != null)   {
+            return podSet.getSpec().getPods().stream().map(m -> podName(m)).toList();
+        } else {
+            return List.of();
+        }
     }
 
     /**
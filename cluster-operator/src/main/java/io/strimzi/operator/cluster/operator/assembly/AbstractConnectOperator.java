@@ -43,6 +43,7 @@ import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
@@ -73,6 +74,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -171,6 +173,22 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.port = port;
     }
 
+    /**
+     * Creates the provider of the Kafka Connect REST API clients used by the operator. The clients share a pool of
+     * HTTP clients which keep their connections to the Kafka Connect REST APIs alive between the requests.
+     *
+     * @param vertx     Vert.x instance
+     * @param supplier  The supplier of resource operators
+     * @param config    Cluster operator configuration
+     *
+     * @return  Provider of the Kafka Connect REST API clients
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+        HttpClientPool httpClientPool = new HttpClientPool(vertx, "connect", config.getHttpClientMaxPoolSize(), config.isHttpClientHttp2Enabled(), supplier.metricsProvider);
+
+        return v -> new KafkaConnectApiImpl(v, httpClientPool);
+    }
+
     @Override
     public ConnectOperatorMetricsHolder metrics()   {
         // We have to check the type because of Spotbugs
@@ -325,28 +343,28 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return Future.join(
-                apiClient.list(reconciliation, host, port),
+                apiClient.listWithStatusAndInfo(reconciliation, host, port),
                 connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build()),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, runningConnectors)
             );
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors));
 
             return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -374,6 +392,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Map<String, Object>> runningConnectors) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -389,7 +413,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -428,7 +452,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Map<String, Object>> runningConnectors) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -446,7 +471,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors);
             }
         }
     }
@@ -467,19 +492,68 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Try to get the current connector config and status from the snapshot of the running connectors, or from the
+     * Connect REST API when the snapshot is not available. If the connector does not exist, or its config differs
+     * from the {@code connectorSpec}'s, then call
+     * {@link #createOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, KafkaConnectorConfiguration)}
+     * otherwise, just return the connectors current state. When the connector exists in the snapshot, has the desired
+     * config and state and no restart is requested, its status is taken from the snapshot as well, so no requests are
+     * made to the Connect REST API except for getting the connector topics.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param runningConnectors Snapshot of the running connectors as returned by
+     *                          {@link KafkaConnectApi#listWithStatusAndInfo(Reconciliation, String, int)} or null
+     *                          if the snapshot is not available.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, Map<String, Object>> runningConnectors) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
 
-        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
+        if (runningConnectors != null && !runningConnectors.containsKey(connectorName)) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+            return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig, resource);
+        }
+
+        Map<String, Object> snapshot = runningConnectors != null ? runningConnectors.get(connectorName) : null;
+        Map<String, String> snapshotConfig = snapshotConfig(snapshot);
+        Map<String, Object> snapshotStatus = snapshotStatus(snapshot);
+
+        Future<Map<String, String>> configFuture = snapshotConfig != null
+                ? Future.succeededFuture(snapshotConfig)
+                : apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
+
+        return configFuture.compose(
             currentConfig -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
+                    // The status from the snapshot is still current when the connector state is not changed and it is not restarted
+                    boolean unchanged = snapshotStatus != null
+                            && !needsStateUpdate(connectorSpec, snapshotStatus)
+                            && !hasRestartAnnotation(resource, connectorName)
+                            && getRestartTaskAnnotationTaskID(resource, connectorName) < 0;
+                    Future<Map<String, Object>> statusFuture = snapshotStatus != null
+                            ? Future.succeededFuture(snapshotStatus)
+                            : apiClient.status(reconciliation, host, port, connectorName);
+
+                    return statusFuture
                         .compose(status -> updateState(reconciliation, host, apiClient, connectorName, connectorSpec, status, new ArrayList<>()))
                         .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
                         .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
+                        .compose(conditions -> unchanged
+                                ? createConnectorStatusAndConditions(conditions).apply(snapshotStatus)
+                                : apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                                    .compose(createConnectorStatusAndConditions(conditions)))
                         .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
                         .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
                 } else {
@@ -493,16 +567,68 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return createConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig, resource);
                 } else {
                     return Future.failedFuture(error);
                 }
             });
     }
 
+    @SuppressWarnings({ "rawtypes" })
+    private Future<ConnectorStatusAndConditions> createConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName,
+                                                                 KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig, CustomResource resource) {
+        return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+            .compose(createConnectorStatusAndConditions())
+            .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
+    /**
+     * Gets the connector configuration from the connector snapshot returned by
+     * {@link KafkaConnectApi#listWithStatusAndInfo(Reconciliation, String, int)}.
+     *
+     * @param snapshot  Connector snapshot or null
+     *
+     * @return  Connector configuration or null if the snapshot does not contain it
+     */
+    @SuppressWarnings({ "rawtypes" })
+    /* test */ static Map<String, String> snapshotConfig(Map<String, Object> snapshot) {
+        if (snapshot != null
+                && snapshot.get("info") instanceof Map info
+                && info.get("config") instanceof Map config) {
+            Map<String, String> result = new HashMap<>(config.size());
+
+            for (Object entry : config.entrySet()) {
+                Map.Entry configEntry = (Map.Entry) entry;
+
+                if (configEntry.getValue() != null) {
+                    result.put(String.valueOf(configEntry.getKey()), String.valueOf(configEntry.getValue()));
+                }
+            }
+
+            return result;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the connector status from the connector snapshot returned by
+     * {@link KafkaConnectApi#listWithStatusAndInfo(Reconciliation, String, int)}.
+     *
+     * @param snapshot  Connector snapshot or null
+     *
+     * @return  Connector status or null if the snapshot does not contain it
+     */
+    @SuppressWarnings({ "unchecked" })
+    /* test */ static Map<String, Object> snapshotStatus(Map<String, Object> snapshot) {
+        if (snapshot != null && snapshot.get("status") instanceof Map status) {
+            return (Map<String, Object>) status;
+        } else {
+            return null;
+        }
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -532,6 +658,30 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
+    @SuppressWarnings("deprecation")
+    private static ConnectorState targetState(KafkaConnectorSpec connectorSpec) {
+        ConnectorState desiredState = connectorSpec.getState();
+        return desiredState != null ? desiredState :
+                Boolean.TRUE.equals(connectorSpec.getPause()) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+    }
+
+    /**
+     * Checks whether {@link #updateState(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, Map, List)}
+     * would pause, stop or resume the connector with given status.
+     *
+     * @param connectorSpec     Spec of the connector
+     * @param status            Current status of the connector
+     *
+     * @return  True if the connector is running, paused or stopped and it is not in the target state. False otherwise.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    private static boolean needsStateUpdate(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+
+        return ("RUNNING".equals(state) || "PAUSED".equals(state) || "STOPPED".equals(state))
+                && !targetState(connectorSpec).toValue().equalsIgnoreCase((String) state);
+    }
+
     private Future<List<Condition>> updateState(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status, List<Condition> conditions) {
         @SuppressWarnings({ "rawtypes" })
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
@@ -541,8 +691,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             ConnectorState desiredState = connectorSpec.getState();
             @SuppressWarnings("deprecation")
             Boolean shouldPause = connectorSpec.getPause();
-            ConnectorState targetState = desiredState != null ? desiredState :
-                    Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+            ConnectorState targetState = targetState(connectorSpec);
             if (desiredState != null && shouldPause != null) {
                 String message = "Both pause and state are set. Since pause is deprecated, state takes precedence " +
                         "so the connector will be " + targetState.toValue();
@@ -40,11 +40,11 @@ import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -80,6 +80,18 @@ public abstract class AbstractOperator<
      */
     public static final String METRICS_PREFIX = "strimzi.";
 
+    private static final String RESOURCE_STATE_METRIC_NAME = METRICS_PREFIX + "resource.state";
+    private static final String RESOURCE_STATE_METRIC_DESCRIPTION = "Current state of the resource: 1 ready, 0 fail";
+
+    /**
+     * Handle of the resource state metric of a custom resource
+     *
+     * @param reason    Reason used in the tags of the metric
+     * @param id        Identifier of the metric used to remove it from the meter registry
+     * @param gauge     Value of the metric
+     */
+    private record ResourceStateMetric(String reason, Meter.Id id, AtomicInteger gauge) { }
+
     protected final Vertx vertx;
     protected final O resourceOperator;
     private final String kind;
@@ -88,7 +100,7 @@ public abstract class AbstractOperator<
 
     protected final OperatorMetricsHolder metrics;
 
-    private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
+    private final Map<String, ResourceStateMetric> resourcesState = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
@@ -185,13 +197,18 @@ public abstract class AbstractOperator<
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
+        // The custom resource is kept to update the resource state metric without getting it again
+        AtomicReference<T> resource = new AtomicReference<>();
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
             resourceOperator.getAsync(namespace, name)
-                .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
+                .compose(cr -> {
+                    resource.set(cr);
+                    return cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation);
+                }));
 
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult ->
-            callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample))
+            callSafely(reconciliation, () -> handleResult(reconciliation, resource.get(), reconcileResult, reconciliationTimerSample))
                 .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult))));
 
         return result.future();
@@ -527,83 +544,90 @@ public abstract class AbstractOperator<
     /**
      * Log the reconciliation outcome.
      */
-    private Future<Void> handleResult(Reconciliation reconciliation, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample) {
-        Promise<Void> handlingResult = Promise.promise();
-
+    private Future<Void> handleResult(Reconciliation reconciliation, T cr, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample) {
         if (result.succeeded()) {
-            updateResourceState(reconciliation, true, null).onComplete(stateUpdateResult -> {
-                metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-                reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
-                LOGGER.infoCr(reconciliation, "reconciled");
-                handlingResult.handle(stateUpdateResult);
-            });
+            updateResourceState(reconciliation, cr, true, null);
+            metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+            LOGGER.infoCr(reconciliation, "reconciled");
         } else {
             Throwable cause = result.cause();
 
             if (cause instanceof InvalidConfigParameterException) {
-                updateResourceState(reconciliation, false, cause).onComplete(stateUpdateResult -> {
-                    metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-                    reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
-                    LOGGER.warnCr(reconciliation, "Failed to reconcile {}", cause.getMessage());
-                    handlingResult.handle(stateUpdateResult);
-                });
+                updateResourceState(reconciliation, cr, false, cause);
+                metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
+                reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+                LOGGER.warnCr(reconciliation, "Failed to reconcile {}", cause.getMessage());
             } else if (cause instanceof UnableToAcquireLockException) {
                 metrics().lockedReconciliationsCounter(reconciliation.namespace()).increment();
-                handlingResult.complete();
             } else {
-                updateResourceState(reconciliation, false, cause).onComplete(stateUpdateResult -> {
-                    metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-                    reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
-                    LOGGER.warnCr(reconciliation, "Failed to reconcile", cause);
-                    handlingResult.handle(stateUpdateResult);
-                });
+                updateResourceState(reconciliation, cr, false, cause);
+                metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
+                reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+                LOGGER.warnCr(reconciliation, "Failed to reconcile", cause);
             }
         }
 
-        return handlingResult.future();
+        return Future.succeededFuture();
     }
 
     /**
      * Updates the resource state metric for the provided reconciliation which brings kind, name and namespace
-     * of the custom resource.
+     * of the custom resource. The metrics are indexed by the custom resource, so the update does not need to search
+     * the meter registry. The metric is registered again only when the reason of its state changes.
      *
-     * @param reconciliation reconciliation to use to update the resource state metric
-     * @param ready if reconcile was successful and the resource is ready
+     * @param reconciliation    Reconciliation to use to update the resource state metric
+     * @param cr                The custom resource as used by the reconciliation or null if it does not exist
+     * @param ready             If reconcile was successful and the resource is ready
+     * @param cause             Cause of the failed reconciliation or null if it was successful
      */
-    private Future<Void> updateResourceState(Reconciliation reconciliation, boolean ready, Throwable cause) {
+    /* test */ void updateResourceState(Reconciliation reconciliation, T cr, boolean ready, Throwable cause) {
         String key = reconciliation.namespace() + ":" + reconciliation.kind() + "/" + reconciliation.name();
 
-        Tags metricTags = Tags.of(
-                    Tag.of("kind", reconciliation.kind()),
-                    Tag.of("name", reconciliation.name()),
-                    Tag.of("resource-namespace", reconciliation.namespace()),
-                    Tag.of("reason", cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage()));
-
-        Optional<Meter> metric = metrics().metricsProvider().meterRegistry().getMeters()
-                .stream()
-                .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                        meter.getId().getTags().contains(Tag.of("kind", reconciliation.kind())) &&
-                        meter.getId().getTags().contains(Tag.of("name", reconciliation.name())) &&
-                        meter.getId().getTags().contains(Tag.of("resource-namespace", reconciliation.namespace()))
-                ).findFirst();
-
-        if (metric.isPresent()) {
-            // remove metric so it can be re-added with new tags
-            metrics().metricsProvider().meterRegistry().remove(metric.get().getId());
-            resourcesStateCounter.remove(key);
-            LOGGER.debugCr(reconciliation, "Removed metric " + METRICS_PREFIX + "resource.state{}", key);
-        }
+        if (cr != null && Util.matchesSelector(selector(), cr)) {
+            String reason = cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage();
 
-        return resourceOperator.getAsync(reconciliation.namespace(), reconciliation.name()).map(cr -> {
-            if (cr != null && Util.matchesSelector(selector(), cr)) {
-                resourcesStateCounter.computeIfAbsent(key, tags ->
-                        metrics().metricsProvider().gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags)
-                );
-                resourcesStateCounter.get(key).set(ready ? 1 : 0);
-                LOGGER.debugCr(reconciliation, "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, ready ? 1 : 0);
+            resourcesState.compute(key, (ignored, current) -> {
+                ResourceStateMetric state = current;
+
+                if (state == null || !state.reason().equals(reason)) {
+                    if (state != null) {
+                        // remove metric so it can be re-added with new tags
+                        removeResourceStateMetric(reconciliation, key, state);
+                    }
+
+                    state = createResourceStateMetric(reconciliation, reason);
+                }
+
+                state.gauge().set(ready ? 1 : 0);
+                LOGGER.debugCr(reconciliation, "Updated metric " + RESOURCE_STATE_METRIC_NAME + "{} = {}", state.id().getTags(), ready ? 1 : 0);
+
+                return state;
+            });
+        } else {
+            ResourceStateMetric state = resourcesState.remove(key);
+
+            if (state != null) {
+                removeResourceStateMetric(reconciliation, key, state);
             }
+        }
+    }
 
-            return null;
-        });
+    private ResourceStateMetric createResourceStateMetric(Reconciliation reconciliation, String reason) {
+        Tags metricTags = Tags.of(
+                Tag.of("kind", reconciliation.kind()),
+                Tag.of("name", reconciliation.name()),
+                Tag.of("resource-namespace", reconciliation.namespace()),
+                Tag.of("reason", reason));
+
+        AtomicInteger gauge = metrics().metricsProvider().gauge(RESOURCE_STATE_METRIC_NAME, RESOURCE_STATE_METRIC_DESCRIPTION, metricTags);
+
+        return new ResourceStateMetric(reason, new Meter.Id(RESOURCE_STATE_METRIC_NAME, metricTags, null, RESOURCE_STATE_METRIC_DESCRIPTION, Meter.Type.GAUGE), gauge);
+    }
+
+    private void removeResourceStateMetric(Reconciliation reconciliation, String key, ResourceStateMetric state) {
+        // The metric is removed by the identifier it was registered with, which does not need to search the registry
+        metrics().metricsProvider().meterRegistry().removeByPreFilterId(state.id());
+        LOGGER.debugCr(reconciliation, "Removed metric " + RESOURCE_STATE_METRIC_NAME + "{}", key);
     }
 }
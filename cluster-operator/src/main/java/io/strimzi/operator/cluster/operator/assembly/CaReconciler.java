@@ -34,6 +34,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.ClientsCa;
 import io.strimzi.operator.common.model.InvalidResourceException;
@@ -66,6 +67,8 @@ public class CaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int kafkaRollerMaxBatchSize;
+    private final MetricsHolder metrics;
 
     /* test */ final DeploymentOperator deploymentOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -105,6 +108,7 @@ public class CaReconciler {
      * @param vertx             Vert.x instance
      * @param certManager       Certificate Manager for managing certificates
      * @param passwordGenerator Password generator for generating passwords
+     * @param metrics           Metrics holder used to record the rolling restarts of the Kafka brokers or null
      */
     public CaReconciler(
             Reconciliation reconciliation,
@@ -113,11 +117,14 @@ public class CaReconciler {
             ResourceOperatorSupplier supplier,
             Vertx vertx,
             CertManager certManager,
-            PasswordGenerator passwordGenerator
+            PasswordGenerator passwordGenerator,
+            MetricsHolder metrics
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
+        this.metrics = metrics;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
 
         this.deploymentOperator = supplier.deploymentOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -535,7 +542,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                kafkaRollerMaxBatchSize,
+                metrics
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
@@ -40,6 +40,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
+import io.strimzi.operator.common.ReconciliationGraph;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.VertxUtil;
@@ -233,12 +234,15 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 // Run reconciliations of the different components
                 .compose(state -> isKRaftEnabled ? Future.succeededFuture(state) : state.reconcileZooKeeper(clock))
                 .compose(state -> state.reconcileKafka(clock))
-                .compose(state -> state.reconcileEntityOperator(clock))
-                .compose(state -> state.reconcileCruiseControl(clock))
-                .compose(state -> state.reconcileKafkaExporter(clock))
+
+                // The remaining components depend only on the Kafka cluster, so they are reconciled concurrently
+                .compose(state -> new ReconciliationGraph(state.reconciliation, metrics)
+                        .addStep("entityOperator", () -> state.reconcileEntityOperator(clock).mapEmpty())
+                        .addStep("cruiseControl", () -> state.reconcileCruiseControl(clock).mapEmpty())
+                        .addStep("kafkaExporter", () -> state.reconcileKafkaExporter(clock).mapEmpty())
+                        .execute())
 
                 // Finish the reconciliation
-                .map((Void) null)
                 .onComplete(chainPromise);
 
         return chainPromise.future();
@@ -421,7 +425,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  CaReconciler instance
          */
         CaReconciler caReconciler()   {
-            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator);
+            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator, metrics);
         }
 
         /**
@@ -564,7 +568,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     config,
                     supplier,
                     pfa,
-                    vertx
+                    vertx,
+                    metrics
             );
         }
 
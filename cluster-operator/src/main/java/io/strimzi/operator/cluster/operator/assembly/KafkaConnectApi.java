@@ -152,6 +152,17 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the map of the connector names to their info (under the {@code info} key) and
+     * status (under the {@code status} key).
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
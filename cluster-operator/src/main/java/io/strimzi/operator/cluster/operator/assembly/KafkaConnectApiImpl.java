@@ -8,7 +8,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -47,12 +47,19 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, Object>> TREE_TYPE = new TypeReference<>() { };
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClientPool httpClientPool;
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, new HttpClientPool(vertx, "connect"));
+    }
+
+    public KafkaConnectApiImpl(Vertx vertx, HttpClientPool httpClientPool) {
         this.vertx = vertx;
+        this.httpClientPool = httpClientPool;
     }
 
     @Override
@@ -64,7 +71,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -114,7 +121,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -168,7 +175,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
         LOGGER.debugCr(reconciliation, "Making DELETE request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -292,7 +299,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private Future<Void> updateState(Reconciliation reconciliation, String host, int port, String path, int expectedStatusCode) {
         LOGGER.debugCr(reconciliation, "Making PUT request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -317,11 +324,18 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info",
+                Collections.singleton(200),
+                MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<String>> list(Reconciliation reconciliation, String host, int port) {
         String path = "/connectors";
         LOGGER.debugCr(reconciliation, "Making GET request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -359,7 +373,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -394,7 +408,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -429,7 +443,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -573,7 +587,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Map<String, Object>> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -611,7 +625,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
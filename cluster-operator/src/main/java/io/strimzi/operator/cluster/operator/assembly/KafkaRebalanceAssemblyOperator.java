@@ -30,6 +30,7 @@ import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.CruiseControlConfiguration;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
@@ -161,6 +162,8 @@ public class KafkaRebalanceAssemblyOperator
     private boolean usingJbodStorage;
 
     private final ConfigMapOperator configMapOperator;
+    private final HttpClientPool httpClientPool;
+
     /**
      * @param vertx The Vertx instance
      * @param supplier Supplies the operators for different resources
@@ -174,6 +177,7 @@ public class KafkaRebalanceAssemblyOperator
         this.kafkaOperator = supplier.kafkaOperator;
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
+        this.httpClientPool = new HttpClientPool(vertx, "cruise-control", config.getHttpClientMaxPoolSize(), config.isHttpClientHttp2Enabled(), supplier.metricsProvider);
     }
 
     protected long rebalancePollingTimerDelay() {
@@ -191,7 +195,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(httpClientPool, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
     }
 
     /**
@@ -55,8 +55,10 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationGraph;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.ClientsCa;
 import io.strimzi.operator.common.model.InvalidResourceException;
@@ -113,6 +115,7 @@ public class KafkaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int kafkaRollerMaxBatchSize;
     /* test */ final KafkaCluster kafka;
     private final List<KafkaNodePool> kafkaNodePoolCrs;
     private final ClusterCa clusterCa;
@@ -147,6 +150,7 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
 
     private final AdminClientProvider adminClientProvider;
+    private final MetricsHolder metrics;
 
     private final Set<String> fsResizingRestartRequest = new HashSet<>();
     private String logging = "";
@@ -175,6 +179,7 @@ public class KafkaReconciler {
      * @param supplier                  Supplier with Kubernetes Resource Operators
      * @param pfa                       PlatformFeaturesAvailability describing the environment we run in
      * @param vertx                     Vert.x instance
+     * @param metrics                   Metrics holder used to record the duration of the reconciliation steps or null
      */
     public KafkaReconciler(
             Reconciliation reconciliation,
@@ -188,11 +193,14 @@ public class KafkaReconciler {
             ClusterOperatorConfig config,
             ResourceOperatorSupplier supplier,
             PlatformFeaturesAvailability pfa,
-            Vertx vertx
+            Vertx vertx,
+            MetricsHolder metrics
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
+        this.metrics = metrics;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.kafkaRollerMaxBatchSize = config.getKafkaRollerMaxBatchSize();
         this.kafkaNodePoolCrs = nodePools;
 
         boolean isKRaftEnabled = config.featureGates().useKRaftEnabled() && ReconcilerUtils.kraftEnabled(kafkaCr);
@@ -246,21 +254,28 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> brokerScaleDownCheck())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
+        // The steps before the PodSet reconciliation run as soon as the steps they depend on are complete. The steps
+        // updating the Kafka status depend on each other, so that they do not update it concurrently. The manual
+        // rolling update restarts the pods with their current configuration, so the steps which were run after it
+        // when the steps were run one after another (and which change what the restarted pods use) still wait for it.
+        return new ReconciliationGraph(reconciliation, metrics)
+                .addStep("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .addStep("brokerScaleDownCheck", this::brokerScaleDownCheck)
+                .addStep("manualPodCleaning", this::manualPodCleaning, "brokerScaleDownCheck")
+                .addStep("networkPolicy", this::networkPolicy, "brokerScaleDownCheck")
+                .addStep("manualRollingUpdate", this::manualRollingUpdate, "manualPodCleaning", "networkPolicy")
+                .addStep("pvcs", () -> pvcs(kafkaStatus), "modelWarnings", "manualRollingUpdate")
+                .addStep("serviceAccount", this::serviceAccount, "brokerScaleDownCheck")
+                .addStep("initClusterRoleBinding", this::initClusterRoleBinding, "brokerScaleDownCheck")
+                .addStep("scaleDown", this::scaleDown, "manualRollingUpdate")
+                .addStep("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "pvcs", "scaleDown")
+                .addStep("listeners", this::listeners, "manualRollingUpdate")
+                .addStep("certificateSecret", () -> certificateSecret(clock), "manualRollingUpdate", "listeners")
+                // The manual rolling update (which the scale-down depends on) uses the logging configuration stored by this step
+                .addStep("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners", "scaleDown")
+                .addStep("jmxSecret", this::jmxSecret, "manualRollingUpdate")
+                .addStep("podDisruptionBudget", this::podDisruptionBudget, "manualRollingUpdate")
+                .execute()
                 .compose(i -> migrateFromStatefulSetToPodSet())
                 .compose(i -> podSet())
                 .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
@@ -465,7 +480,9 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
+                                eventsPublisher,
+                                kafkaRollerMaxBatchSize,
+                                metrics
                         ).rollingRestart(podNeedsRestart));
     }
 
@@ -543,7 +560,7 @@ public class KafkaReconciler {
 
                         for (StrimziPodSet podSet : podSets) {
                             List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.podName(pod)))
                                     .collect(Collectors.toList());
 
                             StrimziPodSet scaledDownPodSet = new StrimziPodSetBuilder(podSet)
@@ -160,7 +160,7 @@ public class ManualPodCleaner {
         return strimziPodSetOperator.getAsync(reconciliation.namespace(), podSetName)
                 .compose(podSet -> {
                     List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                            .filter(pod -> !podName.equals(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                            .filter(pod -> !podName.equals(PodSetUtils.podName(pod)))
                             .toList();
 
                     // New PodSet without the Pod we are going to delete
@@ -38,6 +38,8 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.StatusDiff;
@@ -46,13 +48,19 @@ import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -61,12 +69,16 @@ import java.util.stream.Collectors;
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
 
+    private static final String RESOURCE_KIND = StrimziPodSet.RESOURCE_KIND;
     private static final long DEFAULT_RESYNC_PERIOD_MS = 5 * 60 * 1_000L; // 5 minutes by default
     private static final LabelSelector POD_LABEL_SELECTOR = new LabelSelectorBuilder()
             .withMatchExpressions(new LabelSelectorRequirement(Labels.STRIMZI_KIND_LABEL, "Exists", null))
             .build();
 
     private final Thread controllerThread;
+    private final List<Thread> workerThreads;
+    private final int maxPodOperations;
+    private final ExecutorService podOperationsExecutor;
 
     private volatile boolean stop = false;
 
@@ -76,7 +88,7 @@ public class StrimziPodSetController implements Runnable {
     private final LabelSelector crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final ControllerQueue workQueue;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -114,15 +126,55 @@ public class StrimziPodSetController implements Runnable {
             PodOperator podOperator,
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
+    ) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, 1, 1);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller with multiple worker threads. The work queue never hands out the same
+     * StrimziPodSet to two workers at the same time, so each StrimziPodSet is still reconciled by one worker at a time.
+     * The controller should normally exist once per operator for cluster-wide mode or once per namespace for
+     * namespaced mode.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param threadPoolSize                Number of worker threads reconciling the StrimziPodSets
+     * @param maxPodOperations              Maximal number of pods created or patched in parallel within a single
+     *                                      StrimziPodSet reconciliation
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int threadPoolSize,
+            int maxPodOperations
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
-        this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+
+        // Set up the work queue
+        this.workQueue = new ControllerQueue(podSetControllerWorkQueueSize, this.metrics);
 
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
@@ -141,7 +193,25 @@ public class StrimziPodSetController implements Runnable {
         this.podInformer = podOperator.informer(watchedNamespace, POD_LABEL_SELECTOR, DEFAULT_RESYNC_PERIOD_MS);
         this.podLister = new Lister<>(podInformer.getIndexer());
 
+        // The controller thread starts the informers and works as the first worker. The other workers are started
+        // once the informers are synced.
         this.controllerThread = new Thread(this, "StrimziPodSetController");
+        this.workerThreads = new ArrayList<>(threadPoolSize - 1);
+        for (int i = 1; i < threadPoolSize; i++) {
+            String worker = "StrimziPodSetController-" + i;
+            workerThreads.add(new Thread(() -> runWorker(worker), worker));
+        }
+
+        // The pod operations are executed in the worker thread unless more of them should run in parallel. Each worker
+        // runs at most maxPodOperations of them at a time, so the executor does not need more threads.
+        this.maxPodOperations = maxPodOperations;
+        if (maxPodOperations > 1) {
+            AtomicInteger podOperationsThreadCounter = new AtomicInteger(0);
+            this.podOperationsExecutor = Executors.newFixedThreadPool(threadPoolSize * maxPodOperations,
+                    r -> new Thread(r, "StrimziPodSetController-pod-operations-" + podOperationsThreadCounter.getAndIncrement()));
+        } else {
+            this.podOperationsExecutor = null;
+        }
     }
 
     protected ControllerMetricsHolder metrics()   {
@@ -195,7 +265,7 @@ public class StrimziPodSetController implements Runnable {
         LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
 
         if (matchesCrSelector(podSet)) {
-            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -218,7 +288,7 @@ public class StrimziPodSetController implements Runnable {
 
         if (parentPodSet != null) {
             if (matchesCrSelector(parentPodSet)) {
-                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
+                workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
             } else {
                 LOGGER.debugOp("Pod {} in namespace {} was {} but does not belong to a cluster managed by this operator", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
             }
@@ -388,16 +458,18 @@ public class StrimziPodSetController implements Runnable {
 
                     // Will be used later to find out if any pod needs to be deleted
                     Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
+                    List<Pod> pods = new ArrayList<>(podSet.getSpec().getPods().size());
                     PodCounter podCounter = new PodCounter();
                     podCounter.pods = podSet.getSpec().getPods().size();
 
-                    for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
+                    // The decoded pods are cached and shared => they are copied before being modified
+                    for (Pod pod : PodSetUtils.podSetToPods(podSet)) {
                         desiredPods.add(pod.getMetadata().getName());
-
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
+                        pods.add(pod);
                     }
 
+                    maybeCreateOrPatchPods(reconciliation, pods, ModelUtils.createOwnerReference(podSet, true), podCounter);
+
                     // Check if any pods needs to be deleted
                     removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
 
@@ -451,6 +523,65 @@ public class StrimziPodSetController implements Runnable {
         }
     }
 
+    /**
+     * Creates the missing pods defined in the StrimziPodSet and adds the owner reference to the existing pods if
+     * needed. Up to maxPodOperations pods are handled in parallel. When any of the pods fails, the remaining pods are
+     * not handled anymore and the first error is thrown once the running operations finish.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param pods              Pods which should be checked and created if needed
+     * @param owner             The OwnerReference which should be set to the pods
+     * @param podCounter        Pod Counter used to count pods for the status
+     */
+    private void maybeCreateOrPatchPods(Reconciliation reconciliation, List<Pod> pods, OwnerReference owner, PodCounter podCounter)    {
+        if (podOperationsExecutor == null || pods.size() < 2) {
+            for (Pod pod : pods) {
+                maybeCreateOrPatchPod(reconciliation, pod, owner, podCounter);
+            }
+
+            return;
+        }
+
+        CompletionService<PodCounter> completionService = new ExecutorCompletionService<>(podOperationsExecutor);
+        Iterator<Pod> remainingPods = pods.iterator();
+        int running = 0;
+        Throwable failure = null;
+
+        try {
+            while (running > 0 || (failure == null && remainingPods.hasNext())) {
+                if (failure == null && running < maxPodOperations && remainingPods.hasNext()) {
+                    Pod pod = remainingPods.next();
+                    completionService.submit(() -> {
+                        // Each operation counts its pod separately, the counts are merged in the worker thread
+                        PodCounter counter = new PodCounter();
+                        maybeCreateOrPatchPod(reconciliation, pod, owner, counter);
+                        return counter;
+                    });
+                    running++;
+                } else {
+                    try {
+                        podCounter.add(completionService.take().get());
+                    } catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = e.getCause();
+                        }
+                    } finally {
+                        running--;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the pod operations to complete", e);
+        }
+
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
     /**
      * Creates missing pod defined in the StrimziPodSet. If the pod already exists, it checks the owner reference and if
      * needed adds it to the Pod.
@@ -466,8 +597,12 @@ public class StrimziPodSetController implements Runnable {
         if (currentPod == null) {
             // Pod does not exist => we create it
             LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            Pod podWithOwnerReference = new PodBuilder(pod)
+                    .editMetadata()
+                        .withOwnerReferences(owner)
+                    .endMetadata()
+                    .build();
+            podOperator.client().inNamespace(reconciliation.namespace()).resource(podWithOwnerReference).create();
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
@@ -529,23 +664,8 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
-     *
-     * @param reconciliation    Reconciliation identifier
-     */
-    private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
-        }
-    }
-
-    /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
+     * The run method of the controller thread. It starts the informers and the other workers and works as the first
+     * worker itself.
      */
     @Override
     public void run() {
@@ -559,21 +679,53 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Informers are in-sync");
 
+        if (!stop) {
+            workerThreads.forEach(Thread::start);
+        }
+
+        runWorker(controllerThread.getName());
+
+        LOGGER.infoOp("Stopping StrimziPodSet controller");
+
+        for (Thread worker : workerThreads) {
+            try {
+                worker.join();
+            } catch (InterruptedException e)    {
+                LOGGER.warnOp("Interrupted while waiting for the StrimziPodSet controller worker {} to stop", worker.getName());
+            }
+        }
+
+        if (podOperationsExecutor != null) {
+            podOperationsExecutor.shutdownNow();
+        }
+
+        stopController();
+    }
+
+    /**
+     * The run loop of the controller workers. It picks reconciliations from the work queue and executes them.
+     *
+     * @param worker    Name of the worker used in the metrics
+     */
+    private void runWorker(String worker) {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation reconciliation = workQueue.take();
+
+                try {
+                    reconcile(reconciliation.toReconciliation());
+                } finally {
+                    // Marks the reconciliation as done so that events received in the meantime can be handled
+                    workQueue.done(reconciliation);
+                    metrics.workerReconciliationsCounter(worker).increment();
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
                 LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
             }
         }
-
-        LOGGER.infoOp("Stopping StrimziPodSet controller");
-
-        stopController();
     }
 
     /**
@@ -590,6 +742,7 @@ public class StrimziPodSetController implements Runnable {
     public void stop()  {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
+        workerThreads.forEach(Thread::interrupt);
         controllerThread.interrupt();
         try {
             controllerThread.join();
@@ -607,66 +760,16 @@ public class StrimziPodSetController implements Runnable {
         int pods = 0;
         int readyPods = 0;
         int currentPods = 0;
-    }
-
-    /**
-     * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
-     * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
-     * to detect if the same resource is already enqueued or not. It doesn't yet request the reconciliation ID. Not
-     * issuing the reconciliation ID right away makes the IDs more linear and means they are not requested unless a
-     * reconciliation really starts.
-     */
-    static class SimplifiedReconciliation    {
-        private final String namespace;
-        private final String name;
-
-        public SimplifiedReconciliation(String namespace, String name) {
-            this.namespace = namespace;
-            this.name = name;
-        }
 
         /**
-         * Converts the simplified reconciliation to a proper reconciliation
+         * Adds the counts from another counter to this counter
          *
-         * @return  Reconciliation object
+         * @param other     Counter which should be added
          */
-        public Reconciliation toReconciliation()    {
-            return new Reconciliation("watch", "StrimziPodSet", namespace, name);
-        }
-
-        /**
-         * Compares two SimplifiedReconciliation objects. This is used to avoid having the same resource queued multiple
-         * times.
-         *
-         * @param o     SimplifiedReconciliation to be compared
-         *
-         * @return      True if the objects equal, false otherwise
-         */
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)  {
-                return true;
-            } else if (o == null || getClass() != o.getClass())   {
-                return false;
-            } else {
-                SimplifiedReconciliation reconciliation = (SimplifiedReconciliation) o;
-
-                return this.name.equals(reconciliation.name)
-                        && this.namespace.equals(reconciliation.namespace);
-            }
-        }
-
-        /**
-         * Generates the hashcode based on the name and namespace hash codes.
-         *
-         * @return  The hashcode of this object
-         */
-        @Override
-        public int hashCode() {
-            int result = 17;
-            result = 31 * result + (name != null ? name.hashCode() : 0);
-            result = 31 * result + (namespace != null ? namespace.hashCode() : 0);
-            return result;
+        void add(PodCounter other) {
+            pods += other.pods;
+            readyPods += other.readyPods;
+            currentPods += other.currentPods;
         }
     }
 
@@ -695,6 +798,7 @@ public class StrimziPodSetController implements Runnable {
             }
 
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
+            PodSetUtils.evictDecodedPods(podSet);
             // Nothing to do => garbage collection should take care of things
         }
     }
@@ -0,0 +1,362 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of long-lived Vert.x HTTP clients used to call the REST APIs of the operands (such as the Kafka Connect or
+ * Cruise Control REST APIs).
+ *
+ * The pool keeps one HTTP client per scope (for example per Cruise Control instance). Each client keeps its
+ * connections alive and reuses them for the following requests to the same host and port. When a client is requested
+ * with different options or with a different hash of the credentials than the pooled client of the same scope (for
+ * example because the TLS certificates in the Secret used by the client changed), the pooled client is replaced and
+ * closed once its requests in flight complete. The credentials are compared using the hash provided by the caller
+ * instead of relying on the JSON form of the options, which is used to compare the other options. The clients which
+ * were not used for longer than the idle timeout (for example because their cluster was deleted) are closed and removed
+ * from the pool periodically. The periodic timer runs only while the pool contains some clients.
+ *
+ * The number of new connections, the number of requests and their duration are exported as metrics with the name of
+ * the API as a tag, so that the connection reuse can be monitored.
+ */
+public class HttpClientPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientPool.class);
+    private static final String METRICS_PREFIX = "strimzi.http.client.";
+
+    /**
+     * Scope used by the APIs which share a single client for all their targets
+     */
+    public static final String DEFAULT_SCOPE = "default";
+
+    /**
+     * Default maximal number of connections per host and port
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 5;
+
+    /**
+     * Time in seconds after which the idle connections are closed by the client. It is shorter than the default idle
+     * timeout of the Jetty servers used by the Kafka Connect and Cruise Control REST APIs (30 seconds), so that the
+     * client does not reuse connections which are being closed by the server.
+     */
+    private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
+    /**
+     * Default time in milliseconds after which a client which was not used is closed and removed from the pool
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 600_000L;
+
+    /**
+     * Pooled HTTP client. The mutable fields are guarded by the client. The retired flag is also read without the lock
+     * when looking up the client in the pool.
+     */
+    private static class PooledClient {
+        private final String credentialsHash;
+        private final String options;
+        private final HttpClient client;
+        private int inFlight = 0;
+        private long lastUsedMs;
+        private volatile boolean retired = false;
+
+        PooledClient(String credentialsHash, String options, HttpClient client, long nowMs) {
+            this.credentialsHash = credentialsHash;
+            this.options = options;
+            this.client = client;
+            this.lastUsedMs = nowMs;
+        }
+
+        boolean matches(String credentialsHash, String options) {
+            return Objects.equals(this.credentialsHash, credentialsHash) && this.options.equals(options);
+        }
+    }
+
+    private final Vertx vertx;
+    private final String api;
+    private final int maxPoolSize;
+    private final boolean http2;
+    private final long idleTimeoutMs;
+    private final Counter connectionsCounter;
+    private final Counter requestsCounter;
+    private final Timer requestsTimer;
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    private Long evictionTimerId = null; // Guarded by the pool
+
+    /**
+     * Constructs the HTTP client pool with the default configuration and without metrics
+     *
+     * @param vertx     Vert.x instance
+     * @param api       Name of the API called by the clients
+     */
+    public HttpClientPool(Vertx vertx, String api) {
+        this(vertx, api, DEFAULT_MAX_POOL_SIZE, false, new MicrometerMetricsProvider(new CompositeMeterRegistry()));
+    }
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx             Vert.x instance
+     * @param api               Name of the API called by the clients
+     * @param maxPoolSize       Maximal number of connections per host and port
+     * @param http2             Indicates whether the clients should use HTTP/2 (with fallback to HTTP/1.1 when the
+     *                          server does not support it)
+     * @param metricsProvider   Metrics provider
+     */
+    public HttpClientPool(Vertx vertx, String api, int maxPoolSize, boolean http2, MetricsProvider metricsProvider) {
+        this(vertx, api, maxPoolSize, http2, DEFAULT_IDLE_TIMEOUT_MS, metricsProvider);
+    }
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx             Vert.x instance
+     * @param api               Name of the API called by the clients
+     * @param maxPoolSize       Maximal number of connections per host and port
+     * @param http2             Indicates whether the clients should use HTTP/2 (with fallback to HTTP/1.1 when the
+     *                          server does not support it)
+     * @param idleTimeoutMs     Time in milliseconds after which a client which was not used is closed. Has to be positive.
+     * @param metricsProvider   Metrics provider
+     */
+    /* test */ HttpClientPool(Vertx vertx, String api, int maxPoolSize, boolean http2, long idleTimeoutMs, MetricsProvider metricsProvider) {
+        if (idleTimeoutMs <= 0) {
+            throw new IllegalArgumentException("The idle timeout of the HTTP client pool has to be positive, but was " + idleTimeoutMs);
+        }
+
+        this.vertx = vertx;
+        this.api = api;
+        this.maxPoolSize = maxPoolSize;
+        this.http2 = http2;
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        Tags tags = Tags.of("api", api);
+        this.connectionsCounter = metricsProvider.counter(METRICS_PREFIX + "connections", "Number of connections opened by the HTTP clients", tags);
+        this.requestsCounter = metricsProvider.counter(METRICS_PREFIX + "requests", "Number of requests sent by the HTTP clients", tags);
+        this.requestsTimer = metricsProvider.timer(METRICS_PREFIX + "request.duration", "The time it takes to complete a request sent by the HTTP clients", tags);
+    }
+
+    /**
+     * Performs the given operation, which completes the promise, using the pooled HTTP client shared by all targets of
+     * the API.
+     *
+     * @param options       Options of the HTTP client
+     * @param operation     The operation to perform
+     * @param <T>           The type of the result
+     *
+     * @return  A future which is completed with the result of the operation
+     */
+    public <T> Future<T> withHttpClient(HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        return withHttpClient(DEFAULT_SCOPE, options, operation);
+    }
+
+    /**
+     * Performs the given operation, which completes the promise, using the pooled HTTP client of the scope. The client
+     * is not closed after the operation and is reused by the following operations in the same scope with the same
+     * options.
+     *
+     * @param scope         Scope of the client (for example the namespace and name of the Secret with its
+     *                      certificates)
+     * @param options       Options of the HTTP client
+     * @param operation     The operation to perform
+     * @param <T>           The type of the result
+     *
+     * @return  A future which is completed with the result of the operation
+     */
+    public <T> Future<T> withHttpClient(String scope, HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        return withHttpClient(scope, null, options, operation);
+    }
+
+    /**
+     * Performs the given operation, which completes the promise, using the pooled HTTP client of the scope. The client
+     * is not closed after the operation and is reused by the following operations in the same scope with the same
+     * options and the same hash of the credentials.
+     *
+     * @param scope             Scope of the client (for example the namespace and name of the Secret with its
+     *                          certificates)
+     * @param credentialsHash   Hash of the data of the Secrets with the certificates and keys used in the options or
+     *                          null if the options do not use any
+     * @param options           Options of the HTTP client
+     * @param operation         The operation to perform
+     * @param <T>               The type of the result
+     *
+     * @return  A future which is completed with the result of the operation
+     */
+    public <T> Future<T> withHttpClient(String scope, String credentialsHash, HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        PooledClient pooled = lease(scope, credentialsHash, options);
+        Timer.Sample sample = Timer.start();
+        Promise<T> promise = Promise.promise();
+
+        requestsCounter.increment();
+
+        try {
+            operation.accept(pooled.client, promise);
+        } catch (RuntimeException e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onComplete(ignore -> {
+                    sample.stop(requestsTimer);
+                    release(pooled);
+                });
+    }
+
+    private PooledClient lease(String scope, String credentialsHash, HttpClientOptions options) {
+        String key = options.toJson().encode();
+
+        while (true) {
+            PooledClient pooled = clients.compute(scope, (ignore, current) -> {
+                if (current != null && !current.retired && current.matches(credentialsHash, key)) {
+                    return current;
+                } else {
+                    if (current != null) {
+                        LOGGER.debugOp("Replacing the {} HTTP client for {} because its options or credentials changed", api, scope);
+                        retire(current);
+                    }
+
+                    return new PooledClient(credentialsHash, key, createClient(options), nowMs());
+                }
+            });
+
+            boolean leased = false;
+
+            synchronized (pooled) {
+                // The client might have been replaced or evicted after it was taken from the pool
+                if (!pooled.retired) {
+                    pooled.inFlight++;
+                    pooled.lastUsedMs = nowMs();
+                    leased = true;
+                }
+            }
+
+            if (leased) {
+                startEviction();
+                return pooled;
+            }
+        }
+    }
+
+    private void release(PooledClient pooled) {
+        boolean close;
+
+        synchronized (pooled) {
+            pooled.inFlight--;
+            pooled.lastUsedMs = nowMs();
+            close = pooled.retired && pooled.inFlight == 0;
+        }
+
+        if (close) {
+            pooled.client.close();
+        }
+    }
+
+    private void retire(PooledClient pooled) {
+        boolean close;
+
+        synchronized (pooled) {
+            pooled.retired = true;
+            close = pooled.inFlight == 0;
+        }
+
+        if (close) {
+            pooled.client.close();
+        }
+    }
+
+    /**
+     * Starts the periodic eviction of the idle clients unless it is already running
+     */
+    private synchronized void startEviction() {
+        if (evictionTimerId == null) {
+            evictionTimerId = vertx.setPeriodic(idleTimeoutMs, id -> evictIdleClients());
+        }
+    }
+
+    /**
+     * Closes and removes from the pool the clients which were not used for longer than the idle timeout. The periodic
+     * eviction is stopped when no clients are left in the pool.
+     */
+    /* test */ void evictIdleClients() {
+        long nowMs = nowMs();
+        List<PooledClient> idle = new ArrayList<>();
+
+        for (String scope : List.copyOf(clients.keySet())) {
+            clients.computeIfPresent(scope, (ignore, current) -> {
+                synchronized (current) {
+                    if (current.inFlight == 0 && nowMs - current.lastUsedMs >= idleTimeoutMs) {
+                        LOGGER.debugOp("Closing the {} HTTP client for {} because it was not used for {}ms", api, scope, nowMs - current.lastUsedMs);
+                        current.retired = true;
+                        idle.add(current);
+                        return null;
+                    }
+                }
+
+                return current;
+            });
+        }
+
+        idle.forEach(pooled -> pooled.client.close());
+
+        synchronized (this) {
+            // A client added after the check will start the eviction again
+            if (clients.isEmpty() && evictionTimerId != null) {
+                vertx.cancelTimer(evictionTimerId);
+                evictionTimerId = null;
+            }
+        }
+    }
+
+    /**
+     * @return  Number of the clients in the pool
+     */
+    /* test */ int size() {
+        return clients.size();
+    }
+
+    private static long nowMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @SuppressWarnings("deprecation")
+    private HttpClient createClient(HttpClientOptions options) {
+        HttpClientOptions clientOptions = new HttpClientOptions(options)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS);
+
+        if (http2) {
+            clientOptions.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setHttp2KeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                    .setUseAlpn(clientOptions.isSsl())
+                    .setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1));
+        }
+
+        // The connection handler is set on the client because the client builder in Vert.x 4.5.0 ignores it
+        return vertx.httpClientBuilder()
+                .with(clientOptions)
+                .with(new PoolOptions().setHttp1MaxSize(maxPoolSize).setHttp2MaxSize(maxPoolSize))
+                .build()
+                .connectionHandler(connection -> connectionsCounter.increment());
+    }
+}
@@ -114,7 +114,8 @@ class KafkaAgentClient {
 
         byte[] decodedKey = Util.decodePemPrivateKeyFromSecret(coKeySecret, "cluster-operator.key");
         PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(decodedKey);
-        final KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        // The key uses the same algorithm as the public key in the certificate (for example RSA or EC)
+        final KeyFactory keyFactory = KeyFactory.getInstance(coCert.getPublicKey().getAlgorithm());
         final PrivateKey key = keyFactory.generatePrivate(keySpec);
 
         KeyStore coKeyStore = KeyStore.getInstance(KEYSTORE_TYPE_JKS);
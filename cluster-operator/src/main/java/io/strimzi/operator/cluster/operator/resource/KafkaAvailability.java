@@ -19,10 +19,13 @@ import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.Integer.parseInt;
@@ -30,6 +33,16 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>A single instance is meant to be used for all the availability checks of a rolling restart. Every check describes
+ * all the topics, because the replicas might have been moved between the brokers, partitions might have been added
+ * and topics might have been recreated since the previous check. The descriptions are kept in an index by the brokers
+ * hosting their replicas. The {@code min.insync.replicas} of a topic is described only once, the first time it is
+ * needed, and it is described again only when the topic was recreated.</p>
+ *
+ * <p>The same index is used to check whether a set of brokers can be rolled at the same time. This is used when
+ * planning the batches of brokers restarted together and when a broker is restarted while other brokers of its batch
+ * are still being restarted.</p>
  */
 class KafkaAvailability {
 
@@ -39,19 +52,18 @@ class KafkaAvailability {
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    /** The topic descriptions by topic name */
+    private final Map<String, TopicDescription> descriptions = new ConcurrentHashMap<>();
+
+    /** The names of the topics with a replica on the broker, by broker ID */
+    private final Map<Integer, Set<String>> topicsByBroker = new ConcurrentHashMap<>();
+
+    /** The {@code min.insync.replicas} of the topics by topic name, -1 for the topics which do not have it */
+    private final Map<String, Integer> minIsrs = new ConcurrentHashMap<>();
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -59,90 +71,212 @@ class KafkaAvailability {
      * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
      */
     Future<Boolean> canRoll(int podId) {
-        LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRoll(Set.of(podId));
+    }
+
+    /**
+     * Determine whether the given brokers can be rolled at the same time without affecting
+     * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     */
+    Future<Boolean> canRoll(Set<Integer> podIds) {
+        LOGGER.debugCr(reconciliation, "Determining whether brokers {} can be rolled", podIds);
+        return canRollBrokers(podIds);
+    }
+
+    /**
+     * Describes all topics and the {@code min.insync.replicas} of the topics which are not known yet, so that
+     * {@link #wouldAffectAvailability(Set)} can be used for any set of brokers.
+     *
+     * @return  Future which completes when the index is up-to-date
+     */
+    Future<Void> refresh() {
+        return refreshIndex(Set.of())
+                .compose(i -> topicMinIsrs(Set.copyOf(descriptions.keySet())))
+                .mapEmpty();
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    /**
+     * Checks against the current index whether rolling the given brokers at the same time would affect availability.
+     * It does not describe any topics, so the index should be refreshed first using {@link #refresh()}.
+     *
+     * @param podIds    The broker IDs
+     *
+     * @return  True if rolling the brokers together would remove some partition from its ISR
+     */
+    boolean wouldAffectAvailability(Set<Integer> podIds) {
+        for (String name : topicNames(podIds)) {
+            TopicDescription td = descriptions.get(name);
+            if (td != null && wouldAffectAvailability(podIds, minIsrs.getOrDefault(name, -1), td, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Future<Boolean> canRollBrokers(Set<Integer> podIds) {
+        // 1. Refresh the descriptions of the topics on $brokers
+        Future<Set<TopicDescription>> topicsOnGivenBroker = refreshIndex(podIds)
+                .recover(error -> {
                     LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // 2. Get the min.insync.replicas of the topics on $broker
+        Future<Map<String, Integer>> topicMinIsrsOnGivenBroker = topicsOnGivenBroker
+                .compose(td -> topicMinIsrs(td.stream().map(TopicDescription::name).collect(Collectors.toSet())));
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
+        // 3. join
+        return topicMinIsrsOnGivenBroker.map(topicNameToMinIsr -> {
             Collection<TopicDescription> tds = topicsOnGivenBroker.result();
             boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+                td -> wouldAffectAvailability(podIds, topicNameToMinIsr.get(td.name()), td, true));
             if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+                LOGGER.debugCr(reconciliation, "Restart pods {} would remove them from ISR, stalling producers with acks=all", podIds);
             }
             return canRoll;
         }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
+            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pods {}", podIds, error);
             return Future.failedFuture(error);
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
+    /**
+     * Lists and describes all the topics and updates the index with them
+     *
+     * @param podIds    The broker IDs
+     *
+     * @return  Future with the up-to-date descriptions of the topics with a replica on the brokers
+     */
+    private Future<Set<TopicDescription>> refreshIndex(Set<Integer> podIds) {
+        return topicNames().compose(names -> {
+            LOGGER.traceCr(reconciliation, "Topic names {}", names);
+
+            for (String name : Set.copyOf(descriptions.keySet())) {
+                if (!names.contains(name)) {
+                    unindex(name);
+                }
+            }
+
+            return names.isEmpty() ? Future.<Collection<TopicDescription>>succeededFuture(List.of()) : describeTopics(names);
+        }).map(tds -> {
+            LOGGER.debugCr(reconciliation, "Got {} topic descriptions", tds.size());
+            for (TopicDescription td : tds) {
+                LOGGER.traceCr(reconciliation, td);
+                index(td);
+            }
+
+            Set<TopicDescription> topicsOnBroker = new HashSet<>();
+            for (String name : topicNames(podIds)) {
+                TopicDescription td = descriptions.get(name);
+                if (td != null) {
+                    topicsOnBroker.add(td);
+                }
+            }
+            return topicsOnBroker;
+        });
+    }
+
+    /**
+     * @return  The names of the topics with a replica on any of the given brokers according to the index
+     */
+    private Set<String> topicNames(Set<Integer> podIds) {
+        Set<String> names = new HashSet<>();
+        for (Integer podId : podIds) {
+            names.addAll(topicsByBroker.getOrDefault(podId, Set.of()));
+        }
+        return names;
+    }
+
+    private void index(TopicDescription td) {
+        TopicDescription previous = descriptions.put(td.name(), td);
+        if (previous != null) {
+            removeFromBrokers(previous);
+
+            if (!Objects.equals(previous.topicId(), td.topicId())) {
+                // The topic was recreated, so its min.insync.replicas might have changed
+                minIsrs.remove(td.name());
+            }
+        }
+        brokers(td).forEach(broker -> topicsByBroker.computeIfAbsent(broker, b -> ConcurrentHashMap.newKeySet()).add(td.name()));
+    }
+
+    private void unindex(String name) {
+        TopicDescription previous = descriptions.remove(name);
+        if (previous != null) {
+            removeFromBrokers(previous);
+        }
+        minIsrs.remove(name);
+    }
+
+    private void removeFromBrokers(TopicDescription td) {
+        for (Integer broker : brokers(td)) {
+            Set<String> topics = topicsByBroker.get(broker);
+            if (topics != null) {
+                topics.remove(td.name());
+            }
+        }
+    }
+
+    private static Set<Integer> brokers(TopicDescription td) {
+        Set<Integer> brokers = new HashSet<>();
+        for (TopicPartitionInfo pi : td.partitions()) {
+            for (Node broker : pi.replicas()) {
+                brokers.add(broker.id());
+            }
+        }
+        return brokers;
+    }
+
+    /**
+     * Checks whether rolling the given brokers at the same time would affect the availability of the topic
+     *
+     * @param brokers   The broker IDs
+     * @param minIsr    The {@code min.insync.replicas} of the topic or -1 if it does not have it
+     * @param td        The topic description
+     * @param verbose   Whether the partitions which block the rolling should be logged at the INFO level
+     *
+     * @return  True if rolling the brokers would affect the availability of the topic
+     */
+    private boolean wouldAffectAvailability(Set<Integer> brokers, int minIsr, TopicDescription td, boolean verbose) {
+        if (minIsr >= 0) {
             LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
         } else {
-            minIsr = -1;
             LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
         }
 
         for (TopicPartitionInfo pi : td.partitions()) {
+            if (count(pi.replicas(), brokers) == 0) {
+                // Restarting the brokers does not affect partitions without a replica on them
+                continue;
+            }
             List<Node> isr = pi.isr();
             if (minIsr >= 0) {
                 if (pi.replicas().size() <= minIsr) {
                     if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if brokers {} are restarted, but there are only {} replicas.",
+                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers,
                                 pi.replicas().size());
                     }
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    if (LOGGER.isInfoEnabled()) {
+                } else if (isr.size() < minIsr) {
+                    if (verbose && LOGGER.isInfoEnabled()) {
                         String msg;
-                        if (contains(isr, broker)) {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
+                        if (count(isr, brokers) > 0) {
+                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); brokers {} are in the ISR, " +
                                                           "so should not be restarted right now (it would impact consumers).";
                         } else {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
+                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); brokers {} have a replica, " +
                                                           "so should not be restarted right now (it might be first to catch up).";
                         }
                         LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                     }
                     return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        if (LOGGER.isInfoEnabled()) {
-                            LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        }
-                        return true;
-                    } else {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                    pi.replicas().size());
-                        }
+                } else if (isr.size() - count(isr, brokers) < minIsr) {
+                    if (verbose && LOGGER.isInfoEnabled()) {
+                        LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if brokers {} are restarted.",
+                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, brokers);
                     }
+                    return true;
                 }
             }
         }
@@ -153,8 +287,47 @@ class KafkaAvailability {
         return isr.stream().map(Node::idString).collect(Collectors.joining(","));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private static int count(List<Node> nodes, Set<Integer> brokers) {
+        int count = 0;
+        for (Node node : nodes) {
+            if (brokers.contains(node.id())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the {@code min.insync.replicas} of the given topics. Only the topics whose value is not known yet are
+     * described. The described value is the effective one, so it already takes into account the broker default.
+     *
+     * @param topicNames    Names of the topics
+     *
+     * @return  Future with the {@code min.insync.replicas} by topic name, -1 for the topics which do not have it
+     */
+    private Future<Map<String, Integer>> topicMinIsrs(Collection<String> topicNames) {
+        List<String> missing = topicNames.stream().filter(name -> !minIsrs.containsKey(name)).toList();
+        Future<Void> described = missing.isEmpty() ? Future.succeededFuture() : topicConfigs(missing).map(topicNameToConfig -> {
+            topicNameToConfig.forEach((name, config) -> minIsrs.put(name, minIsr(config)));
+            return null;
+        });
+
+        return described.map(v -> {
+            Map<String, Integer> result = new HashMap<>(topicNames.size());
+            for (String name : topicNames) {
+                result.put(name, minIsrs.getOrDefault(name, -1));
+            }
+            return result;
+        });
+    }
+
+    private static int minIsr(Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            return parseInt(minIsrConfig.value());
+        } else {
+            return -1;
+        }
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -177,21 +350,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).allTopicNames()
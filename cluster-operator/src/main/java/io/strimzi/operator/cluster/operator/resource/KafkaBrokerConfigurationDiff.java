@@ -5,8 +5,6 @@
 
 package io.strimzi.operator.cluster.operator.resource;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
@@ -24,22 +22,24 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  The algorithm:
  *  1. Create a map from the supplied desired String
  *  2. Fill placeholders (e.g. ${BROKER_ID}) in desired map as the broker's {@code kafka_config_generator.sh} would
- *  3a. Loop over all entries. If the entry is in IGNORABLE_PROPERTIES or entry.value from desired is equal to entry.value from current, do nothing
- *      else add it to the diff
+ *  3a. Loop over all current entries and look them up in the desired map. If the entry is in IGNORABLE_PROPERTIES or
+ *      entry.value from desired is equal to entry.value from current, do nothing else add it to the diff
  *  3b. If entry was removed from desired, add it to the diff with null value.
  *  3c. If custom entry was removed, delete property
+ *  4. Loop over the desired entries and add the entries missing in the current configuration to the diff
+ *
+ * The current entries are indexed by their names in the broker configuration, so the diff is computed in a single pass
+ * over the current and desired entries.
  */
 public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
-    private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final String PLACE_HOLDER = "${STRIMZI_BROKER_ID}";
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> brokerConfigDiff;
@@ -70,6 +70,13 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * KRaft controller configuration options are skipped if it is not combined node
      */
     private static final Pattern IGNORABLE_CONTROLLER_PROPERTIES = Pattern.compile("controller\\.quorum\\..*");
+
+    /**
+     * Options skipped on nodes which are not KRaft controllers (IGNORABLE_PROPERTIES and IGNORABLE_CONTROLLER_PROPERTIES
+     * matched in a single pass)
+     */
+    private static final Pattern IGNORABLE_BROKER_PROPERTIES = Pattern.compile(IGNORABLE_PROPERTIES.pattern() + "|" + IGNORABLE_CONTROLLER_PROPERTIES.pattern());
+
     /**
      * Constructor
      *
@@ -87,8 +94,9 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
+            if (entry.getValue().contains(PLACE_HOLDER)) {
+                entry.setValue(entry.getValue().replace(PLACE_HOLDER, value));
+            }
         });
     }
 
@@ -133,7 +141,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     private static boolean isIgnorableProperty(final String key, final boolean nodeIsController) {
         // If node is not a KRaft controller, ignore KRaft controller config properties.
         if (!nodeIsController) {
-            return IGNORABLE_PROPERTIES.matcher(key).matches() || IGNORABLE_CONTROLLER_PROPERTIES.matcher(key).matches();
+            return IGNORABLE_BROKER_PROPERTIES.matcher(key).matches();
         } else {
             return IGNORABLE_PROPERTIES.matcher(key).matches();
         }
@@ -153,64 +161,48 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
-
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
         Map<String, String> desiredMap = orderedProperties.asMap();
 
         fillPlaceholderValue(desiredMap, Integer.toString(brokerNodeRef.nodeId()));
 
-        JsonNode source = PATCH_MAPPER.valueToTree(currentMap);
-        JsonNode target = PATCH_MAPPER.valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
-
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+        for (ConfigEntry entry : brokerConfigs.entries()) {
+            String currentValue = entry.value() == null ? "null" : entry.value();
+            String desiredValue = desiredMap.get(entry.name());
 
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry, brokerNodeRef.controller());
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
+            if (desiredValue == null) {
+                // there is a lot of properties set by default - not having them in desired causes very noisy log output
+                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {} was removed", brokerNodeRef.nodeId(), entry.name());
+                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                removeProperty(configModel, updatedCE, entry.name(), entry, brokerNodeRef.controller());
+            } else if (!desiredValue.equals(currentValue)) {
+                logDifference(brokerNodeRef, entry.name(), currentValue, desiredValue);
+                // entry is in the current, desired is updated value
+                updateOrAdd(entry.name(), configModel, desiredMap, updatedCE, brokerNodeRef.controller());
             }
+        }
 
-            if ("remove".equals(op)) {
-                // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.traceCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+        for (Map.Entry<String, String> entry : desiredMap.entrySet()) {
+            if (brokerConfigs.get(entry.getKey()) == null) {
+                logDifference(brokerNodeRef, entry.getKey(), null, entry.getValue());
+                // entry is not in the current, it is added
+                updateOrAdd(entry.getKey(), configModel, desiredMap, updatedCE, brokerNodeRef.controller());
             }
         }
 
         return updatedCE;
     }
 
+    private void logDifference(NodeRef brokerNodeRef, String name, String currentValue, String desiredValue) {
+        LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), name);
+        LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", name, currentValue);
+        LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", name, desiredValue);
+    }
+
     private void updateOrAdd(String propertyName, Map<String, ConfigModel> configModel, Map<String, String> desiredMap, Collection<AlterConfigOp> updatedCE, boolean nodeIsController) {
         if (!isIgnorableProperty(propertyName, nodeIsController)) {
             if (isCustomEntry(propertyName, configModel)) {
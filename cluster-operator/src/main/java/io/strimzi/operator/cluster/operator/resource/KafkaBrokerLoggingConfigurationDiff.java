@@ -191,11 +191,15 @@ public class KafkaBrokerLoggingConfigurationDiff extends AbstractJsonDiff {
      * It takes Log4j properties configuration in the form of a map of key:value pairs,
      * where key is the category name, and the value is whatever comes to the right of '=' sign in log4j.properties,
      * which is either a logging level, or a logging level followed by a comma, and followed by the appender name.
+     *
+     * The resolved levels are remembered, so the levels of the parent categories shared by many loggers are resolved
+     * only once per diff.
      */
     private static class LoggingLevelResolver {
 
         private final Map<String, String> config;
         private final Reconciliation reconciliation;
+        private final Map<String, LoggingLevel> resolved = new HashMap<>();
 
         LoggingLevelResolver(Reconciliation reconciliation, Map<String, String> loggingConfig) {
             this.reconciliation = reconciliation;
@@ -229,28 +233,37 @@ public class KafkaBrokerLoggingConfigurationDiff extends AbstractJsonDiff {
          * @return The logging level compatible with dynamic logging update
          */
         LoggingLevel resolveLevel(String name) {
+            LoggingLevel level = resolved.get(name);
+
+            if (level == null) {
+                level = computeLevel(name);
+                resolved.put(name, level);
+            }
+
+            return level;
+        }
+
+        private LoggingLevel computeLevel(String name) {
             String level = config.get(name);
             if (level != null) {
                 LoggingLevel result = LoggingLevel.ofLog4jConfig(reconciliation, level);
                 return result != null ? result : LoggingLevel.WARN;
             }
 
-            int endIdx = name.length();
-            while (endIdx > -1) {
-                endIdx = name.lastIndexOf('.', endIdx);
-                if (endIdx == -1) {
-                    level = config.get("root");
-                } else {
-                    level = config.get(name.substring(0, endIdx));
-                }
+            int endIdx = name.lastIndexOf('.');
+            if (endIdx == -1) {
+                level = config.get("root");
                 if (level != null) {
                     LoggingLevel result = LoggingLevel.ofLog4jConfig(reconciliation, level);
                     return result != null ? result : LoggingLevel.WARN;
                 }
-                endIdx -= 1;
+
+                // still here? Not even root logger defined?
+                return LoggingLevel.WARN;
+            } else {
+                // The category inherits the level of its parent
+                return resolveLevel(name.substring(0, endIdx));
             }
-            // still here? Not even root logger defined?
-            return LoggingLevel.WARN;
         }
     }
 
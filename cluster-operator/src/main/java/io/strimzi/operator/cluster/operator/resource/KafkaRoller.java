@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
@@ -24,6 +25,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
@@ -33,6 +35,7 @@ import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.KafkaFuture;
@@ -95,6 +98,12 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When the maximal batch size is higher than 1, the brokers which are not KRaft controllers are rolled in batches
+ * planned by {@link RollingRestartPlan}. The brokers in a batch are processed in parallel using the algorithm above,
+ * and the next batch starts only when the previous one is complete. Before a broker in a batch is rolled, it is
+ * checked together with the other brokers of its batch which are being rolled at the same time, so that the brokers
+ * restarted in parallel never affect availability together. The KRaft controllers are still rolled one at a time.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -128,6 +137,8 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxBatchSize;
+    private final MetricsHolder metrics;
     /**
      * Admin client used to send requests that are only relevant for the brokers. It is bootstrapped with broker nodes that might be rolled.
      */
@@ -137,6 +148,11 @@ public class KafkaRoller {
      * so that requests are forwarded to the controllers.
      */
     private Admin controllerAdminClient;
+    /**
+     * Availability check of the brokers. It is shared by all the checks of this rolling restart, so that the topic
+     * metadata is described in full only once.
+     */
+    private KafkaAvailability brokerAvailability;
     private KafkaAgentClient kafkaAgentClient;
 
     /**
@@ -163,6 +179,38 @@ public class KafkaRoller {
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, nodes, clusterCaCertSecret, coKeySecret,
+                adminClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion, allowReconfiguration, eventsPublisher, 1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param vertx                 Vert.x instance
+     * @param podOperations         Pod operator for managing pods
+     * @param pollingIntervalMs     Polling interval in milliseconds
+     * @param operationTimeoutMs    Operation timeout in milliseconds
+     * @param backOffSupplier       Backoff supplier
+     * @param nodes                 List of Kafka node references to consider rolling
+     * @param clusterCaCertSecret   Secret with the Cluster CA public key
+     * @param coKeySecret           Secret with the Cluster CA private key
+     * @param adminClientProvider   Kafka Admin client provider
+     * @param kafkaConfigProvider   Kafka configuration provider
+     * @param kafkaLogging          Kafka logging configuration
+     * @param kafkaVersion          Kafka version
+     * @param allowReconfiguration  Flag indicting whether reconfiguration is allowed or not
+     * @param eventsPublisher       Kubernetes Events publisher for publishing events about pod restarts
+     * @param maxBatchSize          Maximal number of brokers rolled at the same time
+     * @param metrics               Metrics holder used to record the duration of the rolling restart and the batch sizes
+     *                              or null to not record them
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
+                       Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       int maxBatchSize, MetricsHolder metrics) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -183,6 +231,9 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxBatchSize = maxBatchSize;
+        this.metrics = metrics;
+        this.batchExecutor = maxBatchSize > 1 ? Executors.newScheduledThreadPool(maxBatchSize, runnable -> new Thread(runnable, "kafka-roller-batch")) : null;
     }
 
     /**
@@ -196,6 +247,24 @@ public class KafkaRoller {
     private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
         runnable -> new Thread(runnable, "kafka-roller"));
 
+    /**
+     * Executor used to roll the brokers of the planned batches in parallel. It is null when the brokers are rolled one
+     * at a time.
+     */
+    private final ScheduledExecutorService batchExecutor;
+
+    /**
+     * IDs of the brokers which are rolled as part of a planned batch
+     */
+    private final Set<Integer> batchedBrokers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * IDs of the brokers from the current batch which are being checked or rolled. A broker is reserved before its
+     * availability check, which includes all the reserved brokers, so any two brokers rolled at the same time were
+     * checked together by at least one of their checks. Guarded by its own monitor.
+     */
+    private final Set<Integer> rollingBrokers = new HashSet<>();
+
     private final ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -203,7 +272,7 @@ public class KafkaRoller {
      * Initializes brokerAdminClient, if it has not been initialized yet
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean maybeInitBrokerAdminClient() {
+    private synchronized boolean maybeInitBrokerAdminClient() {
         if (this.brokerAdminClient == null) {
             try {
                 this.brokerAdminClient = adminClient(nodes.stream().filter(NodeRef::broker).collect(Collectors.toSet()), false);
@@ -219,7 +288,7 @@ public class KafkaRoller {
      * Initializes controllerAdminClient if it has not been initialized yet
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean maybeInitControllerAdminClient() {
+    private synchronized boolean maybeInitControllerAdminClient() {
         if (this.controllerAdminClient == null) {
             try {
                 // TODO: Currently, when running in KRaft mode Kafka does not support using Kafka Admin API with controller
@@ -248,6 +317,7 @@ public class KafkaRoller {
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
         Promise<Void> result = Promise.promise();
+        Timer.Sample rollingRestartSample = metrics != null ? Timer.start(metrics.metricsProvider().meterRegistry()) : null;
         singleExecutor.submit(() -> {
             try {
                 LOGGER.debugCr(reconciliation, "Verifying cluster pods are up-to-date.");
@@ -274,14 +344,12 @@ public class KafkaRoller {
                     controllerFutures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
                 }
 
-                Future.join(controllerFutures).compose(v -> {
-                    List<Future<Void>> brokerFutures = new ArrayList<>(nodes.size());
-                    for (NodeRef broker : brokerPods) {
-                        brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
+                Future.join(controllerFutures).compose(v -> rollBrokers(brokerPods)).onComplete(ar -> {
+                    shutdownExecutors();
+
+                    if (rollingRestartSample != null) {
+                        rollingRestartSample.stop(metrics.rollingRestartTimer(namespace));
                     }
-                    return Future.join(brokerFutures);
-                }).onComplete(ar -> {
-                    singleExecutor.shutdown();
 
                     try {
                         if (brokerAdminClient != null) {
@@ -305,13 +373,130 @@ public class KafkaRoller {
                 // If anything happens, we have to raise the error otherwise the reconciliation would get stuck
                 // Its logged at upper level, so we just log it at debug here
                 LOGGER.debugCr(reconciliation, "Something went wrong when trying to do a rolling restart", e);
-                singleExecutor.shutdown();
+                shutdownExecutors();
                 result.fail(e);
             }
         });
         return result.future();
     }
 
+    private void shutdownExecutors() {
+        singleExecutor.shutdown();
+
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Rolls the brokers. When the maximal batch size is 1 (or when the batches cannot be planned), all brokers are
+     * scheduled at once and rolled one at a time. Otherwise, the brokers are rolled in the planned batches.
+     *
+     * @param brokers   Brokers to roll in the order in which they should be considered
+     *
+     * @return  Future which completes when all brokers are rolled
+     */
+    private Future<Void> rollBrokers(List<NodeRef> brokers) {
+        Future<List<List<NodeRef>>> plan;
+
+        if (batchExecutor != null && brokers.size() > 1) {
+            Promise<List<List<NodeRef>>> planPromise = Promise.promise();
+            singleExecutor.submit(() -> {
+                try {
+                    planPromise.complete(planBatches(brokers));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    planPromise.fail(e);
+                } catch (Exception e) {
+                    planPromise.fail(e);
+                }
+            });
+
+            plan = planPromise.future().recover(error -> {
+                LOGGER.warnCr(reconciliation, "Failed to plan the batches of the rolling restart. The brokers will be rolled one at a time.", error);
+                return Future.succeededFuture(null);
+            });
+        } else {
+            plan = Future.succeededFuture(null);
+        }
+
+        return plan.compose(batches -> {
+            if (batches == null) {
+                List<Future<Void>> brokerFutures = new ArrayList<>(brokers.size());
+                for (NodeRef broker : brokers) {
+                    brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
+                }
+                return Future.join(brokerFutures).mapEmpty();
+            } else {
+                LOGGER.infoCr(reconciliation, "Brokers will be rolled in batches {}", batches);
+                return rollBatches(batches, 0);
+            }
+        });
+    }
+
+    /**
+     * Rolls the batches of brokers one after another. The brokers in each batch are rolled in parallel.
+     *
+     * @param batches   Planned batches
+     * @param index     Index of the batch to roll
+     *
+     * @return  Future which completes when all the batches starting from the index are rolled
+     */
+    private Future<Void> rollBatches(List<List<NodeRef>> batches, int index) {
+        if (index >= batches.size()) {
+            return Future.succeededFuture();
+        }
+
+        List<NodeRef> batch = batches.get(index);
+        LOGGER.debugCr(reconciliation, "Rolling batch {} of {} with brokers {}", index + 1, batches.size(), batch);
+
+        if (metrics != null) {
+            metrics.rollingRestartBatchSize(namespace).record(batch.size());
+        }
+
+        List<Future<Void>> batchFutures = new ArrayList<>(batch.size());
+        for (NodeRef broker : batch) {
+            batchedBrokers.add(broker.nodeId());
+            batchFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
+        }
+
+        return Future.join(batchFutures).compose(v -> rollBatches(batches, index + 1));
+    }
+
+    /**
+     * Plans the batches of brokers which will be rolled at the same time using the racks of the brokers and the
+     * partition-to-broker index of the availability check. This method blocks.
+     *
+     * @param brokers   Brokers to roll in the order in which they should be considered
+     *
+     * @return  The planned batches
+     */
+    private List<List<NodeRef>> planBatches(List<NodeRef> brokers) throws ForceableProblem, InterruptedException {
+        if (!maybeInitBrokerAdminClient()) {
+            throw new ForceableProblem("Failed to create the Admin client needed to plan the batches");
+        }
+
+        DescribeClusterResult cluster = brokerAdminClient.describeCluster(new DescribeClusterOptions().timeoutMs(30_000));
+        Collection<Node> clusterNodes = await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, cluster.nodes()), 30, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error describing the cluster nodes", error));
+        Node controllerNode = await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, cluster.controller()), 30, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error describing the cluster controller", error));
+
+        KafkaAvailability availability = brokerAvailability();
+        await(availability.refresh(), 60, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error describing the topics", error));
+
+        Map<Integer, String> racks = new HashMap<>();
+        for (Node node : clusterNodes) {
+            if (node.rack() != null) {
+                racks.put(node.id(), node.rack());
+            }
+        }
+
+        int controller = controllerNode == null || Node.noNode().equals(controllerNode) ? -1 : controllerNode.id();
+        return RollingRestartPlan.batches(brokers, racks, maxBatchSize, controller, ids -> !availability.wouldAffectAvailability(ids));
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -370,7 +555,8 @@ public class KafkaRoller {
     private Future<Void> schedule(NodeRef nodeRef, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(nodeRef.podName(),
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        ScheduledExecutorService executor = batchedBrokers.contains(nodeRef.nodeId()) ? batchExecutor : singleExecutor;
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering updating pod {} after a delay of {} {}", nodeRef, delay, unit);
             try {
                 restartIfNecessary(nodeRef, ctx);
@@ -383,6 +569,9 @@ public class KafkaRoller {
                         nodeRef, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
                 singleExecutor.shutdownNow();
+                if (batchExecutor != null) {
+                    batchExecutor.shutdownNow();
+                }
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> f.promise.tryFail(e));
             } catch (Exception e) {
                 if (ctx.backOff.done()) {
@@ -397,6 +586,10 @@ public class KafkaRoller {
                             nodeRef, e, delay1);
                     schedule(nodeRef, delay1, TimeUnit.MILLISECONDS);
                 }
+            } finally {
+                synchronized (rollingBrokers) {
+                    rollingBrokers.remove(nodeRef.nodeId());
+                }
             }
         }, delay, unit);
         return ctx.promise.future();
@@ -439,11 +632,7 @@ public class KafkaRoller {
                 await(isReady(pod), operationTimeoutMs, TimeUnit.MILLISECONDS, RuntimeException::new);
             } catch (Exception e) {
                 //Initialise the client for KafkaAgent if pod is not ready
-                if (kafkaAgentClient == null) {
-                    this.kafkaAgentClient = initKafkaAgentClient();
-                }
-
-                BrokerState brokerState = kafkaAgentClient.getBrokerState(pod.getMetadata().getName());
+                BrokerState brokerState = maybeInitKafkaAgentClient().getBrokerState(pod.getMetadata().getName());
                 if (brokerState.isBrokerInRecovery()) {
                     throw new UnforceableProblem("Pod " + nodeRef.podName() + " is not ready because the Kafka node is performing log recovery. There are " + brokerState.remainingLogsToRecover() + " logs and " + brokerState.remainingSegmentsToRecover() + " segments left to recover.", e.getCause());
                 }
@@ -511,6 +700,14 @@ public class KafkaRoller {
         }
     }
 
+    private synchronized KafkaAgentClient maybeInitKafkaAgentClient() throws FatalProblem {
+        if (kafkaAgentClient == null) {
+            this.kafkaAgentClient = initKafkaAgentClient();
+        }
+
+        return kafkaAgentClient;
+    }
+
     KafkaAgentClient initKafkaAgentClient() throws FatalProblem {
         try {
             return new KafkaAgentClient(reconciliation, cluster, namespace, clusterCaCertSecret, coKeySecret);
@@ -810,14 +1007,32 @@ public class KafkaRoller {
             if (nodeRef.broker() && nodeRef.controller()) {
                 boolean canRollController = await(restartContext.quorumCheck.canRollController(nodeRef.nodeId()), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
-                boolean canRollBroker = await(availability(brokerAdminClient).canRoll(nodeRef.nodeId()), timeout, unit,
+                boolean canRollBroker = await(brokerAvailability().canRoll(nodeRef.nodeId()), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
                 return canRollController && canRollBroker;
             } else if (nodeRef.controller()) {
                 return await(restartContext.quorumCheck.canRollController(nodeRef.nodeId()), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
+            } else if (batchedBrokers.contains(nodeRef.nodeId())) {
+                // The broker is reserved before it is checked together with the other brokers of its batch which are
+                // reserved as well. The check itself is done outside the lock so that it does not block them.
+                Set<Integer> brokers;
+                synchronized (rollingBrokers) {
+                    rollingBrokers.add(nodeRef.nodeId());
+                    brokers = new HashSet<>(rollingBrokers);
+                }
+
+                boolean canRoll = await(brokerAvailability().canRoll(brokers), timeout, unit,
+                        t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
+                if (!canRoll) {
+                    synchronized (rollingBrokers) {
+                        rollingBrokers.remove(nodeRef.nodeId());
+                    }
+                }
+
+                return canRoll;
             } else {
-                return await(availability(brokerAdminClient).canRoll(nodeRef.nodeId()), timeout, unit,
+                return await(brokerAvailability().canRoll(nodeRef.nodeId()), timeout, unit,
                         t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
             }
         } catch (ForceableProblem | UnforceableProblem e) {
@@ -942,6 +1157,17 @@ public class KafkaRoller {
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
+
+    /**
+     * @return  The availability check of the brokers, created once the broker Admin client exists
+     */
+    private synchronized KafkaAvailability brokerAvailability() {
+        if (brokerAvailability == null && brokerAdminClient != null) {
+            brokerAvailability = availability(brokerAdminClient);
+        }
+
+        return brokerAvailability != null ? brokerAvailability : availability(brokerAdminClient);
+    }
     
     /**
      * Return true if the given {@code nodeId} is the controller or the active controller in KRaft case and there are other brokers we might yet have to consider.
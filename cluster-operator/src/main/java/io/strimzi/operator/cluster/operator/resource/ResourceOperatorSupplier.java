@@ -41,9 +41,11 @@ import io.strimzi.operator.common.operator.resource.ImageStreamOperator;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
 import io.strimzi.operator.common.operator.resource.NodeOperator;
+import io.strimzi.operator.common.operator.resource.PatchStrategy;
 import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
+import io.strimzi.operator.common.operator.resource.ResourceCache;
 import io.strimzi.operator.common.operator.resource.RoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.RoleOperator;
 import io.strimzi.operator.common.operator.resource.RouteOperator;
@@ -54,6 +56,10 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Class holding the various resource operator and providers of various clients
  */
@@ -241,6 +247,8 @@ public class ResourceOperatorSupplier {
      */
     public final PreventBrokerScaleDownCheck brokerScaleDownOperations;
 
+    private final List<ResourceCache<?>> resourceCaches = new ArrayList<>();
+
     /**
      * Constructor
      *
@@ -252,12 +260,27 @@ public class ResourceOperatorSupplier {
      * @param operatorName          Name of this operator instance
      */
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName) {
+        this(vertx, client, new DefaultAdminClientProvider(), metricsProvider, pfa, operationTimeoutMs, operatorName);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                 Vert.x instance
+     * @param client                Kubernetes Client
+     * @param adminClientProvider   Kafka Admin client provider
+     * @param metricsProvider       Metrics provider
+     * @param pfa                   Platform Availability Features
+     * @param operationTimeoutMs    Operation timeout in milliseconds
+     * @param operatorName          Name of this operator instance
+     */
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, AdminClientProvider adminClientProvider, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName) {
         this(vertx,
                 client,
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                         () -> new BackOff(5_000, 2, 4)),
-                new DefaultAdminClientProvider(),
+                adminClientProvider,
                 new DefaultZookeeperScalerProvider(),
                 metricsProvider,
                 pfa,
@@ -459,4 +482,57 @@ public class ResourceOperatorSupplier {
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokerScaleDownOperations = brokerScaleDownOperations;
     }
+
+    /**
+     * Sets the strategy used to update the existing resources which the Cluster Operator creates for its operands. The
+     * Pods, StatefulSets, StrimziPodSets and custom resources keep their own update logic.
+     *
+     * @param patchStrategy     Patch strategy
+     */
+    public void setPatchStrategy(PatchStrategy patchStrategy) {
+        secretOperations.setPatchStrategy(patchStrategy);
+        configMapOperations.setPatchStrategy(patchStrategy);
+        serviceOperations.setPatchStrategy(patchStrategy);
+        serviceAccountOperations.setPatchStrategy(patchStrategy);
+        roleBindingOperations.setPatchStrategy(patchStrategy);
+        roleOperations.setPatchStrategy(patchStrategy);
+        networkPolicyOperator.setPatchStrategy(patchStrategy);
+        podDisruptionBudgetOperator.setPatchStrategy(patchStrategy);
+        pvcOperations.setPatchStrategy(patchStrategy);
+        ingressOperations.setPatchStrategy(patchStrategy);
+        deploymentOperations.setPatchStrategy(patchStrategy);
+    }
+
+    /**
+     * Enables and starts the informer-backed read caches of the operators for the resources which the Cluster
+     * Operator creates for its operands. The Pods, StatefulSets, Deployments and custom resources are not cached,
+     * because the operator waits for their status to change or updates their status itself.
+     *
+     * @param namespaces    Namespaces watched by the operator
+     */
+    public void enableResourceCaches(Collection<String> namespaces) {
+        resourceCaches.add(secretOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(configMapOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(serviceOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(serviceAccountOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(roleBindingOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(roleOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(networkPolicyOperator.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(podDisruptionBudgetOperator.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(pvcOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+        resourceCaches.add(ingressOperations.enableCache(namespaces, ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, metricsProvider));
+
+        resourceCaches.forEach(ResourceCache::start);
+    }
+
+    /**
+     * Stops the informers of the read caches enabled by {@link #enableResourceCaches(Collection)}
+     *
+     * @param timeoutMs     Timeout in milliseconds for how long to wait for each informer to stop
+     */
+    public void stopResourceCaches(long timeoutMs) {
+        for (ResourceCache<?> cache : resourceCaches) {
+            cache.stop(timeoutMs);
+        }
+    }
 }
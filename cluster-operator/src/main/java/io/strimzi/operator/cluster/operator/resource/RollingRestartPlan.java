@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.NodeRef;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * <p>Plans the batches of Kafka brokers which are restarted at the same time during a rolling restart.</p>
+ *
+ * <p>The brokers are taken in the given order (the unready brokers first). Each batch starts with the first broker
+ * which is not planned yet and is filled with the following brokers from the same rack (or with any brokers when the
+ * racks are not known) as long as the batch does not exceed the maximal size and the brokers in the batch can be rolled
+ * together. The controller broker is always planned last, in a batch of its own, so that it is restarted only once
+ * all other brokers are rolled.</p>
+ */
+final class RollingRestartPlan {
+    private RollingRestartPlan() { }
+
+    /**
+     * Plans the batches of brokers.
+     *
+     * @param brokers           Brokers which should be rolled, in the order in which they should be considered
+     * @param racks             Racks of the brokers by broker ID. Brokers without rack are missing in the map.
+     * @param maxBatchSize      Maximal number of brokers in a batch
+     * @param controller        ID of the controller broker or -1 if it is not known
+     * @param canRollTogether   Predicate checking whether a set of brokers can be rolled at the same time
+     *
+     * @return  List of batches in the order in which they should be rolled
+     */
+    static List<List<NodeRef>> batches(List<NodeRef> brokers, Map<Integer, String> racks, int maxBatchSize, int controller, Predicate<Set<Integer>> canRollTogether) {
+        List<List<NodeRef>> batches = new ArrayList<>();
+        LinkedList<NodeRef> remaining = new LinkedList<>();
+        NodeRef controllerNode = null;
+
+        for (NodeRef broker : brokers) {
+            if (broker.nodeId() == controller) {
+                controllerNode = broker;
+            } else {
+                remaining.add(broker);
+            }
+        }
+
+        while (!remaining.isEmpty()) {
+            NodeRef first = remaining.removeFirst();
+            String rack = racks.get(first.nodeId());
+            List<NodeRef> batch = new ArrayList<>(maxBatchSize);
+            Set<Integer> batchIds = new HashSet<>(maxBatchSize);
+            batch.add(first);
+            batchIds.add(first.nodeId());
+
+            for (var it = remaining.iterator(); it.hasNext() && batch.size() < maxBatchSize; ) {
+                NodeRef candidate = it.next();
+
+                if (!Objects.equals(rack, racks.get(candidate.nodeId()))) {
+                    continue;
+                }
+
+                batchIds.add(candidate.nodeId());
+                if (canRollTogether.test(batchIds)) {
+                    batch.add(candidate);
+                    it.remove();
+                } else {
+                    batchIds.remove(candidate.nodeId());
+                }
+            }
+
+            batches.add(batch);
+        }
+
+        if (controllerNode != null) {
+            batches.add(List.of(controllerNode));
+        }
+
+        return batches;
+    }
+}
@@ -7,7 +7,7 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.operator.cluster.model.CruiseControl;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlEndpoints;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlParameters;
@@ -28,6 +28,8 @@ import io.vertx.core.net.PemTrustOptions;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.TreeMap;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -41,11 +43,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
 
-    private final Vertx vertx;
     private final long idleTimeout;
     private final boolean apiSslEnabled;
     private final HTTPHeader authHttpHeader;
     private final PemTrustOptions pto;
+    private final HttpClientPool httpClientPool;
+    private final String httpClientScope;
+    private final String httpClientCredentialsHash;
 
     /**
      * Constructor
@@ -58,11 +62,44 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
-        this.vertx = vertx;
+        this(new HttpClientPool(vertx, "cruise-control"), idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param httpClientPool    Pool of the HTTP clients used to call the Cruise Control API
+     * @param idleTimeout       Idle timeout
+     * @param ccSecret          Cruise Control Secret
+     * @param ccApiSecret       Cruise Control API Secret
+     * @param apiAuthEnabled    Flag indicating if authentication is enabled
+     * @param apiSslEnabled     Flag indicating if TLS is enabled
+     */
+    public CruiseControlApiImpl(HttpClientPool httpClientPool, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this.httpClientPool = httpClientPool;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeFromSecret(ccSecret, "cruise-control.crt")));
+        // Each Cruise Control instance has its own client, which is replaced when its certificate changes
+        this.httpClientScope = ccSecret.getMetadata() != null
+                ? ccSecret.getMetadata().getNamespace() + "/" + ccSecret.getMetadata().getName()
+                : HttpClientPool.DEFAULT_SCOPE;
+        this.httpClientCredentialsHash = credentialsHash(ccSecret);
+    }
+
+    /**
+     * Hashes the data of the Cruise Control Secret with the certificate trusted by the HTTP client. The pool of the HTTP
+     * clients uses the hash to replace the client when the certificate changes.
+     *
+     * @param ccSecret  Cruise Control Secret
+     *
+     * @return  Hash of the Secret data
+     */
+    private static String credentialsHash(Secret ccSecret) {
+        // The data are sorted because the order of the Secret data is not defined
+        String data = ccSecret.getData() != null ? new TreeMap<>(ccSecret.getData()).toString() : "";
+        return HexFormat.of().formatHex(Util.sha1Digest(data.getBytes(StandardCharsets.US_ASCII)));
     }
 
     @Override
@@ -111,7 +148,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(httpClientScope, httpClientCredentialsHash, options, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -252,7 +289,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(httpClientScope, httpClientCredentialsHash, httpOptions, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -271,7 +308,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(httpClientScope, httpClientCredentialsHash, httpOptions, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -290,7 +327,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(httpClientScope, httpClientCredentialsHash, httpOptions, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -311,7 +348,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(httpClientScope, httpClientCredentialsHash, options, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -408,7 +445,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(httpClientScope, httpClientCredentialsHash, options, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -6,11 +6,14 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.PatchStrategy;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
@@ -71,6 +74,14 @@ public class ClusterOperatorConfigTest {
         assertThat(config.isNetworkPolicyGeneration(), is(true));
         assertThat(config.isPodSetReconciliationOnly(), is(false));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.defaultValue()));
+        assertThat(config.getCertManagerType(), is(CertManagerType.OPENSSL));
+        assertThat(config.getKeyPairPoolSize(), is(0));
+        assertThat(config.getKeyPairAlgorithm(), is(KeyAlgorithm.RSA));
+        assertThat(config.getPatchStrategy(), is(PatchStrategy.JSON));
+        assertThat(config.getKafkaRollerMaxBatchSize(), is(1));
+        assertThat(config.getAdminClientPoolIdleTimeoutMs(), is(300_000L));
+        assertThat(config.getHttpClientMaxPoolSize(), is(5));
+        assertThat(config.isHttpClientHttp2Enabled(), is(false));
         assertThat(config.getLeaderElectionConfig(), is(nullValue()));
     }
 
@@ -233,6 +244,21 @@ public class ClusterOperatorConfigTest {
         );
     }
 
+    @Test
+    public void testPatchStrategy() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.PATCH_STRATEGY.key(), "Merge");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPatchStrategy(), is(PatchStrategy.MERGE));
+
+        envVars.put(ClusterOperatorConfig.PATCH_STRATEGY.key(), "server-side-apply");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPatchStrategy(), is(PatchStrategy.SERVER_SIDE_APPLY));
+
+        envVars.put(ClusterOperatorConfig.PATCH_STRATEGY.key(), "strategic");
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
     @Test
     public void testImagePullSecrets() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
@@ -367,6 +393,36 @@ public class ClusterOperatorConfigTest {
         assertThat(ClusterOperatorConfig.parsePodSecurityProviderClass("my.package.MyClass"), is("my.package.MyClass"));
     }
 
+    @Test
+    public void testKeyPairPoolConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.KEY_PAIR_POOL_SIZE.key(), "10");
+        envVars.put(ClusterOperatorConfig.KEY_PAIR_ALGORITHM.key(), "EC");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKeyPairPoolSize(), is(10));
+        assertThat(config.getKeyPairAlgorithm(), is(KeyAlgorithm.EC));
+
+        envVars.put(ClusterOperatorConfig.KEY_PAIR_POOL_SIZE.key(), "-1");
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("Negative value is not supported"));
+    }
+
+    @Test
+    public void testAdminClientPoolConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.ADMIN_CLIENT_POOL_IDLE_TIMEOUT_MS.key(), "0");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getAdminClientPoolIdleTimeoutMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.ADMIN_CLIENT_POOL_IDLE_TIMEOUT_MS.key(), "-1");
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("Negative value is not supported"));
+    }
+
     @Test
     public void testLeaderElectionConfig() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
@@ -4,15 +4,21 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.Type;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.List;
+import java.util.Map;
+
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 
@@ -105,4 +111,27 @@ public class KafkaConfigurationTests {
 
         assertThat(exc.getMessage(), containsString("Configuration model /kafka-2.6.0-config-model.json was not found"));
     }
+
+    @ParallelTest
+    public void testConfigModelIsCached() {
+        Map<String, ConfigModel> configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(configModel)));
+        assertThat(configModel.get("min.insync.replicas").getType().name(), is("INT"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> configModel.remove("min.insync.replicas"));
+    }
+
+    @ParallelTest
+    public void testCachedConfigModelsCannotBeModified() {
+        ConfigModel model = KafkaConfiguration.readConfigModel(kafkaVersion).get("min.insync.replicas");
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.setMinimum(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> model.setType(Type.STRING));
+        assertThat(model.getMinimum().intValue(), is(1));
+        assertThat(model.getType(), is(Type.INT));
+
+        ConfigModel listModel = KafkaConfiguration.readConfigModel(kafkaVersion).get("log.cleanup.policy");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> listModel.setItems(List.of("delete")));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> listModel.getItems().add("archive"));
+    }
 }
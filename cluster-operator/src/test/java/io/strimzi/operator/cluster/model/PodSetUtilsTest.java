@@ -7,13 +7,20 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 
 @ParallelSuite
 public class PodSetUtilsTest {
@@ -40,4 +47,74 @@ public class PodSetUtilsTest {
 
         assertThat(PodSetUtils.mapToPod(PodSetUtils.podToMap(pod)), is(pod));
     }
+
+    private static Pod pod(String name) {
+        return new PodBuilder()
+                    .withNewMetadata()
+                        .withName(name)
+                        .withNamespace("my-namespace")
+                    .endMetadata()
+                    .withNewSpec()
+                        .withContainers(new ContainerBuilder()
+                                .withName("busybox")
+                                .withImage("busybox:latest")
+                                .build())
+                    .endSpec()
+                    .build();
+    }
+
+    private static StrimziPodSet podSet(String uid, String resourceVersion, Pod... pods) {
+        return new StrimziPodSetBuilder()
+                    .withNewMetadata()
+                        .withName("my-podset")
+                        .withNamespace("my-namespace")
+                        .withUid(uid)
+                        .withResourceVersion(resourceVersion)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withPods(PodSetUtils.podsToMaps(List.of(pods)))
+                    .endSpec()
+                    .build();
+    }
+
+    @ParallelTest
+    public void testDecodedPodsAreCached() {
+        String uid = UUID.randomUUID().toString();
+
+        List<Pod> pods = PodSetUtils.podSetToPods(podSet(uid, "1", pod("pod-0"), pod("pod-1")));
+        assertThat(pods, contains(pod("pod-0"), pod("pod-1")));
+
+        // Same UID and resource version => the cached pods are used
+        assertThat(PodSetUtils.podSetToPods(podSet(uid, "1", pod("pod-0"), pod("pod-1"))), is(sameInstance(pods)));
+
+        // New resource version => the pods are decoded again
+        List<Pod> updatedPods = PodSetUtils.podSetToPods(podSet(uid, "2", pod("pod-0")));
+        assertThat(updatedPods, is(not(sameInstance(pods))));
+        assertThat(updatedPods, contains(pod("pod-0")));
+        assertThat(PodSetUtils.podSetToPods(podSet(uid, "2", pod("pod-0"))), is(sameInstance(updatedPods)));
+
+        // Evicted => the pods are decoded again
+        PodSetUtils.evictDecodedPods(podSet(uid, "2"));
+        assertThat(PodSetUtils.podSetToPods(podSet(uid, "2", pod("pod-0"))), is(not(sameInstance(updatedPods))));
+
+        PodSetUtils.evictDecodedPods(podSet(uid, "2"));
+    }
+
+    @ParallelTest
+    public void testPodsWithoutUidAreNotCached() {
+        StrimziPodSet podSet = podSet(null, null, pod("pod-0"));
+
+        List<Pod> pods = PodSetUtils.podSetToPods(podSet);
+        assertThat(pods, contains(pod("pod-0")));
+        assertThat(PodSetUtils.podSetToPods(podSet), is(not(sameInstance(pods))));
+    }
+
+    @ParallelTest
+    public void testPodNames() {
+        StrimziPodSet podSet = podSet(null, null, pod("pod-0"), pod("pod-1"));
+
+        assertThat(PodSetUtils.podNames(podSet), is(List.of("pod-0", "pod-1")));
+        assertThat(PodSetUtils.podName(podSet.getSpec().getPods().get(1)), is("pod-1"));
+        assertThat(PodSetUtils.podNames(null), is(List.of()));
+    }
 }
@@ -15,11 +15,14 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiImplTest {
@@ -62,6 +65,38 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithStatusAndInfo(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        String response = "{\"my-connector\": {" +
+                "\"info\": {\"name\": \"my-connector\", \"config\": {\"connector.class\": \"MyConnector\", \"tasks.max\": \"1\", \"name\": \"my-connector\"}, \"tasks\": [{\"connector\": \"my-connector\", \"task\": 0}], \"type\": \"source\"}, " +
+                "\"status\": {\"name\": \"my-connector\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"my-worker:8083\"}, \"tasks\": [{\"id\": 0, \"state\": \"RUNNING\", \"worker_id\": \"my-worker:8083\"}], \"type\": \"source\"}" +
+                "}}";
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/connectors?expand=status&expand=info".equals(request.uri())) {
+                request.response().setStatusCode(200).end(response);
+            } else {
+                request.response().setStatusCode(404).end("{\"message\": \"Not found\"}");
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                    assertThat(connectors.keySet(), is(Set.of("my-connector")));
+
+                    Map<String, Object> connector = connectors.get("my-connector");
+                    assertThat(AbstractConnectOperator.snapshotConfig(connector), is(Map.of("connector.class", "MyConnector", "tasks.max", "1", "name", "my-connector")));
+                    assertThat(AbstractConnectOperator.snapshotStatus(connector).get("connector"), is(Map.of("state", "RUNNING", "worker_id", "my-worker:8083")));
+                    assertThat(AbstractConnectOperator.snapshotConfig(null), is(nullValue()));
+                    assertThat(AbstractConnectOperator.snapshotStatus(Map.of()), is(nullValue()));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, String error) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(500).end(error));
 
@@ -43,6 +43,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -150,7 +151,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
             .build()).create();
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
@@ -178,7 +179,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
                 .build()).create();
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
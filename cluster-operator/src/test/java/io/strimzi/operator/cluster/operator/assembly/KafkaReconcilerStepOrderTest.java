@@ -0,0 +1,270 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.KafkaResources;
+import io.strimzi.api.kafka.model.kafka.KafkaStatus;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.AbstractModel;
+import io.strimzi.operator.cluster.model.ClusterCa;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.KafkaVersionChange;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.ClientsCa;
+import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.platform.KubernetesVersion;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Checks the order in which the steps of the Kafka reconciliation run before the PodSets are reconciled
+ */
+public class KafkaReconcilerStepOrderTest {
+    private final static String NAMESPACE = "testns";
+    private final static String CLUSTER_NAME = "testkafka";
+    private final static KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private final static PlatformFeaturesAvailability PFA = new PlatformFeaturesAvailability(true, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
+    private final static KafkaVersionChange VERSION_CHANGE = new KafkaVersionChange(
+            VERSIONS.defaultVersion(),
+            VERSIONS.defaultVersion(),
+            VERSIONS.defaultVersion().protocolVersion(),
+            VERSIONS.defaultVersion().messageVersion(),
+            VERSIONS.defaultVersion().metadataVersion()
+    );
+    private final static ClusterOperatorConfig CO_CONFIG = ResourceUtils.dummyClusterOperatorConfig();
+    private final static ClusterCa CLUSTER_CA = new ClusterCa(
+            Reconciliation.DUMMY_RECONCILIATION,
+            new OpenSslCertManager(),
+            new PasswordGenerator(10, "a", "a"),
+            CLUSTER_NAME,
+            ResourceUtils.createInitialCaCertSecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaCertSecretName(CLUSTER_NAME), MockCertManager.clusterCaCert(), MockCertManager.clusterCaCertStore(), "123456"),
+            ResourceUtils.createInitialCaKeySecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaKeySecretName(CLUSTER_NAME), MockCertManager.clusterCaKey())
+    );
+    private final static ClientsCa CLIENTS_CA = new ClientsCa(
+            Reconciliation.DUMMY_RECONCILIATION,
+            new OpenSslCertManager(),
+            new PasswordGenerator(10, "a", "a"),
+            KafkaResources.clientsCaCertificateSecretName(CLUSTER_NAME),
+            ResourceUtils.createInitialCaCertSecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaCertSecretName(CLUSTER_NAME), MockCertManager.clusterCaCert(), MockCertManager.clusterCaCertStore(), "123456"),
+            KafkaResources.clientsCaKeySecretName(CLUSTER_NAME),
+            ResourceUtils.createInitialCaKeySecret(NAMESPACE, CLUSTER_NAME, AbstractModel.clusterCaKeySecretName(CLUSTER_NAME), MockCertManager.clusterCaKey()),
+            365,
+            30,
+            true,
+            null
+    );
+    private final static Kafka KAFKA = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("tls")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(true)
+                                .build())
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void beforeAll()  {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void afterAll()    {
+        vertx.close();
+    }
+
+    @Test
+    public void testStepsWaitForManualRollingUpdate() {
+        Promise<Void> manualRollingUpdate = Promise.promise();
+        MockKafkaReconcilerSteps reconciler = new MockKafkaReconcilerSteps(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                ResourceUtils.supplierWithMocks(false),
+                KAFKA,
+                manualRollingUpdate.future()
+        );
+
+        Future<Void> result = reconciler.reconcile(new KafkaStatus(), Clock.systemUTC());
+
+        // The steps which do not depend on the manual rolling update are done, the others wait for it
+        assertThat(result.isComplete(), is(false));
+        assertThat(reconciler.steps, containsInAnyOrder("modelWarnings", "brokerScaleDownCheck", "manualPodCleaning",
+                "networkPolicy", "manualRollingUpdate", "serviceAccount", "initClusterRoleBinding"));
+        assertThat(reconciler.steps.indexOf("networkPolicy"), is(lessThan(reconciler.steps.indexOf("manualRollingUpdate"))));
+
+        manualRollingUpdate.complete();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Stopped before the PodSets"));
+        assertThat(reconciler.steps.size(), is(16));
+        assertThat(reconciler.steps, hasItems("pvcs", "scaleDown", "updateNodePoolStatuses", "listeners", "certificateSecret",
+                "brokerConfigurationConfigMaps", "jmxSecret", "podDisruptionBudget", "migrateFromStatefulSetToPodSet"));
+        assertThat(reconciler.steps.indexOf("listeners"), is(lessThan(reconciler.steps.indexOf("certificateSecret"))));
+        assertThat(reconciler.steps.indexOf("scaleDown"), is(lessThan(reconciler.steps.indexOf("brokerConfigurationConfigMaps"))));
+        assertThat(reconciler.steps.get(reconciler.steps.size() - 1), is("migrateFromStatefulSetToPodSet"));
+    }
+
+    @Test
+    public void testStepsAreSkippedWhenManualRollingUpdateFails() {
+        MockKafkaReconcilerSteps reconciler = new MockKafkaReconcilerSteps(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                ResourceUtils.supplierWithMocks(false),
+                KAFKA,
+                Future.failedFuture("Manual rolling update failed")
+        );
+
+        Future<Void> result = reconciler.reconcile(new KafkaStatus(), Clock.systemUTC());
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Manual rolling update failed"));
+        assertThat(reconciler.steps, not(hasItems("listeners")));
+        assertThat(reconciler.steps, containsInAnyOrder("modelWarnings", "brokerScaleDownCheck", "manualPodCleaning",
+                "networkPolicy", "manualRollingUpdate", "serviceAccount", "initClusterRoleBinding"));
+    }
+
+    /**
+     * Records the steps which were started instead of running them. The manual rolling update completes with the given
+     * future and the reconciliation stops before the PodSets are reconciled.
+     */
+    static class MockKafkaReconcilerSteps extends KafkaReconciler {
+        private final List<String> steps = Collections.synchronizedList(new ArrayList<>());
+        private final Future<Void> manualRollingUpdate;
+
+        public MockKafkaReconcilerSteps(Reconciliation reconciliation, ResourceOperatorSupplier supplier, Kafka kafkaCr, Future<Void> manualRollingUpdate) {
+            super(reconciliation, kafkaCr, null, Map.of(), Map.of(), CLUSTER_CA, CLIENTS_CA, VERSION_CHANGE, CO_CONFIG, supplier, PFA, vertx, null);
+            this.manualRollingUpdate = manualRollingUpdate;
+        }
+
+        private Future<Void> step(String name) {
+            steps.add(name);
+            return Future.succeededFuture();
+        }
+
+        @Override
+        protected Future<Void> modelWarnings(KafkaStatus kafkaStatus) {
+            return step("modelWarnings");
+        }
+
+        @Override
+        protected Future<Void> brokerScaleDownCheck() {
+            return step("brokerScaleDownCheck");
+        }
+
+        @Override
+        protected Future<Void> manualPodCleaning() {
+            return step("manualPodCleaning");
+        }
+
+        @Override
+        protected Future<Void> networkPolicy() {
+            return step("networkPolicy");
+        }
+
+        @Override
+        protected Future<Void> manualRollingUpdate() {
+            steps.add("manualRollingUpdate");
+            return manualRollingUpdate;
+        }
+
+        @Override
+        protected Future<Void> pvcs(KafkaStatus kafkaStatus) {
+            return step("pvcs");
+        }
+
+        @Override
+        protected Future<Void> serviceAccount() {
+            return step("serviceAccount");
+        }
+
+        @Override
+        protected Future<Void> initClusterRoleBinding() {
+            return step("initClusterRoleBinding");
+        }
+
+        @Override
+        protected Future<Void> scaleDown() {
+            return step("scaleDown");
+        }
+
+        @Override
+        protected Future<Void> updateNodePoolStatuses(KafkaStatus kafkaStatus) {
+            return step("updateNodePoolStatuses");
+        }
+
+        @Override
+        protected Future<Void> listeners() {
+            return step("listeners");
+        }
+
+        @Override
+        protected Future<Void> certificateSecret(Clock clock) {
+            return step("certificateSecret");
+        }
+
+        @Override
+        protected Future<Void> brokerConfigurationConfigMaps() {
+            return step("brokerConfigurationConfigMaps");
+        }
+
+        @Override
+        protected Future<Void> jmxSecret() {
+            return step("jmxSecret");
+        }
+
+        @Override
+        protected Future<Void> podDisruptionBudget() {
+            return step("podDisruptionBudget");
+        }
+
+        @Override
+        protected Future<Void> migrateFromStatefulSetToPodSet() {
+            steps.add("migrateFromStatefulSetToPodSet");
+            return Future.failedFuture("Stopped before the PodSets");
+        }
+    }
+}
@@ -35,8 +35,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -480,6 +482,53 @@ public class OperatorMetricsTest {
                 })));
     }
 
+    @Test
+    public void testResourceStateUpdatesWithManyResources() {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        AbstractOperator operator = new ReconcileAllMockOperator(vertx, "TestResource", resourceOperatorWithExistingResourceWithoutSelectorLabel(), metrics, null);
+        MeterRegistry registry = metrics.meterRegistry();
+
+        Foo foo = new Foo();
+        foo.setMetadata(new ObjectMeta());
+
+        int resources = 10_000;
+        List<Reconciliation> reconciliations = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            reconciliations.add(new Reconciliation("test", "TestResource", "my-namespace", "my-resource-" + i));
+        }
+
+        // Registers the metrics, updates them with the same reason and then with a new reason
+        for (Reconciliation reconciliation : reconciliations) {
+            operator.updateResourceState(reconciliation, foo, true, null);
+        }
+
+        for (Reconciliation reconciliation : reconciliations) {
+            operator.updateResourceState(reconciliation, foo, true, null);
+        }
+
+        for (int i = 0; i < resources; i += 2) {
+            operator.updateResourceState(reconciliations.get(i), foo, false, new RuntimeException("failure"));
+        }
+
+        assertThat(registry.find(AbstractOperator.METRICS_PREFIX + "resource.state").gauges().size(), is(resources));
+        assertThat(registry.find(AbstractOperator.METRICS_PREFIX + "resource.state").tag("reason", "none").gauges().size(), is(resources / 2));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "resource.state")
+                .tag("name", "my-resource-0")
+                .tag("reason", "failure")
+                .gauge().value(), is(0.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "resource.state")
+                .tag("name", "my-resource-1")
+                .tag("reason", "none")
+                .gauge().value(), is(1.0));
+
+        // Deleted resources have their metrics removed
+        for (Reconciliation reconciliation : reconciliations) {
+            operator.updateResourceState(reconciliation, null, true, null);
+        }
+
+        assertThat(registry.find(AbstractOperator.METRICS_PREFIX + "resource.state").gauges().size(), is(0));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.strimzi.api.kafka.model.connect.KafkaConnect;
@@ -55,6 +56,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -712,6 +714,66 @@ public class StrimziPodSetControllerMockTest {
         }
     }
 
+    /**
+     * Tests the controller with multiple workers and pods created in parallel:
+     *   - Creation of multiple StrimziPodSets with multiple pods
+     *   - Metrics with the number of reconciliations done by each worker
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testParallelWorkersAndPodOperations(VertxTestContext context) {
+        // Replace the default controller with one using multiple workers
+        stopController();
+        controller = new StrimziPodSetController(NAMESPACE, Labels.fromMap(MATCHING_LABELS), kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator, podSetOperator, podOperator, metricsProvider, Integer.parseInt(ClusterOperatorConfig.POD_SET_CONTROLLER_WORK_QUEUE_SIZE.defaultValue()), 3, 3);
+        controller.start();
+
+        // The StrimziPodSets belong to different custom resources to not select each other's pods
+        Map<String, String> podSets = Map.of("parallel-kafka", "Kafka", "parallel-connect", "KafkaConnect");
+        Map<String, String> owners = Map.of("Kafka", KAFKA_NAME, "KafkaConnect", CONNECT_NAME);
+
+        try {
+            podSets.forEach((podSetName, kind) -> {
+                Pod[] pods = IntStream.range(0, 4)
+                        .mapToObj(i -> pod(podSetName + "-" + i, owners.get(kind), podSetName, kind))
+                        .toArray(Pod[]::new);
+                podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, owners.get(kind), kind, pods)).create();
+            });
+
+            for (String podSetName : podSets.keySet()) {
+                TestUtils.waitFor(
+                        "Wait for StrimziPodSetStatus",
+                        100,
+                        10_000,
+                        () -> {
+                            StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                            return podSet.getStatus() != null
+                                    && podSet.getStatus().getCurrentPods() == 4
+                                    && podSet.getStatus().getReadyPods() == 4
+                                    && podSet.getStatus().getPods() == 4;
+                        },
+                        () -> context.failNow("Pod stats do not match"));
+
+                for (int i = 0; i < 4; i++) {
+                    checkOwnerReference(client.pods().inNamespace(NAMESPACE).withName(podSetName + "-" + i).get(), podSetName);
+                }
+            }
+
+            // Depending on timing, the reconciliations might be done by any of the workers
+            double reconciliations = metricsProvider.meterRegistry().get(AbstractOperator.METRICS_PREFIX + "controller.worker.reconciliations")
+                    .tag("kind", "StrimziPodSet")
+                    .counters()
+                    .stream()
+                    .mapToDouble(Counter::count)
+                    .sum();
+            assertThat(reconciliations, greaterThanOrEqualTo(2.0));
+
+            context.completeNow();
+        } finally {
+            podSets.keySet().forEach(podSetName -> podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete());
+        }
+    }
+
     /**
      * Tests the handling of failed Pod:
      *   - Creation of StrimziPodSet and the managed pod
@@ -0,0 +1,181 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private static Future<String> get(HttpClientPool pool, String scope, HttpClientOptions options, int port) {
+        return get(pool, scope, null, options, port);
+    }
+
+    private static Future<String> get(HttpClientPool pool, String scope, String credentialsHash, HttpClientOptions options, int port) {
+        return pool.withHttpClient(scope, credentialsHash, options, (httpClient, result) ->
+                httpClient.request(HttpMethod.GET, port, "127.0.0.1", "/")
+                        .compose(request -> request.send())
+                        .compose(HttpClientResponse::body)
+                        .onComplete(body -> {
+                            if (body.succeeded()) {
+                                result.complete(body.result().toString());
+                            } else {
+                                result.fail(body.cause());
+                            }
+                        }));
+    }
+
+    /**
+     * Sends the request after a short delay, to give the client time to return the connection used by the previous
+     * request to the pool
+     */
+    private static Future<String> getLater(Vertx vertx, HttpClientPool pool, String scope, HttpClientOptions options, int port) {
+        return getLater(vertx, pool, scope, null, options, port);
+    }
+
+    private static Future<String> getLater(Vertx vertx, HttpClientPool pool, String scope, String credentialsHash, HttpClientOptions options, int port) {
+        Promise<Void> delay = Promise.promise();
+        vertx.setTimer(50, id -> delay.complete());
+
+        return delay.future().compose(i -> get(pool, scope, credentialsHash, options, port));
+    }
+
+    /**
+     * Options trusting the given certificate. TLS is not enabled, so that the requests can be sent to the plain HTTP
+     * mock server, but the trusted certificate is still part of the options.
+     */
+    private static HttpClientOptions trustOptions(String cert) {
+        return new HttpClientOptions().setPemTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer(cert)));
+    }
+
+    private static HttpServer mockApi(Vertx vertx) throws InterruptedException, ExecutionException {
+        HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(200).end("OK"));
+
+        return httpServer.listen(0).toCompletionStage().toCompletableFuture().get();
+    }
+
+    @Test
+    public void testConnectionsAreReused(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = mockApi(vertx);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, false, new MicrometerMetricsProvider(registry));
+        HttpClientOptions options = new HttpClientOptions();
+
+        Checkpoint async = context.checkpoint();
+        get(pool, "scope", options, server.actualPort())
+                .compose(i -> getLater(vertx, pool, "scope", options, server.actualPort()))
+                .compose(i -> getLater(vertx, pool, "scope", options, server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    assertThat(registry.get("strimzi.http.client.requests").tag("api", "test").counter().count(), is(3.0));
+                    assertThat(registry.get("strimzi.http.client.connections").tag("api", "test").counter().count(), is(1.0));
+                    assertThat(registry.get("strimzi.http.client.request.duration").tag("api", "test").timer().count(), is(3L));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenOptionsChange(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = mockApi(vertx);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, false, new MicrometerMetricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        get(pool, "scope", new HttpClientOptions(), server.actualPort())
+                .compose(i -> getLater(vertx, pool, "other-scope", new HttpClientOptions(), server.actualPort()))
+                .compose(i -> getLater(vertx, pool, "scope", new HttpClientOptions().setConnectTimeout(1_000), server.actualPort()))
+                .compose(i -> getLater(vertx, pool, "scope", new HttpClientOptions().setConnectTimeout(1_000), server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    // One connection per scope and one more for the client with the changed options
+                    assertThat(registry.get("strimzi.http.client.connections").tag("api", "test").counter().count(), is(3.0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenTrustedCertificatesChange(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = mockApi(vertx);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, false, new MicrometerMetricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        get(pool, "scope", "hash1", trustOptions("ca1"), server.actualPort())
+                .compose(i -> getLater(vertx, pool, "scope", "hash1", trustOptions("ca1"), server.actualPort()))
+                .compose(i -> getLater(vertx, pool, "scope", "hash2", trustOptions("ca2"), server.actualPort()))
+                .compose(i -> getLater(vertx, pool, "scope", "hash2", trustOptions("ca2"), server.actualPort()))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    // One connection for the client trusting the old certificate and one for the client trusting the new one
+                    assertThat(registry.get("strimzi.http.client.connections").tag("api", "test").counter().count(), is(2.0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIdleTimeoutHasToBePositive(Vertx vertx) {
+        assertThrows(IllegalArgumentException.class, () -> new HttpClientPool(vertx, "test", 5, false, 0, new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+    }
+
+    @Test
+    public void testIdleClientIsClosed(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        Promise<Void> connectionClosed = Promise.promise();
+        HttpServer server = vertx.createHttpServer()
+                .connectionHandler(connection -> connection.closeHandler(v -> connectionClosed.tryComplete()))
+                .requestHandler(request -> request.response().setStatusCode(200).end("OK"))
+                .listen(0).toCompletionStage().toCompletableFuture().get();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 5, false, 100, new MicrometerMetricsProvider(registry));
+
+        Checkpoint async = context.checkpoint();
+        get(pool, "scope", new HttpClientOptions(), server.actualPort())
+                .compose(body -> {
+                    context.verify(() -> assertThat(pool.size(), is(1)));
+                    // The keep-alive timeout of the connection is much longer, so the connection is closed only
+                    // because the idle client is closed
+                    return connectionClosed.future();
+                })
+                .compose(i -> {
+                    context.verify(() -> assertThat(pool.size(), is(0)));
+                    // The scope gets a new client when it is used again
+                    return get(pool, "scope", new HttpClientOptions(), server.actualPort());
+                })
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("OK"));
+                    assertThat(pool.size(), is(1));
+                    assertThat(registry.get("strimzi.http.client.connections").tag("api", "test").counter().count(), is(2.0));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+}
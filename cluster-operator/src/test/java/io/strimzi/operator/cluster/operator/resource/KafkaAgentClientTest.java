@@ -4,9 +4,24 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.certs.JcaCertManager;
+import io.strimzi.certs.KeyAlgorithm;
+import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,4 +76,46 @@ public class KafkaAgentClientTest {
         assertEquals(0, actual.remainingLogsToRecover());
         assertEquals(0, actual.remainingSegmentsToRecover());
     }
+
+    @Test
+    public void testHttpClientWithEcKey() throws IOException {
+        JcaCertManager certManager = new JcaCertManager(KeyAlgorithm.EC, null);
+        File caKey = Files.createTempFile("ca", ".key").toFile();
+        File caCert = Files.createTempFile("ca", ".crt").toFile();
+        File coKey = Files.createTempFile("cluster-operator", ".key").toFile();
+        File coCsr = Files.createTempFile("cluster-operator", ".csr").toFile();
+        File coCert = Files.createTempFile("cluster-operator", ".crt").toFile();
+
+        try {
+            certManager.generateSelfSignedCert(caKey, caCert, new Subject.Builder().withCommonName("cluster-ca").build(), 365);
+            certManager.generateCsr(coKey, coCsr, new Subject.Builder().withCommonName("cluster-operator").build());
+            certManager.generateCert(coCsr, caKey, caCert, coCert, new Subject.Builder().withCommonName("cluster-operator").build(), 365);
+            assertThat(new String(Files.readAllBytes(coKey.toPath()), StandardCharsets.US_ASCII), containsString("BEGIN PRIVATE KEY"));
+
+            Secret clusterCaCertSecret = new SecretBuilder()
+                    .withNewMetadata()
+                        .withName("my-cluster-cluster-ca-cert")
+                    .endMetadata()
+                    .withData(Map.of("ca.crt", encode(caCert)))
+                    .build();
+            Secret coKeySecret = new SecretBuilder()
+                    .withNewMetadata()
+                        .withName("my-cluster-cluster-operator-certs")
+                    .endMetadata()
+                    .withData(Map.of("cluster-operator.crt", encode(coCert),
+                            "cluster-operator.key", encode(coKey),
+                            "cluster-operator.password", Base64.getEncoder().encodeToString("changeit".getBytes(StandardCharsets.US_ASCII))))
+                    .build();
+
+            assertDoesNotThrow(() -> new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace", clusterCaCertSecret, coKeySecret));
+        } finally {
+            for (File file : new File[]{caKey, caCert, coKey, coCsr, coCert}) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    private static String encode(File file) throws IOException {
+        return Base64.getEncoder().encodeToString(Files.readAllBytes(file.toPath()));
+    }
 }
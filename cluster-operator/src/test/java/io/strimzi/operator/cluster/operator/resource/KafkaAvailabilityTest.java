@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -26,6 +27,8 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,11 +37,16 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,6 +62,8 @@ public class KafkaAvailabilityTest {
         private Throwable listTopicsResult;
         private final Map<String, Throwable> describeTopicsResult = new HashMap<>(1);
         private final Map<ConfigResource, Throwable> describeConfigsResult = new HashMap<>(1);
+        private final List<String> describedTopics = new ArrayList<>();
+        private final List<String> describedConfigs = new ArrayList<>();
 
         class TSB {
             class PSB {
@@ -184,6 +194,7 @@ public class KafkaAvailabilityTest {
             when(mockAc.describeTopics(anyCollection())).thenAnswer(invocation -> {
                 DescribeTopicsResult dtr = mock(DescribeTopicsResult.class);
                 Collection<String> topicNames = invocation.getArgument(0);
+                describedTopics.addAll(topicNames);
                 Throwable throwable = null;
                 for (String topicName : topicNames) {
                     throwable = describeTopicsResult.get(topicName);
@@ -194,7 +205,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.allTopicNames()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                             Map.Entry::getKey,
                         e -> {
                             TSB tsb = e.getValue();
@@ -223,6 +234,7 @@ public class KafkaAvailabilityTest {
         void mockDescribeConfigs(Admin mockAc) {
             when(mockAc.describeConfigs(any())).thenAnswer(invocation -> {
                 Collection<ConfigResource> argument = invocation.getArgument(0);
+                argument.forEach(cr -> describedConfigs.add(cr.name()));
                 DescribeConfigsResult dcr = mock(DescribeConfigsResult.class);
                 Throwable throwable = null;
                 for (ConfigResource configResource : argument) {
@@ -633,4 +645,218 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testIndexIsRefreshedBetweenChecks(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addBroker(3);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> {
+                        assertTrue(canRoll);
+                        // The first check describes all the topics
+                        assertThat(ksb.describedTopics, containsInAnyOrder("A", "B"));
+                        assertThat(ksb.describedConfigs, containsInAnyOrder("A", "B"));
+                    });
+
+                    // The ISR of A shrinks, B is deleted and C is created
+                    ksb.topics.get("A").partitions.get(0).isr(0, 2);
+                    ksb.topics.remove("B");
+                    ksb.addNewTopic("C", false)
+                            .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                            .addNewPartition(0)
+                                .replicaOn(3)
+                                .leader(3)
+                                .isr(3)
+                            .endPartition();
+                    ksb.describedTopics.clear();
+                    ksb.describedConfigs.clear();
+
+                    return kafkaAvailability.canRoll(2);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> {
+                        assertFalse(canRoll, "broker 2 should not be rollable, the ISR of A is at its min.insync.replicas");
+                        // All the existing topics are described again
+                        assertThat(ksb.describedTopics, containsInAnyOrder("A", "C"));
+                        // The min.insync.replicas of A is cached, C is not on broker 2
+                        assertThat(ksb.describedConfigs, is(empty()));
+                    });
+                    ksb.describedTopics.clear();
+
+                    return kafkaAvailability.canRoll(3);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertTrue(canRoll);
+                    assertThat(ksb.describedTopics, containsInAnyOrder("A", "C"));
+                    // Only the min.insync.replicas of C is not cached yet
+                    assertThat(ksb.describedConfigs, contains("C"));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReplicasMovedToBrokerAreChecked(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 3)
+                        .leader(0)
+                        .isr(0, 1, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 3)
+                        .leader(1)
+                        .isr(1, 3)
+                    .endPartition()
+                .endTopic()
+                .addBroker(2);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll));
+
+                    // A replica of A moves from broker 3 to broker 2 and only the new replica is in-sync with the
+                    // leader. The move is already complete, so it is not listed as an ongoing reassignment.
+                    ksb.topics.get("A").partitions.get(0)
+                            .replicaOn(0, 1, 2)
+                            .leader(0)
+                            .isr(0, 2);
+
+                    return kafkaAvailability.canRoll(2);
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "broker 2 should not be rollable, the ISR of A is at its min.insync.replicas"));
+
+                    // A partition of B is added with a replica on broker 3 and its ISR is at its min.insync.replicas
+                    ksb.topics.get("B").addNewPartition(1)
+                            .replicaOn(0, 2, 3)
+                            .leader(3)
+                            .isr(0, 3)
+                        .endPartition();
+                    ksb.topics.get("A").partitions.get(0).isr(0, 1, 2);
+
+                    return kafkaAvailability.canRoll(3);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 3 should not be rollable, the ISR of the new partition of B is at its min.insync.replicas");
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testCanRollBrokersTogether(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.canRoll(Set.of(0, 3))
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "brokers 0 and 3 should be rollable together, they do not share any partition"));
+                    return kafkaAvailability.canRoll(Set.of(0, 1));
+                })
+                .compose(canRoll -> {
+                    context.verify(() -> assertFalse(canRoll, "brokers 0 and 1 should not be rollable together, A would have only one in-sync replica"));
+                    return kafkaAvailability.refresh();
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertFalse(kafkaAvailability.wouldAffectAvailability(Set.of(0, 3)));
+                    assertFalse(kafkaAvailability.wouldAffectAvailability(Set.of(0, 3, 6)));
+                    assertTrue(kafkaAvailability.wouldAffectAvailability(Set.of(4, 5)));
+                    async.flag();
+                })));
+    }
+
+    /**
+     * Shows how the cost of the availability checks of a rolling restart depends on the number of partitions:
+     * every check describes all the topics, but the {@code min.insync.replicas} of each topic is described only once.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 10_000})
+    public void testCanRollDescribesMinIsrOnlyOnce(int numTopics, VertxTestContext context) {
+        int numBrokers = 12;
+        KSB ksb = new KSB();
+        for (int t = 0; t < numTopics; t++) {
+            KSB.TSB topic = ksb.addNewTopic("topic-" + t, false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2");
+            for (int p = 0; p < 2; p++) {
+                int leader = (t + p) % numBrokers;
+                int[] replicas = {leader, (leader + 1) % numBrokers, (leader + 2) % numBrokers};
+                topic.addNewPartition(p)
+                        .replicaOn(replicas)
+                        .leader(leader)
+                        .isr(replicas)
+                    .endPartition();
+            }
+        }
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Future<Boolean> rolled = Future.succeededFuture(true);
+        List<Integer> describedPerCheck = new ArrayList<>();
+        for (int broker = 0; broker < numBrokers; broker++) {
+            int brokerId = broker;
+            rolled = rolled.compose(previous -> {
+                int described = ksb.describedTopics.size();
+                return kafkaAvailability.canRoll(brokerId).map(canRoll -> {
+                    describedPerCheck.add(ksb.describedTopics.size() - described);
+                    return previous && canRoll;
+                });
+            });
+        }
+
+        rolled.onComplete(context.succeeding(allCanRoll -> context.verify(() -> {
+            assertTrue(allCanRoll);
+            for (int check = 0; check < numBrokers; check++) {
+                assertThat(describedPerCheck.get(check), is(numTopics));
+            }
+            // The min.insync.replicas of every topic is described only once
+            assertThat(ksb.describedConfigs.size(), is(numTopics));
+            context.completeNow();
+        })));
+    }
 }
@@ -300,4 +300,14 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testChangedAndRemovedProperties() {
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION,
+                getCurrentConfiguration(singletonList(new ConfigEntry("log.retention.hours", "168"))),
+                getDesiredConfiguration(singletonList(new ConfigEntry("auto.create.topics.enable", "false"))), kafkaVersion, nodeRef);
+        assertThat(kcd.getDiffSize(), is(2));
+        assertConfig(kcd, new ConfigEntry("auto.create.topics.enable", "false"));
+        assertConfig(kcd, new ConfigEntry("log.retention.hours", null));
+        assertThat(kcd.getConfigDiff().stream().filter(op -> op.opType() == AlterConfigOp.OpType.DELETE).map(op -> op.configEntry().name()).toList(), is(singletonList("log.retention.hours")));
+    }
 }
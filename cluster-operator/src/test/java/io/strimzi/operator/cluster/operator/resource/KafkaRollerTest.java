@@ -8,6 +8,8 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
@@ -17,7 +19,10 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -59,6 +64,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.vertx.core.Future.failedFuture;
@@ -704,6 +710,82 @@ public class KafkaRollerTest {
                 asList(7, 4, 3, 5, 6, 8, 1, 0, 2)); //Rolls in order: unready controllers, ready controllers, unready brokers, ready brokers
     }
 
+    @Test
+    public void testRollInRackBatchesWithControllerLast(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        MetricsHolder metrics = new OperatorMetricsHolder("Kafka", null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        List<Node> clusterNodes = List.of(node(0, "zone-a"), node(1, "zone-b"), node(2, "zone-a"),
+                node(3, "zone-b"), node(4, "zone-a"), node(5, "zone-b"));
+        TestingKafkaRoller kafkaRoller = batchRoller(podOps, 6, 3, metrics, clusterNodes, brokers -> true, 4);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Brokers from the same rack are rolled together and the controller is rolled last on its own
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(6));
+                    assertThat(Set.copyOf(restarted.subList(0, 2)), is(Set.of(0, 2)));
+                    assertThat(Set.copyOf(restarted.subList(2, 5)), is(Set.of(1, 3, 5)));
+                    assertThat(restarted.get(5), is(4));
+
+                    DistributionSummary batchSize = metrics.rollingRestartBatchSize(stsNamespace());
+                    assertThat(batchSize.count(), is(3L));
+                    assertThat(batchSize.totalAmount(), is(6.0));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRollInBatchesOfBrokersWhichCanRollTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        List<Node> clusterNodes = List.of(node(0, null), node(1, null), node(2, null), node(3, null), node(4, null));
+        TestingKafkaRoller kafkaRoller = batchRoller(podOps, 5, 2, null, clusterNodes,
+                brokers -> !(brokers.contains(1) && brokers.contains(2)), 0);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // Brokers 1 and 2 share a partition which would go offline, so they are never rolled together
+                    List<Integer> restarted = restarted();
+                    assertThat(restarted.size(), is(5));
+                    assertThat(Set.copyOf(restarted.subList(0, 2)), is(Set.of(1, 3)));
+                    assertThat(Set.copyOf(restarted.subList(2, 4)), is(Set.of(2, 4)));
+                    assertThat(restarted.get(4), is(0));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRollOneAtATimeWhenBatchPlanningFails(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        MetricsHolder metrics = new OperatorMetricsHolder("Kafka", null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        // Without the cluster nodes, describing the cluster fails and the batches cannot be planned
+        TestingKafkaRoller kafkaRoller = batchRoller(podOps, 6, 3, metrics, null, brokers -> true, 4);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), is(asList(0, 1, 2, 3, 5, 4)));
+                    assertThat(metrics.rollingRestartBatchSize(stsNamespace()).count(), is(0L));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    private static Node node(int id, String rack) {
+        return new Node(id, KafkaResources.kafkaPodName(clusterName(), id), 9092, rack);
+    }
+
+    private TestingKafkaRoller batchRoller(PodOperator podOps, int replicas, int maxBatchSize, MetricsHolder metrics,
+                                           Collection<Node> clusterNodes, Predicate<Set<Integer>> canRollTogether, int controller) {
+        return new TestingKafkaRoller(null, null, addPodNames(replicas), podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), false, null, maxBatchSize, metrics, clusterNodes, canRollTogether, controller);
+    }
+
     private TestingKafkaRoller rollerWithControllers(PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -789,7 +871,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -838,6 +920,8 @@ public class KafkaRollerTest {
         private final int[] controllers;
         private final List<String> tcpProbes = new ArrayList<>();
         private final BrokerState brokerState;
+        private final Collection<Node> clusterNodes;
+        private final Predicate<Set<Integer>> canRollTogether;
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, Set<NodeRef> nodes,
@@ -851,6 +935,26 @@ public class KafkaRollerTest {
                                    boolean delegateControllerCall,
                                    AdminClientProvider adminClientProvider,
                                    boolean delegateAdminClientCall, BrokerState brokerState, int... controllers) {
+            this(clusterCaCertSecret, coKeySecret, nodes, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, delegateControllerCall, adminClientProvider,
+                    delegateAdminClientCall, brokerState, 1, null, null, brokers -> true, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, Set<NodeRef> nodes,
+                                   PodOperator podOps,
+                                   Function<Set<NodeRef>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   boolean delegateControllerCall,
+                                   AdminClientProvider adminClientProvider,
+                                   boolean delegateAdminClientCall, BrokerState brokerState,
+                                   int maxBatchSize, MetricsHolder metrics,
+                                   Collection<Node> clusterNodes, Predicate<Set<Integer>> canRollTogether,
+                                   int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -866,7 +970,9 @@ public class KafkaRollerTest {
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class));
+                    mock(KubernetesRestartEventPublisher.class),
+                    maxBatchSize,
+                    metrics);
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
             this.controllers = controllers;
@@ -880,6 +986,8 @@ public class KafkaRollerTest {
             this.canRollFn = canRollFn;
             this.unclosedAdminClients = new IdentityHashMap<>();
             this.brokerState = brokerState;
+            this.clusterNodes = clusterNodes;
+            this.canRollTogether = canRollTogether;
         }
 
         @Override
@@ -904,8 +1012,11 @@ public class KafkaRollerTest {
             if (exception != null) {
                 throw new ForceableProblem("An error while try to create the admin client", exception);
             }
+            DescribeClusterResult describeClusterResult = describeClusterResult();
             Admin ac = mock(AdminClient.class, invocation -> {
-                if ("close".equals(invocation.getMethod().getName())) {
+                if ("describeCluster".equals(invocation.getMethod().getName()) && describeClusterResult != null) {
+                    return describeClusterResult;
+                } else if ("close".equals(invocation.getMethod().getName())) {
                     Admin mock = (Admin) invocation.getMock();
                     unclosedAdminClients.remove(mock);
                     if (acCloseException != null) {
@@ -919,6 +1030,21 @@ public class KafkaRollerTest {
             return ac;
         }
 
+        private DescribeClusterResult describeClusterResult() {
+            if (clusterNodes == null) {
+                return null;
+            }
+
+            Node controller = clusterNodes.stream()
+                    .filter(node -> controllers.length > 0 && node.id() == controllers[0])
+                    .findFirst()
+                    .orElse(Node.noNode());
+            DescribeClusterResult result = mock(DescribeClusterResult.class);
+            when(result.nodes()).thenReturn(KafkaFuture.completedFuture(clusterNodes));
+            when(result.controller()).thenReturn(KafkaFuture.completedFuture(controller));
+            return result;
+        }
+
         @Override
         protected KafkaAvailability availability(Admin ac) {
             return new KafkaAvailability(null, null) {
@@ -936,6 +1062,16 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(Set<Integer> podIds) {
+                    return succeededFuture(canRollTogether.test(podIds));
+                }
+
+                @Override
+                boolean wouldAffectAvailability(Set<Integer> podIds) {
+                    return !canRollTogether.test(podIds);
+                }
             };
         }
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ParallelSuite
+public class RollingRestartPlanTest {
+    private static NodeRef broker(int id) {
+        return new NodeRef("my-cluster-kafka-" + id, id, "kafka", false, true);
+    }
+
+    private static List<NodeRef> brokers(int... ids) {
+        return IntStream.of(ids).mapToObj(RollingRestartPlanTest::broker).toList();
+    }
+
+    @ParallelTest
+    public void testBatchesByRack() {
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-b", 2, "zone-c", 3, "zone-a", 4, "zone-b", 5, "zone-c", 6, "zone-a");
+
+        List<List<NodeRef>> batches = RollingRestartPlan.batches(brokers(0, 1, 2, 3, 4, 5, 6), racks, 2, -1, ids -> true);
+
+        assertThat(batches, is(List.of(brokers(0, 3), brokers(1, 4), brokers(2, 5), brokers(6))));
+    }
+
+    @ParallelTest
+    public void testBatchesWithoutRacks() {
+        List<List<NodeRef>> batches = RollingRestartPlan.batches(brokers(0, 1, 2, 3, 4), Map.of(), 3, -1, ids -> true);
+
+        assertThat(batches, is(List.of(brokers(0, 1, 2), brokers(3, 4))));
+    }
+
+    @ParallelTest
+    public void testBatchesAreLimitedByAvailability() {
+        // Brokers 0 and 1 host the same partitions and cannot be rolled together
+        List<List<NodeRef>> batches = RollingRestartPlan.batches(brokers(0, 1, 2, 3), Map.of(), 4, -1,
+                ids -> !(ids.contains(0) && ids.contains(1)));
+
+        assertThat(batches, is(List.of(brokers(0, 2, 3), brokers(1))));
+    }
+
+    @ParallelTest
+    public void testControllerIsRolledLast() {
+        List<List<NodeRef>> batches = RollingRestartPlan.batches(brokers(0, 1, 2, 3), Map.of(), 4, 1, ids -> true);
+
+        assertThat(batches, is(List.of(brokers(0, 2, 3), brokers(1))));
+    }
+
+    @ParallelTest
+    public void testSingleBrokerBatches() {
+        List<List<NodeRef>> batches = RollingRestartPlan.batches(brokers(2, 0, 1), Map.of(), 1, -1, ids -> true);
+
+        assertThat(batches, is(List.of(brokers(2), brokers(0), brokers(1))));
+    }
+}
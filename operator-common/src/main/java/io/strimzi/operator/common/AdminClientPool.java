@@ -0,0 +1,386 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.common.metrics.AdminClientPoolMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Pool of long-lived Kafka Admin clients shared by the reconciliations of the same Kafka cluster.
+ *
+ * The clients are created by the delegate provider and are keyed by the cluster (the namespace and name of the cluster
+ * CA certificate Secret), the bootstrap address, the client configuration and a hash of the credentials. Every call to
+ * one of the {@code createAdminClient} methods returns a lease of the pooled client. Closing the lease only returns the
+ * client to the pool, so the callers can keep closing the clients as they did with the non-pooled provider.
+ *
+ * When a client is requested with different credentials than the pooled clients of the same cluster (for example after
+ * the cluster CA or the Cluster Operator certificate was renewed), the pooled clients of the cluster are removed from
+ * the pool and closed once their last lease is closed. The clients which were not leased for longer than the idle
+ * timeout are closed and removed from the pool periodically.
+ *
+ * The clients are created outside of the pool lock, so creating a client (which might be slow) does not block the
+ * callers asking for the clients of other clusters. The concurrent callers asking for the same client wait for it to
+ * be created and share it.
+ */
+public class AdminClientPool implements AdminClientProvider, AutoCloseable {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminClientPool.class);
+
+    /**
+     * Key of the pooled client
+     *
+     * @param cluster               Identity of the Kafka cluster
+     * @param bootstrapHostnames    Bootstrap address
+     * @param keyCertName           Name of the key and certificate used for the TLS client authentication
+     * @param config                Additional configuration of the client
+     * @param credentialsHash       Hash of the trusted certificates and of the key and certificate
+     */
+    private record ClientKey(String cluster, String bootstrapHostnames, String keyCertName, Map<Object, Object> config, String credentialsHash) { }
+
+    /**
+     * Pooled Admin client. The Admin client future is completed by the caller which created the pooled client. The
+     * mutable fields are guarded by the pool.
+     */
+    private static class PooledClient {
+        private final ClientKey key;
+        private final CompletableFuture<Admin> admin = new CompletableFuture<>();
+        private int leases = 0;
+        private long lastUsedMs;
+        private boolean retired = false;
+
+        PooledClient(ClientKey key, long nowMs) {
+            this.key = key;
+            this.lastUsedMs = nowMs;
+        }
+    }
+
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final AdminClientPoolMetricsHolder metrics;
+    private final LongSupplier clockMs;
+    private final Map<ClientKey, PooledClient> clients = new HashMap<>();
+    private final ScheduledExecutorService evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "admin-client-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean closed = false;
+
+    /**
+     * Constructs the Admin client pool and starts the periodic eviction of the idle clients
+     *
+     * @param delegate          Provider used to create the Admin clients
+     * @param idleTimeoutMs     Time in milliseconds after which a client which is not leased is closed. Has to be positive.
+     * @param metricsProvider   Metrics provider
+     */
+    public AdminClientPool(AdminClientProvider delegate, long idleTimeoutMs, MetricsProvider metricsProvider) {
+        this(delegate, idleTimeoutMs, new AdminClientPoolMetricsHolder(metricsProvider), () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+    }
+
+    /* test */ AdminClientPool(AdminClientProvider delegate, long idleTimeoutMs, AdminClientPoolMetricsHolder metrics, LongSupplier clockMs) {
+        if (idleTimeoutMs <= 0) {
+            throw new IllegalArgumentException("The idle timeout of the Admin client pool has to be positive, but was " + idleTimeoutMs);
+        }
+
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.metrics = metrics;
+        this.clockMs = clockMs;
+
+        evictionExecutor.scheduleWithFixedDelay(this::evictIdleClients, idleTimeoutMs, idleTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        return createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, new Properties());
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName, Properties config) {
+        ClientKey key = new ClientKey(cluster(bootstrapHostnames, clusterCaCertSecret),
+                bootstrapHostnames,
+                keyCertName,
+                Map.copyOf(config),
+                credentialsHash(clusterCaCertSecret, keyCertSecret, keyCertName));
+        List<PooledClient> outdated = new ArrayList<>();
+        PooledClient client;
+        boolean create = false;
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The Admin client pool is closed");
+            }
+
+            client = clients.get(key);
+
+            if (client == null) {
+                outdated.addAll(retireOutdatedClients(key));
+
+                client = new PooledClient(key, clockMs.getAsLong());
+                clients.put(key, client);
+                metrics.clients().set(clients.size());
+                create = true;
+            }
+
+            client.leases++;
+            client.lastUsedMs = clockMs.getAsLong();
+            metrics.activeLeases().incrementAndGet();
+        }
+
+        outdated.forEach(this::closeClient);
+
+        if (create) {
+            try {
+                // The delegate provider might modify the configuration, so it gets a copy
+                Properties clientConfig = new Properties();
+                clientConfig.putAll(config);
+
+                client.admin.complete(delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, clientConfig));
+                metrics.created();
+                LOGGER.debugOp("Created pooled Admin client for {}", bootstrapHostnames);
+            } catch (RuntimeException e) {
+                client.admin.completeExceptionally(e);
+            }
+        }
+
+        Admin admin;
+        try {
+            admin = client.admin.join();
+        } catch (CompletionException e) {
+            failed(client);
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        metrics.leased();
+
+        return lease(client, admin);
+    }
+
+    /**
+     * Returns the lease of a client which failed to be created and removes the client from the pool, so that the next
+     * caller tries to create it again.
+     *
+     * @param client    Client which failed to be created
+     */
+    private void failed(PooledClient client) {
+        synchronized (this) {
+            client.leases--;
+            metrics.activeLeases().decrementAndGet();
+
+            if (clients.remove(client.key, client)) {
+                metrics.clients().set(clients.size());
+            }
+        }
+    }
+
+    /**
+     * Removes from the pool the clients of the same cluster which use other credentials. The clients which are not
+     * leased are returned to be closed. The other clients are closed when their last lease is closed.
+     *
+     * @param key   Key of the client which is being created
+     *
+     * @return  List of the outdated clients which should be closed
+     */
+    private List<PooledClient> retireOutdatedClients(ClientKey key) {
+        List<PooledClient> outdated = new ArrayList<>();
+
+        for (Iterator<PooledClient> it = clients.values().iterator(); it.hasNext(); ) {
+            PooledClient client = it.next();
+
+            if (client.key.cluster().equals(key.cluster()) && !client.key.credentialsHash().equals(key.credentialsHash())) {
+                it.remove();
+                client.retired = true;
+                metrics.evictedCredentials();
+
+                if (client.leases == 0) {
+                    outdated.add(client);
+                }
+            }
+        }
+
+        return outdated;
+    }
+
+    /**
+     * Closes and removes from the pool the clients which were not leased for longer than the idle timeout
+     */
+    /* test */ void evictIdleClients() {
+        List<PooledClient> idle = new ArrayList<>();
+
+        synchronized (this) {
+            long nowMs = clockMs.getAsLong();
+
+            for (Iterator<PooledClient> it = clients.values().iterator(); it.hasNext(); ) {
+                PooledClient client = it.next();
+
+                if (client.leases == 0 && nowMs - client.lastUsedMs >= idleTimeoutMs) {
+                    it.remove();
+                    metrics.evictedIdle();
+                    idle.add(client);
+                }
+            }
+
+            metrics.clients().set(clients.size());
+        }
+
+        idle.forEach(this::closeClient);
+    }
+
+    private void release(PooledClient client) {
+        boolean close;
+
+        synchronized (this) {
+            client.leases--;
+            client.lastUsedMs = clockMs.getAsLong();
+            metrics.activeLeases().decrementAndGet();
+            close = client.leases == 0 && client.retired;
+        }
+
+        if (close) {
+            closeClient(client);
+        }
+    }
+
+    /**
+     * Closes the pooled client. When the client is still being created, it is closed once it is created. Clients which
+     * failed to be created are ignored.
+     *
+     * @param client    Client which should be closed
+     */
+    private void closeClient(PooledClient client) {
+        client.admin.thenAccept(admin -> {
+            LOGGER.debugOp("Closing pooled Admin client for {}", client.key.bootstrapHostnames());
+
+            try {
+                admin.close();
+            } catch (RuntimeException e) {
+                LOGGER.warnOp("Failed to close pooled Admin client for {}", client.key.bootstrapHostnames(), e);
+            }
+        });
+    }
+
+    /**
+     * Closes all pooled clients, including the clients which are still leased, and stops the eviction of the idle
+     * clients
+     */
+    @Override
+    public void close() {
+        List<PooledClient> all;
+
+        synchronized (this) {
+            closed = true;
+            all = new ArrayList<>(clients.values());
+            clients.clear();
+            metrics.clients().set(0);
+        }
+
+        evictionExecutor.shutdownNow();
+        all.forEach(this::closeClient);
+    }
+
+    /**
+     * Creates a lease of the pooled client. The lease delegates all calls to the pooled client, apart from closing it
+     * which returns the client to the pool. Closing the lease more than once has no effect.
+     */
+    private Admin lease(PooledClient client, Admin admin) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("close".equals(method.getName())) {
+                if (released.compareAndSet(false, true)) {
+                    release(client);
+                }
+
+                return null;
+            } else if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method, args);
+            }
+
+            try {
+                return method.invoke(admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, handler);
+    }
+
+    private static Object objectMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "PooledAdmin@" + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+
+    private static String cluster(String bootstrapHostnames, Secret clusterCaCertSecret) {
+        if (clusterCaCertSecret != null && clusterCaCertSecret.getMetadata() != null) {
+            return clusterCaCertSecret.getMetadata().getNamespace() + "/" + clusterCaCertSecret.getMetadata().getName();
+        } else {
+            return bootstrapHostnames;
+        }
+    }
+
+    /**
+     * Hashes the trusted certificates and the key and certificate used by the client, so that the clients using
+     * outdated credentials are not reused and the credentials are not kept in the pool keys.
+     */
+    private static String credentialsHash(Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            if (clusterCaCertSecret != null && clusterCaCertSecret.getData() != null) {
+                // The data are sorted because the order of the Secret data is not defined
+                for (Map.Entry<String, String> entry : new TreeMap<>(clusterCaCertSecret.getData()).entrySet()) {
+                    update(digest, entry.getKey());
+                    update(digest, entry.getValue());
+                }
+            }
+
+            if (keyCertSecret != null && keyCertSecret.getData() != null && keyCertName != null) {
+                update(digest, keyCertSecret.getData().get(keyCertName + ".key"));
+                update(digest, keyCertSecret.getData().get(keyCertName + ".crt"));
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash the Admin client credentials", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        // Separator to distinguish for example "ab" + "c" from "a" + "bc"
+        digest.update((byte) 0);
+    }
+}
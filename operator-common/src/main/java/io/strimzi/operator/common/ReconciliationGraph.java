@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Executes the steps of a reconciliation according to their dependencies. Each step declares the steps it depends on
+ * and is started as soon as all of them completed successfully. Steps which do not depend on each other therefore run
+ * concurrently, and the duration of the reconciliation approaches the duration of the longest chain of dependent steps
+ * instead of the sum of all the steps.
+ *
+ * The dependencies of a step have to be added to the graph before the step itself. This guarantees that the graph has
+ * no cycles, and that the steps of a graph without any dependencies run in the order in which they were added.
+ *
+ * When a step fails, the steps depending on it (directly or indirectly) are not executed. The steps which are already
+ * running or which do not depend on the failed step are completed, and then the graph fails with the error of the
+ * first failed step in the order in which they were added.
+ *
+ * When a metrics holder is provided, the duration of each executed step is recorded in a timer with the step name.
+ */
+public class ReconciliationGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationGraph.class.getName());
+
+    /**
+     * Step of the reconciliation
+     *
+     * @param name          Name of the step
+     * @param action        Supplier which starts the step and returns a Future which completes when the step completes
+     * @param dependencies  Names of the steps this step depends on
+     */
+    private record Step(String name, Supplier<Future<Void>> action, List<String> dependencies) { }
+
+    private final Reconciliation reconciliation;
+    private final MetricsHolder metrics;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    /**
+     * Constructs the reconciliation graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param metrics           Metrics holder used to record the duration of the steps or null to not record it
+     */
+    public ReconciliationGraph(Reconciliation reconciliation, MetricsHolder metrics) {
+        this.reconciliation = reconciliation;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a step to the graph.
+     *
+     * @param name          Name of the step. It has to be unique within the graph.
+     * @param action        Supplier which starts the step and returns a Future which completes when the step completes
+     * @param dependencies  Names of the steps which have to complete before this step is started. They have to be
+     *                      added to the graph before this step.
+     *
+     * @return  This graph
+     */
+    public ReconciliationGraph addStep(String name, Supplier<Future<Void>> action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Reconciliation step " + name + " already exists");
+        }
+
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Reconciliation step " + name + " depends on unknown step " + dependency);
+            }
+        }
+
+        steps.put(name, new Step(name, action, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Executes the steps of the graph.
+     *
+     * @return  Future which completes when all the steps completed or were skipped because of a failed dependency
+     */
+    public Future<Void> execute() {
+        Map<String, Future<Void>> results = new LinkedHashMap<>(steps.size());
+
+        for (Step step : steps.values()) {
+            Future<Void> dependencies;
+
+            if (step.dependencies().isEmpty()) {
+                dependencies = Future.succeededFuture();
+            } else {
+                List<Future<Void>> dependencyResults = new ArrayList<>(step.dependencies().size());
+                for (String dependency : step.dependencies()) {
+                    dependencyResults.add(results.get(dependency));
+                }
+
+                dependencies = Future.all(dependencyResults).mapEmpty();
+            }
+
+            results.put(step.name(), dependencies.compose(i -> executeStep(step)));
+        }
+
+        return Future.join(new ArrayList<>(results.values()))
+                .transform(i -> {
+                    for (Future<Void> result : results.values()) {
+                        if (result.failed()) {
+                            return Future.failedFuture(result.cause());
+                        }
+                    }
+
+                    return Future.succeededFuture();
+                });
+    }
+
+    private Future<Void> executeStep(Step step) {
+        LOGGER.traceCr(reconciliation, "Executing reconciliation step {}", step.name());
+        Timer.Sample sample = metrics != null ? Timer.start(metrics.metricsProvider().meterRegistry()) : null;
+
+        Future<Void> result;
+        try {
+            result = step.action().get();
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+
+        return result.onComplete(i -> {
+            if (sample != null) {
+                sample.stop(metrics.reconciliationStepTimer(reconciliation.namespace(), step.name()));
+            }
+
+            LOGGER.traceCr(reconciliation, "Reconciliation step {} completed", step.name());
+        });
+    }
+}
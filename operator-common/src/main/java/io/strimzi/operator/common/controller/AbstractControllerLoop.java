@@ -9,8 +9,11 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,7 +27,9 @@ public abstract class AbstractControllerLoop {
     private final String name;
     private final Thread controllerThread;
     private final ControllerQueue workQueue;
+    private final int shard;
     private final ReconciliationLockManager lockManager;
+    private final Semaphore inFlightLimit;
     private final ScheduledExecutorService scheduledExecutor;
 
     private volatile boolean stop = false;
@@ -41,9 +46,57 @@ public abstract class AbstractControllerLoop {
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
      */
     public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+        this(name, workQueue, 0, lockManager, scheduledExecutor);
+    }
+
+    /**
+     * Creates the controller loop which takes the events from given shard of the work queue. The sharded work queue
+     * makes sure that the same resource is never reconciled by multiple controller loops in parallel. So when using
+     * the sharded work queue, the lock manager is not needed.
+     *
+     * @param name                  The name of this controller loop. The name should help to identify what kind
+     *                              of look this is and what does it control / reconciler.
+     * @param workQueue             Queue from which events should be consumed
+     * @param shard                 Index of the work queue shard from which this loop consumes the events
+     * @param lockManager           Lock manager for making sure no parallel reconciliations for a given resource can
+     *                              happen. Null if no lock manager should be used.
+     * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
+     */
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, int shard, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+        this(name, workQueue, shard, lockManager, 0, scheduledExecutor);
+    }
+
+    /**
+     * Creates the controller loop. When the maximal number of in-flight reconciliations is higher than 0, the
+     * controller loop runs in the asynchronous mode. In this mode, the controller loop thread does not wait for the
+     * reconciliation to complete. It only dispatches the reconciliations from the work queue using the reconcileAsync
+     * method and waits only when the maximal number of reconciliations is already in progress. The work queue makes
+     * sure that the same resource is never reconciled in parallel. The lock manager cannot be used in this mode because
+     * the locks would need to be released from a different thread than the one which acquired them.
+     *
+     * @param name                          The name of this controller loop. The name should help to identify what
+     *                                      kind of look this is and what does it control / reconciler.
+     * @param workQueue                     Queue from which events should be consumed
+     * @param shard                         Index of the work queue shard from which this loop consumes the events
+     * @param lockManager                   Lock manager for making sure no parallel reconciliations for a given
+     *                                      resource can happen. Null if no lock manager should be used.
+     * @param maxInFlightReconciliations    Maximal number of reconciliations running in parallel in the asynchronous
+     *                                      mode. 0 to run the reconciliations synchronously in the controller loop
+     *                                      thread.
+     * @param scheduledExecutor             Scheduled executor service used to run the progress warnings
+     */
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, int shard, ReconciliationLockManager lockManager, int maxInFlightReconciliations, ScheduledExecutorService scheduledExecutor) {
+        if (maxInFlightReconciliations < 0) {
+            throw new IllegalArgumentException("The maximal number of in-flight reconciliations cannot be negative");
+        } else if (maxInFlightReconciliations > 0 && lockManager != null) {
+            throw new IllegalArgumentException("The lock manager cannot be used in the asynchronous mode");
+        }
+
         this.name = name;
         this.workQueue = workQueue;
+        this.shard = shard;
         this.lockManager = lockManager;
+        this.inFlightLimit = maxInFlightReconciliations > 0 ? new Semaphore(maxInFlightReconciliations) : null;
         this.scheduledExecutor = scheduledExecutor;
         this.controllerThread = new Thread(new Runner(), name);
     }
@@ -52,8 +105,24 @@ public abstract class AbstractControllerLoop {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation succeeded. False if it failed and should be retried after a backoff.
+     */
+    protected abstract boolean reconcile(Reconciliation reconciliation);
+
+    /**
+     * The asynchronous variant of the reconciliation logic used when the controller loop runs in the asynchronous mode.
+     * Controllers which support the asynchronous mode should override it with an implementation which does not block
+     * the calling thread. The default implementation runs the synchronous reconcile method.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  CompletionStage which completes with true if the reconciliation succeeded or with false if it failed
+     *          and should be retried after a backoff
      */
-    protected abstract void reconcile(Reconciliation reconciliation);
+    protected CompletionStage<Boolean> reconcileAsync(Reconciliation reconciliation) {
+        return CompletableFuture.completedFuture(reconcile(reconciliation));
+    }
 
     /**
      * Returns the Controller Metrics Holder instance, which is used to hold the various controller metrics
@@ -102,11 +171,19 @@ public abstract class AbstractControllerLoop {
 
     /**
      * Wrapper method to handle obtaining the lock for the resource or re-queueing the reconciliation if the lock is in
-     * use. When it gets the lock, it calls the reconcileWrapper method.
+     * use. When it gets the lock, it calls the reconcileWithRetry method. Reconciliations which do not get the lock are
+     * re-queued with a backoff delay decided by the rate limiter of the work queue. When no lock manager is used, the
+     * reconcileWithRetry method is called directly.
      *
      * @param reconciliation    Reconciliation marker
      */
     private void reconcileWithLock(SimplifiedReconciliation reconciliation) {
+        if (lockManager == null) {
+            // No lock manager is used => the work queue makes sure the resource is not reconciled in parallel
+            reconcileWithRetry(reconciliation);
+            return;
+        }
+
         String lockName = reconciliation.lockName();
         boolean requeue = false;
 
@@ -115,7 +192,7 @@ public abstract class AbstractControllerLoop {
 
             if (locked) {
                 try {
-                    reconcileWrapper(reconciliation.toReconciliation());
+                    reconcileWithRetry(reconciliation);
                 } finally {
                     // We have to unlock the resource in any situation
                     lockManager.unlock(lockName);
@@ -135,7 +212,24 @@ public abstract class AbstractControllerLoop {
 
         // Failed to get the lock. We will requeue the resource for next time
         if (requeue) {
-            workQueue.enqueue(reconciliation);
+            workQueue.enqueueRateLimited(reconciliation);
+        }
+    }
+
+    /**
+     * Wrapper method which calls the reconcileWrapper method and handles its result. Failed reconciliations are
+     * re-queued with a backoff delay decided by the rate limiter of the work queue. For successful reconciliations, the
+     * backoff is reset.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    private void reconcileWithRetry(SimplifiedReconciliation reconciliation) {
+        if (reconcileWrapper(reconciliation.toReconciliation())) {
+            // Successful reconciliation => we reset the backoff
+            workQueue.forget(reconciliation);
+        } else {
+            LOGGER.debugOp("{}: Reconciliation of {} failed and will be retried later", name, reconciliation.lockName());
+            workQueue.enqueueRateLimited(reconciliation);
         }
     }
 
@@ -145,8 +239,10 @@ public abstract class AbstractControllerLoop {
      *     - Reconciliation metrics
      *
      * @param reconciliation    Reconciliation marker
+     *
+     * @return  True if the reconciliation succeeded. False otherwise.
      */
-    private void reconcileWrapper(Reconciliation reconciliation) {
+    private boolean reconcileWrapper(Reconciliation reconciliation) {
         // Tasks before reconciliation
         ScheduledFuture<?> progressWarning = scheduledExecutor
                 .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
@@ -155,7 +251,10 @@ public abstract class AbstractControllerLoop {
 
         // Reconciliation
         try {
-            reconcile(reconciliation);
+            return reconcile(reconciliation);
+        } catch (Exception e) {
+            LOGGER.warnCr(reconciliation, "{}: reconciliation failed", name, e);
+            return false;
         } finally   {
             // Tasks after reconciliation
             reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
@@ -163,6 +262,56 @@ public abstract class AbstractControllerLoop {
         }
     }
 
+    /**
+     * Dispatches the reconciliation in the asynchronous mode. It handles the same tasks as the reconcileWrapper and
+     * reconcileWithRetry methods, but without blocking the controller loop thread. Once the reconciliation completes,
+     * it is marked as done in the work queue and the in-flight permit is released.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    private void dispatchAsync(SimplifiedReconciliation reconciliation) {
+        Reconciliation r = reconciliation.toReconciliation();
+
+        // Tasks before reconciliation
+        ScheduledFuture<?> progressWarning = scheduledExecutor
+                .scheduleAtFixedRate(() -> LOGGER.infoCr(r, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
+        metrics().reconciliationsCounter(r.namespace()).increment(); // Increase the reconciliation counter
+        metrics().inFlightReconciliationsGauge().incrementAndGet();
+        Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
+
+        // Reconciliation
+        CompletionStage<Boolean> result;
+        try {
+            result = reconcileAsync(r);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((success, error) -> {
+            // Tasks after reconciliation
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(r.namespace())); // Stop the reconciliation timer
+            progressWarning.cancel(true); // Stop the progress warning
+            metrics().inFlightReconciliationsGauge().decrementAndGet();
+
+            try {
+                if (error != null) {
+                    LOGGER.warnCr(r, "{}: reconciliation failed", name, error);
+                    workQueue.enqueueRateLimited(reconciliation);
+                } else if (Boolean.TRUE.equals(success)) {
+                    // Successful reconciliation => we reset the backoff
+                    workQueue.forget(reconciliation);
+                } else {
+                    LOGGER.debugOp("{}: Reconciliation of {} failed and will be retried later", name, reconciliation.lockName());
+                    workQueue.enqueueRateLimited(reconciliation);
+                }
+            } finally {
+                // Marks the reconciliation as done so that events received in the meantime can be handled
+                workQueue.done(reconciliation);
+                inFlightLimit.release();
+            }
+        });
+    }
+
     /**
      * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
      * it as a public method.
@@ -178,9 +327,20 @@ public abstract class AbstractControllerLoop {
 
             while (!stop) {
                 try {
+                    if (inFlightLimit != null) {
+                        runAsync();
+                        continue;
+                    }
+
                     LOGGER.debugOp("{}: Waiting for next event from work queue", name);
-                    SimplifiedReconciliation reconciliation = workQueue.take();
-                    reconcileWithLock(reconciliation);
+                    SimplifiedReconciliation reconciliation = workQueue.take(shard);
+
+                    try {
+                        reconcileWithLock(reconciliation);
+                    } finally {
+                        // Marks the reconciliation as done so that events received in the meantime can be handled
+                        workQueue.done(reconciliation);
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debugOp("{}: was interrupted", name, e);
                 } catch (Exception e) {
@@ -191,5 +351,27 @@ public abstract class AbstractControllerLoop {
             LOGGER.infoOp("{}: Stopping", name);
             running = false; // We indicate that we are exiting the controller loop
         }
+
+        /**
+         * Single iteration of the run loop in the asynchronous mode. It waits for a free in-flight permit, picks the
+         * next reconciliation from the work queue and dispatches it.
+         *
+         * @throws InterruptedException InterruptedException is thrown when interrupted while waiting
+         */
+        private void runAsync() throws InterruptedException {
+            LOGGER.debugOp("{}: Waiting for free in-flight reconciliation slot", name);
+            inFlightLimit.acquire();
+
+            SimplifiedReconciliation reconciliation;
+            try {
+                LOGGER.debugOp("{}: Waiting for next event from work queue", name);
+                reconciliation = workQueue.take(shard);
+            } catch (InterruptedException | RuntimeException e) {
+                inFlightLimit.release();
+                throw e;
+            }
+
+            dispatchAsync(reconciliation);
+        }
     }
 }
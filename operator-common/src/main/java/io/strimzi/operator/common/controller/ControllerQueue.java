@@ -8,18 +8,48 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
- * events from the queue and enqueueing events into the queue.
+ * Controller queue class implements the work queue used by the controllers. It exposes the methods for taking events
+ * from the queue, enqueueing events into the queue and marking the events as done once they are reconciled.
+ *
+ * The queue keeps every resource in it at most once. In addition to the FIFO queue, it indexes the queued resources
+ * and the resources which are being reconciled in hash based collections. Thanks to that, checking whether a resource
+ * is already enqueued is a constant time operation. Events which arrive for a resource while it is being reconciled
+ * are not handed over to other controller loops right away. Instead, they are coalesced into a single follow-up
+ * reconciliation which is added to the queue when the running reconciliation is marked as done.
+ *
+ * Optionally, the queue can be configured with a rate limiter. Reconciliations which need to be retried (for example
+ * because they failed) can be enqueued using the enqueueRateLimited(...) method. They will be added to the queue only
+ * after the delay decided by the rate limiter.
+ *
+ * The queue can be also split into multiple shards. The events are partitioned between the shards based on the
+ * resource they belong to. So all events for given resource always end up in the same shard. Each controller loop
+ * takes the events from its own shard. When its shard is empty, it steals the events from the shard with the most
+ * events waiting.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
+    private final static long STEAL_INTERVAL_MS = 100L;
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
+    private final int queueSize;
     private final ControllerMetricsHolder metrics;
+    private final ReconciliationRateLimiter rateLimiter;
+    private final ScheduledExecutorService scheduledExecutor;
+
+    /*test*/ final Shard[] shards;
 
     /**
      * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
@@ -29,35 +59,370 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this(queueSize, 1, null, null, metrics);
+    }
+
+    /**
+     * Creates the controller queue with a rate limiter used for the retries. The controller should normally exist once
+     * per operator for cluster-wide mode or once per namespace for namespaced mode.
+     *
+     * @param queueSize         The capacity of the work queue
+     * @param rateLimiter       Rate limiter used to decide the delay of the retried reconciliations. If null, the
+     *                          retries are enqueued immediately.
+     * @param scheduledExecutor Scheduled executor service used to enqueue the retried reconciliations after the delay
+     * @param metrics           Holder for the controller metrics
+     */
+    public ControllerQueue(int queueSize, ReconciliationRateLimiter rateLimiter, ScheduledExecutorService scheduledExecutor, ControllerMetricsHolder metrics) {
+        this(queueSize, 1, rateLimiter, scheduledExecutor, metrics);
+    }
+
+    /**
+     * Creates the sharded controller queue with a rate limiter used for the retries. The controller should normally
+     * exist once per operator for cluster-wide mode or once per namespace for namespaced mode.
+     *
+     * @param queueSize         The capacity of each shard of the work queue
+     * @param shardCount        Number of shards. This should normally be the same as the number of the controller
+     *                          loops using this queue.
+     * @param rateLimiter       Rate limiter used to decide the delay of the retried reconciliations. If null, the
+     *                          retries are enqueued immediately.
+     * @param scheduledExecutor Scheduled executor service used to enqueue the retried reconciliations after the delay
+     * @param metrics           Holder for the controller metrics
+     */
+    public ControllerQueue(int queueSize, int shardCount, ReconciliationRateLimiter rateLimiter, ScheduledExecutorService scheduledExecutor, ControllerMetricsHolder metrics) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The controller queue needs at least one shard");
+        } else if (rateLimiter != null && scheduledExecutor == null) {
+            throw new IllegalArgumentException("Scheduled executor service is required when rate limiter is used");
+        }
+
+        this.queueSize = queueSize;
+        this.rateLimiter = rateLimiter;
+        this.scheduledExecutor = scheduledExecutor;
         this.metrics = metrics;
+
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(shardCount == 1 ? metrics.workQueueDepthGauge() : metrics.workQueueShardDepthGauge(i));
+        }
     }
 
     /**
+     * Takes the next item from the queue and marks it as in progress. Each reconciliation taken from the queue has to
+     * be marked as done using the done(...) method once it is finished. Until then, no other reconciliation for the
+     * same resource will be returned by this method.
+     *
      * @return  Takes the next item from the queue. Blocks if the queue is empty.
      *
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
     public SimplifiedReconciliation take() throws InterruptedException {
-        return queue.take();
+        return take(0);
+    }
+
+    /**
+     * Takes the next item from given shard of the queue and marks it as in progress. If the shard is empty, it tries
+     * to steal the next item from other shards. Each reconciliation taken from the queue has to be marked as done
+     * using the done(...) method once it is finished. Until then, no other reconciliation for the same resource will
+     * be returned by this method.
+     *
+     * @param shard     Index of the shard from which the item should be taken
+     *
+     * @return  Takes the next item from the queue. Blocks if the queue is empty.
+     *
+     * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
+     */
+    public SimplifiedReconciliation take(int shard) throws InterruptedException {
+        if (shards.length == 1) {
+            return shards[0].take();
+        } else {
+            while (true) {
+                SimplifiedReconciliation reconciliation = shards[shard].poll(STEAL_INTERVAL_MS);
+
+                if (reconciliation == null) {
+                    reconciliation = steal(shard);
+                }
+
+                if (reconciliation != null) {
+                    return reconciliation;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tries to steal the next item from the shard which has the most items waiting.
+     *
+     * @param shard     Index of the shard which is stealing the item
+     *
+     * @return  The stolen reconciliation or null if all shards are empty
+     */
+    private SimplifiedReconciliation steal(int shard) {
+        Shard victim = null;
+
+        for (int i = 0; i < shards.length; i++) {
+            if (i != shard
+                    && shards[i].depth > 0
+                    && (victim == null || shards[i].depth > victim.depth)) {
+                victim = shards[i];
+            }
+        }
+
+        SimplifiedReconciliation reconciliation = victim != null ? victim.poll() : null;
+
+        if (reconciliation != null) {
+            LOGGER.debug("{} {} in namespace {} was stolen by shard {}", reconciliation.kind, reconciliation.name, reconciliation.namespace, shard);
+            metrics.stolenReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+        }
+
+        return reconciliation;
     }
 
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. If the resource is currently being reconciled,
+     * the event is remembered and the resource is enqueued again once the running reconciliation is done.
      *
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
-                LOGGER.warn("Failed to enqueue an event because the controller queue is full");
-            }
+        shardFor(reconciliation).enqueue(reconciliation);
+    }
+
+    /**
+     * Marks the reconciliation taken from the queue as done. If any events were received for the same resource while it
+     * was being reconciled, the resource is added again to the queue.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void done(SimplifiedReconciliation reconciliation)   {
+        shardFor(reconciliation).done(reconciliation);
+    }
+
+    /**
+     * Enqueues the reconciliation after the delay decided by the rate limiter. This should be used to retry the
+     * reconciliations which failed or could not be started. When no rate limiter is configured, the reconciliation is
+     * enqueued immediately.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void enqueueRateLimited(SimplifiedReconciliation reconciliation)   {
+        if (rateLimiter == null) {
+            enqueue(reconciliation);
         } else {
-            metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+            long delayMs = rateLimiter.when(reconciliation.lockName());
+            metrics.retriedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+            metrics.retryDelayTimer(reconciliation.namespace).record(delayMs, TimeUnit.MILLISECONDS);
+
+            if (delayMs <= 0) {
+                enqueue(reconciliation);
+            } else {
+                LOGGER.debug("{} {} in namespace {} will be enqueued again in {} ms", reconciliation.kind, reconciliation.name, reconciliation.namespace, delayMs);
+
+                try {
+                    scheduledExecutor.schedule(() -> enqueue(reconciliation), delayMs, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // This happens when the controller is shutting down
+                    LOGGER.debug("Failed to schedule the retry of {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resets the retry backoff of the resource. This should be called when the reconciliation succeeds or when the
+     * resource is deleted, so that the backoff of the deleted resources is not kept forever.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void forget(SimplifiedReconciliation reconciliation) {
+        if (rateLimiter != null) {
+            rateLimiter.forget(reconciliation.lockName());
         }
     }
 
+    /**
+     * @return  The number of reconciliations waiting in the queue
+     */
+    public int size()   {
+        int size = 0;
+
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * @return  The number of shards of this queue
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Finds the shard to which the reconciliation belongs. The hash code of the reconciliation is based on the same
+     * fields as its lock name. So all reconciliations for the same resource belong to the same shard.
+     *
+     * @param reconciliation    Reconciliation identifier
+     *
+     * @return  The shard to which the reconciliation belongs
+     */
+    /*test*/ Shard shardFor(SimplifiedReconciliation reconciliation) {
+        return shards.length == 1 ? shards[0] : shards[Math.floorMod(reconciliation.hashCode(), shards.length)];
+    }
+
+    /**
+     * Holds the reconciliation which is waiting in the queue together with the time when it was enqueued.
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param enqueuedAt        Time in nanoseconds when the reconciliation was enqueued
+     */
+    /*test*/ record PendingReconciliation(SimplifiedReconciliation reconciliation, long enqueuedAt) { }
+
+    /**
+     * A single shard of the controller queue. It holds the FIFO queue with the reconciliations and the indexes of the
+     * queued and in-progress reconciliations. All operations are guarded by the lock of the shard.
+     */
+    /*test*/ class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final AtomicInteger depthGauge;
+
+        /*test*/ final Deque<SimplifiedReconciliation> queue = new ArrayDeque<>(Math.min(queueSize, 1024));
+        /*test*/ final Map<SimplifiedReconciliation, PendingReconciliation> pending = new HashMap<>();
+        /*test*/ final Set<SimplifiedReconciliation> inProgress = new HashSet<>();
+
+        // Number of queued reconciliations which can be read without the lock when stealing
+        private volatile int depth = 0;
+
+        private Shard(AtomicInteger depthGauge) {
+            this.depthGauge = depthGauge;
+        }
+
+        private SimplifiedReconciliation take() throws InterruptedException {
+            lock.lockInterruptibly();
+
+            try {
+                while (queue.isEmpty()) {
+                    notEmpty.await();
+                }
+
+                return next();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private SimplifiedReconciliation poll(long timeoutMs) throws InterruptedException {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            lock.lockInterruptibly();
+
+            try {
+                while (queue.isEmpty()) {
+                    if (remainingNanos <= 0L) {
+                        return null;
+                    }
+
+                    remainingNanos = notEmpty.awaitNanos(remainingNanos);
+                }
+
+                return next();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private SimplifiedReconciliation poll() {
+            lock.lock();
+
+            try {
+                return queue.isEmpty() ? null : next();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Gets the next reconciliation from the queue and marks it as in progress. Has to be called with the lock held
+         * and with non-empty queue.
+         *
+         * @return  The next reconciliation
+         */
+        private SimplifiedReconciliation next() {
+            SimplifiedReconciliation reconciliation = queue.poll();
+            PendingReconciliation pendingReconciliation = pending.remove(reconciliation);
+            inProgress.add(reconciliation);
+            updateDepth();
+
+            if (pendingReconciliation != null) {
+                metrics.workQueueWaitTimer(reconciliation.namespace).record(System.nanoTime() - pendingReconciliation.enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+
+            return reconciliation;
+        }
+
+        private void enqueue(SimplifiedReconciliation reconciliation) {
+            lock.lock();
+
+            try {
+                if (pending.containsKey(reconciliation)) {
+                    metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                    LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                } else if (queue.size() >= queueSize) {
+                    LOGGER.warn("Failed to enqueue an event because the controller queue is full");
+                } else if (inProgress.contains(reconciliation)) {
+                    pending.put(reconciliation, new PendingReconciliation(reconciliation, System.nanoTime()));
+                    metrics.coalescedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                    LOGGER.debug("{} {} in namespace {} is being reconciled => it will be enqueued again when the reconciliation is done", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                } else {
+                    LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                    pending.put(reconciliation, new PendingReconciliation(reconciliation, System.nanoTime()));
+                    queue.add(reconciliation);
+                    updateDepth();
+                    notEmpty.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void done(SimplifiedReconciliation reconciliation) {
+            lock.lock();
+
+            try {
+                inProgress.remove(reconciliation);
+                PendingReconciliation pendingReconciliation = pending.get(reconciliation);
+
+                if (pendingReconciliation != null && queue.size() >= queueSize) {
+                    // The queue might have been filled up by other resources since the events were received
+                    pending.remove(reconciliation);
+                    LOGGER.warn("Failed to enqueue an event because the controller queue is full");
+                } else if (pendingReconciliation != null) {
+                    // Events were received during the reconciliation => we enqueue it again
+                    LOGGER.debug("Enqueueing {} {} in namespace {} again after its previous reconciliation finished", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                    queue.add(pendingReconciliation.reconciliation);
+                    updateDepth();
+                    notEmpty.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void updateDepth() {
+            depth = queue.size();
+            depthGauge.set(depth);
+        }
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter used to decide how long should the controller wait before retrying a reconciliation. It combines two
+ * limits and always uses the longer of the two delays:
+ *     - Per-resource exponential backoff which doubles the delay with every consecutive failure of the same resource
+ *     - Global token bucket which limits the overall rate of the retries regardless of the resource
+ *
+ * The per-resource backoff makes sure that resources which cannot make progress are not retried in a tight loop. The
+ * global token bucket makes sure that the retries do not flood the work queue when many resources fail at the same
+ * time (for example when the Kafka cluster is not available).
+ */
+public class ReconciliationRateLimiter {
+    /*test*/ final ConcurrentHashMap<String, Integer> failures = new ConcurrentHashMap<>();
+
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final double ratePerSecond;
+    private final int burst;
+
+    // Token bucket state. It is guarded by synchronizing on this object.
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates the rate limiter
+     *
+     * @param initialDelayMs    Delay in milliseconds used for the first retry of given resource
+     * @param maxDelayMs        Maximal delay in milliseconds for the retries of given resource
+     * @param ratePerSecond     Number of retries per second allowed by the global token bucket
+     * @param burst             Number of retries which can be done in a burst before the global limit applies
+     */
+    public ReconciliationRateLimiter(long initialDelayMs, long maxDelayMs, double ratePerSecond, int burst) {
+        if (initialDelayMs < 0 || maxDelayMs < initialDelayMs) {
+            throw new IllegalArgumentException("The initial delay has to be non-negative and lower or equal to the maximal delay");
+        } else if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("The rate and burst have to be positive");
+        }
+
+        this.initialDelayMs = initialDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Registers another failure of the resource and returns how long should the controller wait before retrying it.
+     *
+     * @param key   Key identifying the resource (e.g. the lock name of the reconciliation)
+     *
+     * @return  Delay in milliseconds after which the reconciliation should be retried
+     */
+    public long when(String key) {
+        int attempt = failures.merge(key, 1, Integer::sum);
+        return Math.max(backoff(attempt), reserveToken());
+    }
+
+    /**
+     * Indicates that the resource does not need to be retried anymore (e.g. because it was successfully reconciled or
+     * deleted) and resets its backoff.
+     *
+     * @param key   Key identifying the resource
+     */
+    public void forget(String key) {
+        failures.remove(key);
+    }
+
+    /**
+     * Returns the number of consecutive failures of given resource
+     *
+     * @param key   Key identifying the resource
+     *
+     * @return  Number of consecutive failures
+     */
+    public int retries(String key) {
+        return failures.getOrDefault(key, 0);
+    }
+
+    /**
+     * Calculates the exponential backoff for given attempt.
+     *
+     * @param attempt   Number of the attempt (starting with 1)
+     *
+     * @return  Delay in milliseconds
+     */
+    private long backoff(int attempt) {
+        // We cap the exponent to avoid overflows => the result is anyway capped by the maximal delay
+        long delay = initialDelayMs * (1L << Math.min(attempt - 1, 30));
+        return delay < 0 ? maxDelayMs : Math.min(delay, maxDelayMs);
+    }
+
+    /**
+     * Reserves a token from the global token bucket. When no token is available, the token is borrowed from the future
+     * and the method returns the time after which the borrowed token is refilled.
+     *
+     * @return  Delay in milliseconds after which the token is available
+     */
+    private synchronized long reserveToken() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * ratePerSecond / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+        tokens -= 1;
+
+        if (tokens >= 0) {
+            return 0L;
+        } else {
+            return (long) Math.ceil(-tokens * 1_000 / ratePerSecond);
+        }
+    }
+}
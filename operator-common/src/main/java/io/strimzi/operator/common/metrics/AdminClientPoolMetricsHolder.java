@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the use of the shared Kafka Admin client pool as operator metrics
+ */
+public class AdminClientPoolMetricsHolder {
+    private static final String METRICS_PREFIX = "strimzi.admin.client.pool.";
+
+    private final Counter leasesCounter;
+    private final Counter createdCounter;
+    private final Counter idleEvictionsCounter;
+    private final Counter credentialsEvictionsCounter;
+    private final AtomicInteger clientsGauge;
+    private final AtomicInteger activeLeasesGauge;
+
+    /**
+     * Constructs the metrics holder
+     *
+     * @param metricsProvider   Metrics provider
+     */
+    public AdminClientPoolMetricsHolder(MetricsProvider metricsProvider) {
+        this.leasesCounter = metricsProvider.counter(METRICS_PREFIX + "leases", "Number of Admin clients leased from the Admin client pool", Tags.empty());
+        this.createdCounter = metricsProvider.counter(METRICS_PREFIX + "created", "Number of Admin clients created by the Admin client pool", Tags.empty());
+        this.idleEvictionsCounter = metricsProvider.counter(METRICS_PREFIX + "evictions", "Number of Admin clients closed and removed from the Admin client pool", Tags.of("reason", "idle"));
+        this.credentialsEvictionsCounter = metricsProvider.counter(METRICS_PREFIX + "evictions", "Number of Admin clients closed and removed from the Admin client pool", Tags.of("reason", "credentials"));
+        this.clientsGauge = metricsProvider.gauge(METRICS_PREFIX + "clients", "Number of Admin clients in the Admin client pool", Tags.empty());
+        this.activeLeasesGauge = metricsProvider.gauge(METRICS_PREFIX + "active.leases", "Number of Admin clients leased from the Admin client pool which were not released yet", Tags.empty());
+    }
+
+    /**
+     * Records a lease of an Admin client
+     */
+    public void leased() {
+        leasesCounter.increment();
+    }
+
+    /**
+     * Records the creation of a new Admin client
+     */
+    public void created() {
+        createdCounter.increment();
+    }
+
+    /**
+     * Records the eviction of an Admin client which was not used for longer than the idle timeout
+     */
+    public void evictedIdle() {
+        idleEvictionsCounter.increment();
+    }
+
+    /**
+     * Records the eviction of an Admin client which uses outdated credentials
+     */
+    public void evictedCredentials() {
+        credentialsEvictionsCounter.increment();
+    }
+
+    /**
+     * @return  Gauge with the number of Admin clients in the pool
+     */
+    public AtomicInteger clients() {
+        return clientsGauge;
+    }
+
+    /**
+     * @return  Gauge with the number of active leases
+     */
+    public AtomicInteger activeLeases() {
+        return activeLeasesGauge;
+    }
+}
@@ -5,17 +5,30 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> coalescedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> workQueueDepthGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> workQueueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> retriedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> retryDelayTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<Integer, AtomicInteger> workQueueShardDepthGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> stolenReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> inFlightReconciliationsGaugeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> workerReconciliationsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +54,118 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Counter metric for number of reconciliations which were requested while another reconciliation for the same
+     * resource was in progress. These are coalesced into a single reconciliation which is enqueued once the running
+     * reconciliation finishes.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter coalescedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.coalesced", metricsProvider, selectorLabels, coalescedReconciliationsCounterMap,
+                "Number of reconciliations requested while another reconciliation for the same resource was in progress and coalesced into a single follow-up reconciliation");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the controller work queue. The work queue is shared by
+     * all namespaces handled by the controller, so this metric is not namespace specific.
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workQueueDepthGauge() {
+        return getGauge("*", kind, METRICS_PREFIX + "controller.queue.depth", metricsProvider, selectorLabels, workQueueDepthGaugeMap,
+                "Number of reconciliations waiting in the controller work queue");
+    }
+
+    /**
+     * Timer which measures how long do the reconciliations wait in the controller work queue before they are picked
+     * up by a controller loop.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer workQueueWaitTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "controller.queue.wait.duration", metricsProvider, selectorLabels, workQueueWaitTimerMap,
+                "The time the reconciliation waits in the controller work queue before it is started");
+    }
+
+    /**
+     * Counter metric for number of reconciliations which were re-queued with a delay because they failed or could not
+     * be started.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter retriedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.retried", metricsProvider, selectorLabels, retriedReconciliationsCounterMap,
+                "Number of reconciliations which were re-queued with a backoff delay because they failed or could not be started");
+    }
+
+    /**
+     * Timer which records the backoff delay used for the retried reconciliations.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer retryDelayTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.retry.delay", metricsProvider, selectorLabels, retryDelayTimerMap,
+                "The backoff delay after which the retried reconciliation is enqueued again");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in a shard of the sharded controller work queue.
+     *
+     * @param shard     Index of the work queue shard
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workQueueShardDepthGauge(int shard) {
+        return workQueueShardDepthGaugeMap.computeIfAbsent(shard, s -> metricsProvider.gauge(METRICS_PREFIX + "controller.queue.shard.depth",
+                "Number of reconciliations waiting in a shard of the controller work queue",
+                Tags.of(Tag.of("kind", kind), Tag.of("namespace", ""), Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""), Tag.of("shard", String.valueOf(s)))));
+    }
+
+    /**
+     * Counter metric for number of reconciliations which were stolen by an idle controller loop from a shard of
+     * another controller loop.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter stolenReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.stolen", metricsProvider, selectorLabels, stolenReconciliationsCounterMap,
+                "Number of reconciliations taken by an idle controller loop from the work queue shard of another controller loop");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations which are currently in progress when the controller loops run in
+     * the asynchronous mode.
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger inFlightReconciliationsGauge() {
+        return getGauge("*", kind, METRICS_PREFIX + "reconciliations.in.flight", metricsProvider, selectorLabels, inFlightReconciliationsGaugeMap,
+                "Number of reconciliations currently in progress in the asynchronous controller loops");
+    }
+
+    /**
+     * Counter metric for number of reconciliations done by a single worker thread of the controller. Comparing the
+     * counters of the different workers shows how the load is spread between them.
+     *
+     * @param worker    Name of the controller worker thread
+     *
+     * @return  Metrics counter
+     */
+    public Counter workerReconciliationsCounter(String worker) {
+        return workerReconciliationsCounterMap.computeIfAbsent(worker, w -> metricsProvider.counter(METRICS_PREFIX + "controller.worker.reconciliations",
+                "Number of reconciliations done by a controller worker thread",
+                Tags.of(Tag.of("kind", kind), Tag.of("namespace", ""), Tag.of("selector", selectorLabels != null ? selectorLabels.toSelectorString() : ""), Tag.of("worker", w))));
+    }
 }
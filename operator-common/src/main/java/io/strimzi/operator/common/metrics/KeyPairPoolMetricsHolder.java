@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.certs.KeyAlgorithm;
+import io.strimzi.certs.KeyPairPoolMetrics;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the events of the key pair pool used by the certificate manager as operator metrics
+ */
+public class KeyPairPoolMetricsHolder implements KeyPairPoolMetrics {
+    private static final String METRICS_PREFIX = "strimzi.certificates.key.pool.";
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Timer refillTimer;
+
+    /**
+     * Constructs the metrics holder
+     *
+     * @param algorithm         Algorithm of the keys in the pool
+     * @param metricsProvider   Metrics provider
+     */
+    public KeyPairPoolMetricsHolder(KeyAlgorithm algorithm, MetricsProvider metricsProvider) {
+        Tags tags = Tags.of("algorithm", algorithm.name());
+
+        this.hitsCounter = metricsProvider.counter(METRICS_PREFIX + "hits", "Number of key pairs taken from the key pair pool", tags);
+        this.missesCounter = metricsProvider.counter(METRICS_PREFIX + "misses", "Number of key pairs generated on demand because the key pair pool was empty", tags);
+        this.refillTimer = metricsProvider.timer(METRICS_PREFIX + "refill.duration", "The time it takes to generate a key pair for the key pair pool", tags);
+    }
+
+    @Override
+    public void hit() {
+        hitsCounter.increment();
+    }
+
+    @Override
+    public void miss() {
+        missesCounter.increment();
+    }
+
+    @Override
+    public void refilled(long durationNanos) {
+        refillTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -35,6 +36,9 @@ public abstract class MetricsHolder {
     private final Map<String, Counter> successfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Counter> lockedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Timer> reconciliationsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Map<String, Timer>> reconciliationStepsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> rollingRestartsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, DistributionSummary> rollingRestartBatchSizeMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the metrics holder
@@ -161,6 +165,46 @@ public abstract class MetricsHolder {
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
 
+    /**
+     * Timer which measures how long do the individual steps of the reconciliations take.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param step      Name of the reconciliation step
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationStepTimer(String namespace, String step) {
+        return metric(namespace, kind, selectorLabels, reconciliationStepsTimerMap.computeIfAbsent(step, s -> new ConcurrentHashMap<>(1)),
+                tags -> metricsProvider.timer(METRICS_PREFIX + "reconciliations.step.duration", "The time the reconciliation step takes to complete", tags.and(Tag.of("step", step))));
+    }
+
+    /**
+     * Timer which measures how long do the rolling restarts of the pods take in total.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer rollingRestartTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "rolling.restart.duration", metricsProvider, selectorLabels, rollingRestartsTimerMap,
+                "The time the rolling restart of the pods takes to complete");
+    }
+
+    /**
+     * Distribution of the number of pods which are restarted at the same time in a batch of a rolling restart.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics distribution summary
+     */
+    public DistributionSummary rollingRestartBatchSize(String namespace) {
+        return metric(namespace, kind, selectorLabels, rollingRestartBatchSizeMap,
+                tags -> DistributionSummary.builder(METRICS_PREFIX + "rolling.restart.batch.size")
+                        .description("Number of pods restarted at the same time in a batch of the rolling restart")
+                        .tags(tags)
+                        .register(metricsProvider.meterRegistry()));
+    }
+
     ////////////////////
     // Static methods for handling metrics
     ////////////////////
@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the use of the informer-backed resource cache of the resource operators as operator metrics
+ */
+public class ResourceCacheMetricsHolder {
+    private static final String METRICS_PREFIX = "strimzi.resource.cache.";
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final AtomicInteger pendingWritesGauge;
+    private final Timer writeLagTimer;
+
+    /**
+     * Constructs the metrics holder
+     *
+     * @param resourceKind      Kind of the cached resources
+     * @param metricsProvider   Metrics provider
+     */
+    public ResourceCacheMetricsHolder(String resourceKind, MetricsProvider metricsProvider) {
+        Tags tags = Tags.of("kind", resourceKind);
+
+        this.hitsCounter = metricsProvider.counter(METRICS_PREFIX + "hits", "Number of reads served from the resource cache", tags);
+        this.missesCounter = metricsProvider.counter(METRICS_PREFIX + "misses", "Number of reads which could not be served from the resource cache and were sent to the Kubernetes API", tags);
+        this.pendingWritesGauge = metricsProvider.gauge(METRICS_PREFIX + "pending.writes", "Number of writes made by the operator which were not yet observed by the resource cache", tags);
+        this.writeLagTimer = metricsProvider.timer(METRICS_PREFIX + "write.lag", "The time it takes for a write made by the operator to be observed by the resource cache", tags);
+    }
+
+    /**
+     * Records a read served from the cache
+     */
+    public void hit() {
+        hitsCounter.increment();
+    }
+
+    /**
+     * Records a read sent to the Kubernetes API
+     */
+    public void miss() {
+        missesCounter.increment();
+    }
+
+    /**
+     * @return  Gauge with the number of writes which were not yet observed by the cache
+     */
+    public AtomicInteger pendingWrites() {
+        return pendingWritesGauge;
+    }
+
+    /**
+     * Records the time between a write and its observation by the cache
+     *
+     * @param lagNanos  Lag in nanoseconds
+     */
+    public void writeObserved(long lagNanos) {
+        writeLagTimer.record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -17,14 +17,19 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +58,20 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      */
     public final static String ANY_NAMESPACE = "*";
 
+    /**
+     * Field manager used for the server-side apply
+     */
+    public final static String FIELD_MANAGER = "strimzi-operator";
+
+    private static final PatchContext SERVER_SIDE_APPLY = new PatchContext.Builder()
+            .withPatchType(PatchType.SERVER_SIDE_APPLY)
+            .withFieldManager(FIELD_MANAGER)
+            .withForce(true)
+            .build();
+
+    private ResourceCache<T> cache;
+    private PatchStrategy patchStrategy = PatchStrategy.JSON;
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -65,6 +84,43 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Sets the strategy used to update the existing resources. The {@link PatchStrategy#JSON} strategy uses the
+     * {@link #patchOrReplace(String, String, HasMetadata)} method which might be overridden by the resource operators.
+     *
+     * @param patchStrategy     Patch strategy
+     */
+    public void setPatchStrategy(PatchStrategy patchStrategy) {
+        this.patchStrategy = patchStrategy;
+    }
+
+    /**
+     * Creates an informer-backed read cache for the resources created by the operator in the given namespaces, and
+     * serves the gets and lists from it where possible. The writes still go to the Kubernetes API. The returned cache
+     * is not started yet and has to be started and stopped by the caller.
+     *
+     * @param namespaces        Namespaces in which the resources should be cached or * for all namespaces
+     * @param maxWriteAgeMs     Maximal time for which the writes made by the operator are kept in the cache while
+     *                          waiting for the informer to observe them
+     * @param metricsProvider   Metrics provider
+     *
+     * @return  The resource cache
+     */
+    public ResourceCache<T> enableCache(Collection<String> namespaces, long maxWriteAgeMs, MetricsProvider metricsProvider) {
+        Map<String, SharedIndexInformer<T>> informers = new HashMap<>();
+
+        if (namespaces.contains(ANY_NAMESPACE)) {
+            informers.put(ANY_NAMESPACE, runnableInformer(applyNamespace(ANY_NAMESPACE).withLabel(ResourceCache.SCOPE_LABEL), 0));
+        } else {
+            for (String namespace : namespaces) {
+                informers.put(namespace, runnableInformer(applyNamespace(namespace).withLabel(ResourceCache.SCOPE_LABEL), 0));
+            }
+        }
+
+        cache = new ResourceCache<>(resourceKind, informers, client.getKubernetesSerialization(), new ResourceCacheMetricsHolder(resourceKind, metricsProvider), maxWriteAgeMs);
+        return cache;
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -117,7 +173,28 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                             return Future.succeededFuture(ReconcileResult.noop(null));
                         }
                     }
-                });
+                })
+                .onComplete(result -> updateCache(namespace, name, result));
+    }
+
+    /**
+     * Records the result of a write in the resource cache (if enabled), so that the next reads return it even before
+     * the informer observes it.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param result        Result of the write
+     */
+    private void updateCache(String namespace, String name, AsyncResult<ReconcileResult<T>> result) {
+        if (cache != null) {
+            if (result.failed()) {
+                cache.invalidate(namespace, name);
+            } else if (result.result() == ReconcileResult.<T>deleted()) {
+                cache.deleted(namespace, name);
+            } else if (result.result() instanceof ReconcileResult.Created<T> || result.result() instanceof ReconcileResult.Patched<T>) {
+                cache.written(result.result().resource());
+            }
+        }
     }
 
     /**
@@ -235,7 +312,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
     protected Future<ReconcileResult<T>> internalUpdate(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
         if (needsPatching(reconciliation, name, current, desired))  {
             try {
-                T result = patchOrReplace(namespace, name, desired);
+                T result = patch(namespace, name, current, desired);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
                 return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
             } catch (Exception e) {
@@ -248,6 +325,24 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         }
     }
 
+    /**
+     * Updates the resource using the configured patch strategy
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param current       Current resource
+     * @param desired       Desired resource
+     *
+     * @return  The updated resource
+     */
+    private T patch(String namespace, String name, T current, T desired)   {
+        return switch (patchStrategy) {
+            case JSON -> patchOrReplace(namespace, name, desired);
+            case MERGE -> operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON_MERGE), ResourceDiff.mergePatch(current, desired, ignorablePaths()).toString());
+            case SERVER_SIDE_APPLY -> operation().inNamespace(namespace).withName(name).patch(SERVER_SIDE_APPLY, desired);
+        };
+    }
+
     /**
      * Method for patching or replacing a resource. By default, is using JSON-type patch. Overriding this method can be
      * used to use replace instead of patch or different patch strategies.
@@ -264,11 +359,16 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     /**
      * Creates a resource with the given namespace and name with the given desired state
-     * and completes the given future accordingly.
+     * and completes the given future accordingly. With the {@link PatchStrategy#SERVER_SIDE_APPLY} strategy, the
+     * resource is created by the server-side apply as well, so that the Strimzi field manager owns its fields and the
+     * later applies can remove the fields which are not desired anymore.
      */
     protected Future<ReconcileResult<T>> internalCreate(Reconciliation reconciliation, String namespace, String name, T desired) {
         try {
-            ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).resource(desired).create());
+            T created = patchStrategy == PatchStrategy.SERVER_SIDE_APPLY
+                    ? operation().inNamespace(namespace).withName(name).patch(SERVER_SIDE_APPLY, desired)
+                    : operation().inNamespace(namespace).resource(desired).create();
+            ReconcileResult<T> result = ReconcileResult.created(created);
             LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been created", resourceKind, name, namespace);
             return Future.succeededFuture(result);
         } catch (Exception e) {
@@ -287,6 +387,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         return operation().inNamespace(namespace).withName(name).get();
     }
 
@@ -301,6 +409,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -311,6 +427,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        if (cache != null) {
+            List<T> cached = cache.list(namespace, selector);
+
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         return list(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -338,6 +462,14 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        if (cache != null) {
+            List<T> cached = cache.list(namespace, selector);
+
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
         return listAsync(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -404,7 +536,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onComplete(result -> updateCache(namespace, name, result))
+                .map((Void) null);
     }
 
     /**
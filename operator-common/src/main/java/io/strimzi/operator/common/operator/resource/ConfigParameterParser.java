@@ -7,6 +7,8 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -131,6 +133,22 @@ public interface ConfigParameterParser<T> {
         };
     }
 
+    /**
+     * Non-negative Number
+     * @param parser ConfigParameterParser object
+     * @param <T>    Type of parameter
+     * @return Non-negative number
+     */
+    static <T extends Number> ConfigParameterParser<T> nonNegative(ConfigParameterParser<T> parser) {
+        return configValue -> {
+            var value = parser.parse(configValue);
+            if (value.longValue() < 0) {
+                throw new InvalidConfigurationException("Failed to parse. Negative value is not supported for this configuration");
+            }
+            return value;
+        };
+    }
+
     /**
      * A Java Boolean
      */
@@ -153,6 +171,39 @@ public interface ConfigParameterParser<T> {
         }
     };
 
+    /**
+     * Type of the certificate manager
+     */
+    ConfigParameterParser<CertManagerType> CERT_MANAGER_TYPE = configValue -> {
+        try {
+            return CertManagerType.fromName(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not valid", e);
+        }
+    };
+
+    /**
+     * Algorithm of the keys generated by the certificate manager
+     */
+    ConfigParameterParser<KeyAlgorithm> KEY_ALGORITHM = configValue -> {
+        try {
+            return KeyAlgorithm.fromName(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not valid", e);
+        }
+    };
+
+    /**
+     * Strategy used by the resource operators to update the existing resources
+     */
+    ConfigParameterParser<PatchStrategy> PATCH_STRATEGY = configValue -> {
+        try {
+            return PatchStrategy.fromName(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not valid", e);
+        }
+    };
+
     /**
      * A kubernetes LocalObjectReference list
      */
@@ -0,0 +1,43 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import java.util.Locale;
+
+/**
+ * Strategies which the resource operators can use to update the existing resources
+ */
+public enum PatchStrategy {
+    /**
+     * JSON patch computed by the Kubernetes client against the resource freshly fetched from the Kubernetes API. This
+     * is the default strategy and the resource operators can override it (for example to replace the resource).
+     */
+    JSON,
+
+    /**
+     * JSON merge patch computed from the differences between the current and desired resources which are not ignored.
+     * The patch contains only the changed fields, and no additional request is needed to fetch the resource.
+     */
+    MERGE,
+
+    /**
+     * Server-side apply of the desired resource with the Strimzi field manager. The conflicts with other field managers
+     * are forced, and no additional request is needed to fetch the resource. The new resources are created by the
+     * server-side apply as well, so that the Strimzi field manager owns all their fields.
+     */
+    SERVER_SIDE_APPLY;
+
+    /**
+     * Parses the patch strategy from its name
+     *
+     * @param name  Name of the patch strategy (case-insensitive, for example {@code json}, {@code merge} or
+     *              {@code server-side-apply})
+     *
+     * @return  The patch strategy
+     */
+    public static PatchStrategy fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH).replace('-', '_'));
+    }
+}
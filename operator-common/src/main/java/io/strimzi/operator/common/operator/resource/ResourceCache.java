@@ -0,0 +1,372 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static io.strimzi.operator.common.operator.resource.AbstractNamespacedResourceOperator.ANY_NAMESPACE;
+
+/**
+ * Read cache for the resources of one kind, backed by shared informers. The informers watch only the resources with
+ * the {@code strimzi.io/cluster} label, which are the resources created by the operator for its operands.
+ *
+ * The cache answers only the reads it can answer correctly:
+ *     - A get is a hit when the resource is in the cache. A resource missing in the cache might still exist without
+ *       the label (for example, a Secret or ConfigMap provided by the user), so it is read from the Kubernetes API.
+ *     - A list is a hit when its selector contains the {@code strimzi.io/cluster} label, because every resource
+ *       matching such a selector is watched by the informers.
+ *     - Nothing is a hit before the informers are synced.
+ *
+ * To let the operator read its own writes, the resources it created or patched are kept until the informer observes
+ * their resource version, and are returned instead of the older version in the informer. The resources it deleted are
+ * misses until the informer observes the deletion. When the informer does not observe a write within the maximal write
+ * age (for example, because it lost its watch), the write is forgotten and the informer is trusted again. The number of
+ * writes which were not observed yet and the time it takes to observe them are exported as metrics.
+ *
+ * The resources returned by the cache are copies, so the callers can modify them.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+
+    /**
+     * Label which the cached resources have to have
+     */
+    public static final String SCOPE_LABEL = Labels.STRIMZI_CLUSTER_LABEL;
+
+    /**
+     * Default maximal time in milliseconds for which the writes made by the operator are kept in the cache while
+     * waiting for the informer to observe them
+     */
+    public static final long DEFAULT_MAX_WRITE_AGE_MS = 60_000L;
+
+    private static final String CLUSTER_INDEX = "strimzi-cluster";
+
+    /**
+     * Write made by the operator which was not yet observed by the informer
+     *
+     * @param resource          The written resource or null when it was deleted
+     * @param writtenAtNanos    Time of the write
+     */
+    private record Write<T>(T resource, long writtenAtNanos) { }
+
+    private final String resourceKind;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final KubernetesSerialization serialization;
+    private final ResourceCacheMetricsHolder metrics;
+    private final long maxWriteAgeNanos;
+    private final Map<String, Write<T>> writes = new ConcurrentHashMap<>();
+
+    private volatile boolean stopping = false;
+
+    /**
+     * Constructs the cache. The informers are not started until the {@link #start()} method is called.
+     *
+     * @param resourceKind      Kind of the cached resources (used for logging)
+     * @param informers         Informers watching the resources with the {@code strimzi.io/cluster} label, by
+     *                          namespace. The informer watching all namespaces is stored under {@code *}.
+     * @param serialization     Kubernetes serialization used to copy the cached resources
+     * @param metrics           Metrics holder
+     * @param maxWriteAgeMs     Maximal time for which the writes made by the operator are kept in the cache
+     */
+    public ResourceCache(String resourceKind, Map<String, SharedIndexInformer<T>> informers, KubernetesSerialization serialization, ResourceCacheMetricsHolder metrics, long maxWriteAgeMs) {
+        this.resourceKind = resourceKind;
+        this.informers = informers;
+        this.serialization = serialization;
+        this.metrics = metrics;
+        this.maxWriteAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxWriteAgeMs);
+
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            Map<String, Function<T, List<String>>> indexers = new HashMap<>(2);
+            indexers.put(CLUSTER_INDEX, resource -> List.of(clusterIndexKey(resource.getMetadata().getNamespace(), resource.getMetadata().getLabels().get(SCOPE_LABEL))));
+            if (!informer.getIndexer().getIndexers().containsKey(Cache.NAMESPACE_INDEX)) {
+                indexers.put(Cache.NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc);
+            }
+
+            informer.addIndexers(indexers);
+            informer.addEventHandler(new WriteObserver());
+        }
+    }
+
+    /**
+     * Starts the informers
+     */
+    public void start() {
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(resourceKind, isStarted, throwable));
+            informer.start();
+            informer.stopped().whenComplete((v, t) -> InformerUtils.stoppedInformerHandler(resourceKind, t, stopping));
+        }
+    }
+
+    /**
+     * Stops the informers
+     *
+     * @param timeoutMs     Timeout in milliseconds for how long to wait for each informer to stop
+     */
+    @SuppressWarnings("unchecked")
+    public void stop(long timeoutMs) {
+        stopping = true;
+        InformerUtils.stopAll(timeoutMs, informers.values().toArray(new SharedIndexInformer[0]));
+    }
+
+    /**
+     * Gets the informer watching the given namespace
+     *
+     * @param namespace     Namespace
+     *
+     * @return  Synced informer or null if the namespace is not watched or the informer is not synced yet
+     */
+    private SharedIndexInformer<T> informer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null && !ANY_NAMESPACE.equals(namespace)) {
+            informer = informers.get(ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+
+    /**
+     * Gets a copy of the resource from the cache.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the resource or null when the cache cannot answer and the resource has to be read from the
+     *          Kubernetes API
+     */
+    public T get(String namespace, String name) {
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (informer != null) {
+            String key = Cache.namespaceKeyFunc(namespace, name);
+            T resource;
+
+            Write<T> write = writes.get(key);
+            if (write != null && !isExpired(key, write)) {
+                resource = write.resource();
+            } else {
+                resource = informer.getIndexer().getByKey(key);
+            }
+
+            if (resource != null) {
+                metrics.hit();
+                return serialization.clone(resource);
+            }
+        }
+
+        metrics.miss();
+        return null;
+    }
+
+    /**
+     * Lists copies of the resources from the cache.
+     *
+     * @param namespace     Namespace of the resources or {@code *} for all namespaces
+     * @param selector      Selector of the resources
+     *
+     * @return  List of the resources or null when the cache cannot answer and the resources have to be listed from the
+     *          Kubernetes API
+     */
+    public List<T> list(String namespace, Labels selector) {
+        String cluster = selector != null ? selector.toMap().get(SCOPE_LABEL) : null;
+        SharedIndexInformer<T> informer = informer(namespace);
+
+        if (cluster == null || informer == null) {
+            metrics.miss();
+            return null;
+        }
+
+        Map<String, T> resources = new HashMap<>();
+        List<T> indexed = ANY_NAMESPACE.equals(namespace)
+                ? informer.getIndexer().list()
+                : informer.getIndexer().byIndex(CLUSTER_INDEX, clusterIndexKey(namespace, cluster));
+        for (T resource : indexed) {
+            resources.put(Cache.metaNamespaceKeyFunc(resource), resource);
+        }
+
+        for (Map.Entry<String, Write<T>> write : writes.entrySet()) {
+            if (!isExpired(write.getKey(), write.getValue())) {
+                T resource = write.getValue().resource();
+
+                if (resource == null) {
+                    resources.remove(write.getKey());
+                } else if (ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace())) {
+                    resources.put(write.getKey(), resource);
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(resources.size());
+        for (T resource : resources.values()) {
+            if (matches(resource, selector)) {
+                result.add(serialization.clone(resource));
+            }
+        }
+
+        metrics.hit();
+        return result;
+    }
+
+    /**
+     * Records a resource created or patched by the operator, so that it is returned by the cache until the informer
+     * observes it.
+     *
+     * @param resource  The resource returned by the Kubernetes API
+     */
+    public void written(T resource) {
+        String namespace = resource.getMetadata().getNamespace();
+        String key = Cache.namespaceKeyFunc(namespace, resource.getMetadata().getName());
+        SharedIndexInformer<T> informer = informers.containsKey(namespace) ? informers.get(namespace) : informers.get(ANY_NAMESPACE);
+
+        if (informer == null) {
+            return;
+        }
+
+        // The check of the informer runs inside the compute call, so it cannot interleave with the event handler
+        // removing the write when the informer observes it.
+        writes.compute(key, (k, previous) -> {
+            if (resource.getMetadata().getLabels() == null || !resource.getMetadata().getLabels().containsKey(SCOPE_LABEL)) {
+                // The resource is not watched (anymore). Until the informer observes that, it has to be read from the
+                // Kubernetes API.
+                return informer.getIndexer().getByKey(k) != null ? new Write<>(null, System.nanoTime()) : null;
+            }
+
+            T observed = informer.getIndexer().getByKey(k);
+            if (observed != null && resourceVersion(observed).equals(resourceVersion(resource))) {
+                return null;
+            } else {
+                return new Write<>(resource, System.nanoTime());
+            }
+        });
+        metrics.pendingWrites().set(writes.size());
+    }
+
+    /**
+     * Records a resource deleted by the operator, so that it is not returned by the cache until the informer observes
+     * the deletion.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void deleted(String namespace, String name) {
+        SharedIndexInformer<T> informer = informers.containsKey(namespace) ? informers.get(namespace) : informers.get(ANY_NAMESPACE);
+
+        if (informer == null) {
+            return;
+        }
+
+        writes.compute(Cache.namespaceKeyFunc(namespace, name), (k, previous) -> informer.getIndexer().getByKey(k) != null ? new Write<>(null, System.nanoTime()) : null);
+        metrics.pendingWrites().set(writes.size());
+    }
+
+    /**
+     * Forgets the write of a resource, for example because it failed and its result is not known.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void invalidate(String namespace, String name) {
+        if (writes.remove(Cache.namespaceKeyFunc(namespace, name)) != null) {
+            metrics.pendingWrites().set(writes.size());
+        }
+    }
+
+    /* test */ int pendingWrites() {
+        return writes.size();
+    }
+
+    private boolean isExpired(String key, Write<T> write) {
+        if (System.nanoTime() - write.writtenAtNanos() > maxWriteAgeNanos) {
+            LOGGER.debugOp("{} {} was not observed by the informer in time and will be read from the Kubernetes API", resourceKind, key);
+            if (writes.remove(key, write)) {
+                metrics.pendingWrites().set(writes.size());
+            }
+
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean matches(HasMetadata resource, Labels selector) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+
+        for (Map.Entry<String, String> label : selector.toMap().entrySet()) {
+            if (labels == null || !label.getValue().equals(labels.get(label.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String clusterIndexKey(String namespace, String cluster) {
+        return namespace + "/" + cluster;
+    }
+
+    private static String resourceVersion(HasMetadata resource) {
+        return String.valueOf(resource.getMetadata().getResourceVersion());
+    }
+
+    /**
+     * Removes the writes of the operator once the informer observes them
+     */
+    private class WriteObserver implements ResourceEventHandler<T> {
+        @Override
+        public void onAdd(T resource) {
+            // A resource added after it was deleted by the operator was re-created, so it replaces the deletion as well
+            observed(resource, true);
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            observed(newResource, false);
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            Write<T> write = writes.remove(Cache.metaNamespaceKeyFunc(resource));
+
+            if (write != null) {
+                metrics.writeObserved(System.nanoTime() - write.writtenAtNanos());
+                metrics.pendingWrites().set(writes.size());
+            }
+        }
+
+        private void observed(T resource, boolean added) {
+            String version = resourceVersion(resource);
+
+            writes.computeIfPresent(Cache.metaNamespaceKeyFunc(resource), (k, write) -> {
+                if ((write.resource() == null && added)
+                        || (write.resource() != null && version.equals(resourceVersion(write.resource())))) {
+                    metrics.writeObserved(System.nanoTime() - write.writtenAtNanos());
+                    return null;
+                } else {
+                    return write;
+                }
+            });
+            metrics.pendingWrites().set(writes.size());
+        }
+    }
+}
@@ -5,6 +5,8 @@
 package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
@@ -35,7 +37,9 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     private final boolean isEmpty;
 
     /**
-     * Constructs the diff
+     * Constructs the diff. The resources are first compared structurally, which is cheap and covers the common case
+     * when nothing changed. Only when they seem to differ, they are converted to JSON and diffed to find out whether
+     * the differences can be ignored.
      *
      * @param reconciliation    Reconciliation marker
      * @param resourceKind      Kind of the resource
@@ -45,12 +49,25 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
      * @param ignorableFields   Pattern with fields which should be ignored
      */
     public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
+        if (current != null
+                && desired != null
+                && isStructurallyEqual(current, desired, ignorableFields)) {
+            LOGGER.traceCr(reconciliation, "{} {} did not change", resourceKind, resourceName);
+            this.isEmpty = true;
+        } else {
+            this.isEmpty = isJsonDiffEmpty(reconciliation, resourceKind, resourceName, current, desired, ignorableFields);
+        }
+    }
+
+    /* test */ static boolean isStructurallyEqual(Object current, Object desired, Pattern ignorableFields) {
+        return StructuralComparator.equivalent(PATCH_MAPPER, current, desired, ignorableFields);
+    }
+
+    /* test */ static boolean isJsonDiffEmpty(Reconciliation reconciliation, String resourceKind, String resourceName, Object current, Object desired, Pattern ignorableFields) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
         JsonNode diff = JsonDiff.asJson(source, target);
 
-        int num = 0;
-
         for (JsonNode d : diff) {
             String pathValue = d.get("path").asText();
 
@@ -65,11 +82,84 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
                 LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
             }
 
-            num++;
-            break;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes a JSON merge patch (RFC 7386) which changes the current resource to the desired resource. The patch
+     * contains only the fields which differ and are not ignorable. Removed fields are set to null and arrays which
+     * differ are replaced as a whole, because a merge patch cannot change only some of their items.
+     *
+     * @param current           Current resource
+     * @param desired           Desired resource
+     * @param ignorableFields   Pattern with fields which should be ignored
+     *
+     * @return  JSON merge patch
+     */
+    public static ObjectNode mergePatch(Object current, Object desired, Pattern ignorableFields) {
+        JsonNode source = PATCH_MAPPER.valueToTree(current);
+        JsonNode target = PATCH_MAPPER.valueToTree(desired);
+        ObjectNode patch = PATCH_MAPPER.createObjectNode();
+
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            String pathValue = d.get("path").asText();
+
+            if (!ignorableFields.matcher(pathValue).matches()) {
+                addToMergePatch(patch, source, target, pathValue);
+            }
+
+            if (d.has("from") && "move".equals(d.get("op").asText())) {
+                addToMergePatch(patch, source, target, d.get("from").asText());
+            }
         }
 
-        this.isEmpty = num == 0;
+        return patch;
+    }
+
+    /**
+     * Adds the value from the desired resource at the given JSON pointer path to the merge patch. The path is followed
+     * only through the objects existing in both resources. The first field which is missing in any of them, is not an
+     * object or is the last segment of the path is copied from the desired resource or set to null if it was removed.
+     */
+    private static void addToMergePatch(ObjectNode patch, JsonNode source, JsonNode target, String path) {
+        String[] segments = path.split("/", -1);
+        ObjectNode patchNode = patch;
+        JsonNode sourceNode = source;
+        JsonNode targetNode = target;
+
+        // The first segment is empty because the path starts with a slash
+        for (int i = 1; i < segments.length; i++) {
+            String field = segments[i].replace("~1", "/").replace("~0", "~");
+            JsonNode targetChild = targetNode.get(field);
+            JsonNode sourceChild = sourceNode.get(field);
+
+            if (targetChild == null) {
+                patchNode.set(field, NullNode.getInstance());
+                return;
+            } else if (i == segments.length - 1
+                    || !targetChild.isObject()
+                    || sourceChild == null
+                    || !sourceChild.isObject()) {
+                patchNode.set(field, targetChild.deepCopy());
+                return;
+            }
+
+            JsonNode patchChild = patchNode.get(field);
+            if (patchChild == null) {
+                patchNode = patchNode.putObject(field);
+            } else if (patchChild.isObject()) {
+                patchNode = (ObjectNode) patchChild;
+            } else {
+                // The whole field is already in the patch
+                return;
+            }
+
+            sourceNode = sourceChild;
+            targetNode = targetChild;
+        }
     }
 
     @Override
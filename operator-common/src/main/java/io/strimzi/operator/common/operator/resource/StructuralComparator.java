@@ -0,0 +1,306 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compares two Kubernetes resources by walking their Java model in the same way as Jackson serializes them, without
+ * converting them to JSON trees. The comparison stops at the first difference which is not ignorable.
+ *
+ * The comparison answers only whether the resources are provably equal apart from the ignorable paths. A difference
+ * is ignorable when its JSON pointer path matches the pattern with ignorable paths and it is not inside an array
+ * (where the JSON diff might report it on a different path). When the comparator finds any other difference or a
+ * value it cannot compare, it returns false and the caller should fall back to the full JSON diff.
+ */
+final class StructuralComparator {
+    /**
+     * Information about a bean property needed for the comparison
+     *
+     * @param name          Escaped JSON name of the property
+     * @param writer        Writer used by Jackson to serialize the property
+     * @param omitEmpty     Indicates whether empty values of the property are not serialized
+     */
+    private record Property(String name, BeanPropertyWriter writer, boolean omitEmpty) { }
+
+    /**
+     * Information about a bean needed for the comparison
+     *
+     * @param properties    Properties of the bean
+     * @param anyGetter     Getter of the additional properties or null if the bean has none
+     */
+    private record Bean(List<Property> properties, AnnotatedMember anyGetter) { }
+
+    /**
+     * Classes which are not serialized as beans and are compared as leaf values
+     */
+    private static final Bean NOT_A_BEAN = new Bean(List.of(), null);
+    private static final Map<Class<?>, Bean> BEANS = new ConcurrentHashMap<>();
+
+    private final ObjectMapper mapper;
+    private final Pattern ignorablePaths;
+    private final StringBuilder path = new StringBuilder();
+
+    private StructuralComparator(ObjectMapper mapper, Pattern ignorablePaths) {
+        this.mapper = mapper;
+        this.ignorablePaths = ignorablePaths;
+    }
+
+    /**
+     * Checks whether two resources are equal apart from the ignorable paths.
+     *
+     * @param mapper            Object mapper used to serialize the resources for the JSON diff
+     * @param current           Current resource
+     * @param desired           Desired resource
+     * @param ignorablePaths    Pattern with the JSON paths which should be ignored if they differ
+     *
+     * @return  True if the resources are provably equal apart from the ignorable paths. False if they differ or if they
+     *          could not be compared.
+     */
+    static boolean equivalent(ObjectMapper mapper, Object current, Object desired, Pattern ignorablePaths) {
+        try {
+            return new StructuralComparator(mapper, ignorablePaths).compare(current, desired, false);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private boolean compare(Object current, Object desired, boolean inArray) {
+        if (current == desired) {
+            return true;
+        } else if (current instanceof Map<?, ?> currentMap && desired instanceof Map<?, ?> desiredMap) {
+            return compareMaps(currentMap, desiredMap, inArray);
+        } else if (current instanceof List<?> currentList && desired instanceof List<?> desiredList) {
+            return compareLists(currentList, desiredList);
+        } else if (current.getClass() != desired.getClass()) {
+            return difference(inArray);
+        }
+
+        Bean bean = bean(current.getClass());
+
+        if (bean == NOT_A_BEAN) {
+            return compareValues(current, desired) || difference(inArray);
+        } else {
+            return compareBeans(bean, current, desired, inArray);
+        }
+    }
+
+    private boolean compareBeans(Bean bean, Object current, Object desired, boolean inArray) {
+        for (Property property : bean.properties()) {
+            Object currentValue;
+            Object desiredValue;
+
+            try {
+                currentValue = property.writer().get(current);
+                desiredValue = property.writer().get(desired);
+            } catch (Exception e) {
+                return false;
+            }
+
+            int length = push(property.name());
+            boolean currentAbsent = isAbsent(currentValue, property.omitEmpty());
+            boolean desiredAbsent = isAbsent(desiredValue, property.omitEmpty());
+            boolean equal = (currentAbsent && desiredAbsent)
+                    || (currentAbsent || desiredAbsent ? difference(inArray) : compare(currentValue, desiredValue, inArray));
+            path.setLength(length);
+
+            if (!equal) {
+                return false;
+            }
+        }
+
+        if (bean.anyGetter() != null) {
+            return compareMaps(additionalProperties(bean, current), additionalProperties(bean, desired), inArray);
+        } else {
+            return true;
+        }
+    }
+
+    private boolean compareMaps(Map<?, ?> current, Map<?, ?> desired, boolean inArray) {
+        for (Map.Entry<?, ?> entry : current.entrySet()) {
+            int length = push(escape(String.valueOf(entry.getKey())));
+            boolean equal;
+
+            if (!desired.containsKey(entry.getKey())) {
+                equal = difference(inArray);
+            } else {
+                Object currentValue = entry.getValue();
+                Object desiredValue = desired.get(entry.getKey());
+
+                if (currentValue == null || desiredValue == null) {
+                    equal = currentValue == desiredValue || difference(inArray);
+                } else {
+                    equal = compare(currentValue, desiredValue, inArray);
+                }
+            }
+
+            path.setLength(length);
+
+            if (!equal) {
+                return false;
+            }
+        }
+
+        for (Object key : desired.keySet()) {
+            if (!current.containsKey(key)) {
+                int length = push(escape(String.valueOf(key)));
+                boolean equal = difference(inArray);
+                path.setLength(length);
+
+                if (!equal) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean compareLists(List<?> current, List<?> desired) {
+        if (current.size() != desired.size()) {
+            return false;
+        }
+
+        Iterator<?> desiredIterator = desired.iterator();
+        int index = 0;
+
+        for (Object currentItem : current) {
+            Object desiredItem = desiredIterator.next();
+            int length = push(String.valueOf(index++));
+            boolean equal;
+
+            if (currentItem == null || desiredItem == null) {
+                equal = currentItem == desiredItem;
+            } else {
+                equal = compare(currentItem, desiredItem, true);
+            }
+
+            path.setLength(length);
+
+            if (!equal) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compares two values which are not serialized as beans, maps or lists. Strings, numbers, booleans and enums are
+     * compared directly. Other values (for example Quantity or IntOrString which have custom serializers) are compared
+     * by their JSON representation.
+     */
+    private boolean compareValues(Object current, Object desired) {
+        if (current instanceof String
+                || current instanceof Number
+                || current instanceof Boolean
+                || current instanceof Enum) {
+            return current.equals(desired);
+        } else {
+            return mapper.valueToTree(current).equals(mapper.valueToTree(desired));
+        }
+    }
+
+    /**
+     * Called when the values at the current path differ.
+     *
+     * @return  True if the difference can be ignored
+     */
+    private boolean difference(boolean inArray) {
+        return !inArray && ignorablePaths.matcher(path).matches();
+    }
+
+    private int push(String segment) {
+        int length = path.length();
+        path.append('/').append(segment);
+        return length;
+    }
+
+    private static Map<?, ?> additionalProperties(Bean bean, Object value) {
+        Object additionalProperties = bean.anyGetter().getValue(value);
+        return additionalProperties instanceof Map<?, ?> map ? map : Collections.emptyMap();
+    }
+
+    /**
+     * Checks whether a property value is not serialized. Null values and empty collections are never serialized by the
+     * mapper used for the diff. Empty maps and strings are not serialized when the property uses the NON_EMPTY
+     * inclusion.
+     */
+    private static boolean isAbsent(Object value, boolean omitEmpty) {
+        if (value == null) {
+            return true;
+        } else if (value instanceof Collection<?> collection) {
+            return collection.isEmpty();
+        } else if (omitEmpty) {
+            return (value instanceof Map<?, ?> map && map.isEmpty())
+                    || (value instanceof String string && string.isEmpty());
+        } else {
+            return false;
+        }
+    }
+
+    private static String escape(String segment) {
+        if (segment.indexOf('~') < 0 && segment.indexOf('/') < 0) {
+            return segment;
+        } else {
+            return segment.replace("~", "~0").replace("/", "~1");
+        }
+    }
+
+    private Bean bean(Class<?> type) {
+        return BEANS.computeIfAbsent(type, this::introspect);
+    }
+
+    private Bean introspect(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.getName().startsWith("java.")) {
+            return NOT_A_BEAN;
+        }
+
+        JsonSerializer<Object> serializer;
+        try {
+            serializer = mapper.getSerializerProviderInstance().findValueSerializer(type);
+        } catch (JsonMappingException e) {
+            return NOT_A_BEAN;
+        }
+
+        if (!(serializer instanceof BeanSerializerBase beanSerializer)) {
+            return NOT_A_BEAN;
+        }
+
+        JsonInclude classInclude = type.getAnnotation(JsonInclude.class);
+        boolean classOmitsEmpty = classInclude != null && classInclude.value() == JsonInclude.Include.NON_EMPTY;
+        List<Property> properties = new ArrayList<>();
+
+        for (Iterator<PropertyWriter> it = beanSerializer.properties(); it.hasNext(); ) {
+            if (!(it.next() instanceof BeanPropertyWriter writer)) {
+                return NOT_A_BEAN;
+            }
+
+            JsonInclude include = writer.findAnnotation(JsonInclude.class);
+            boolean omitEmpty = include != null ? include.value() == JsonInclude.Include.NON_EMPTY : classOmitsEmpty;
+            properties.add(new Property(escape(writer.getName()), writer, omitEmpty));
+        }
+
+        BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+        return new Bean(List.copyOf(properties), description.findAnyGetter());
+    }
+}
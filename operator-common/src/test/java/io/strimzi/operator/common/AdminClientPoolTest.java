@@ -0,0 +1,258 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.metrics.AdminClientPoolMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminClientPoolTest {
+    private static final String BOOTSTRAP = "my-cluster-kafka-bootstrap.my-namespace.svc:9091";
+    private static final Secret CA_CERT = caCert("ca1");
+    private static final Secret CO_KEY = coKey("key1");
+
+    private static Secret caCert(String cert) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-ca-cert")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withData(Map.of("ca.crt", cert))
+                .build();
+    }
+
+    private static Secret coKey(String key) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-operator-certs")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withData(Map.of("cluster-operator.key", key, "cluster-operator.crt", "crt"))
+                .build();
+    }
+
+    private static AdminClientProvider mockProvider(Admin... admins) {
+        AdminClientProvider provider = mock(AdminClientProvider.class);
+        var stubbing = when(provider.createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class)));
+
+        for (Admin admin : admins) {
+            stubbing = stubbing.thenReturn(admin);
+        }
+
+        return provider;
+    }
+
+    @Test
+    void testClientIsShared() {
+        Admin admin = mock(Admin.class);
+        AdminClientProvider provider = mockProvider(admin);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        try (AdminClientPool pool = new AdminClientPool(provider, 60_000L, new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(registry)), () -> 0L)) {
+            Admin first = pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator");
+            first.describeCluster();
+            first.close();
+            // Closing the lease again has no effect
+            first.close();
+
+            Admin second = pool.createAdminClient(BOOTSTRAP, caCert("ca1"), coKey("key1"), "cluster-operator");
+            second.describeCluster();
+
+            assertThat(registry.get("strimzi.admin.client.pool.active.leases").gauge().value(), is(1.0));
+            second.close();
+
+            verify(provider, times(1)).createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class));
+            verify(admin, times(2)).describeCluster();
+            verify(admin, never()).close();
+
+            assertThat(registry.get("strimzi.admin.client.pool.leases").counter().count(), is(2.0));
+            assertThat(registry.get("strimzi.admin.client.pool.created").counter().count(), is(1.0));
+            assertThat(registry.get("strimzi.admin.client.pool.clients").gauge().value(), is(1.0));
+            assertThat(registry.get("strimzi.admin.client.pool.active.leases").gauge().value(), is(0.0));
+        }
+
+        verify(admin).close();
+    }
+
+    @Test
+    void testClientsAreKeyedByBootstrapAndConfig() {
+        Admin admin1 = mock(Admin.class);
+        Admin admin2 = mock(Admin.class);
+        Admin admin3 = mock(Admin.class);
+        AdminClientProvider provider = mockProvider(admin1, admin2, admin3);
+
+        try (AdminClientPool pool = new AdminClientPool(provider, 60_000L, new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(new SimpleMeterRegistry())), () -> 0L)) {
+            Properties config = new Properties();
+            config.setProperty("request.timeout.ms", "5000");
+
+            Admin bootstrap = pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator");
+            Admin broker = pool.createAdminClient("my-cluster-kafka-0.my-namespace.svc:9091", CA_CERT, CO_KEY, "cluster-operator");
+            Admin configured = pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator", config);
+
+            assertThat(bootstrap, is(not(broker)));
+            assertThat(bootstrap, is(not(configured)));
+            verify(provider, times(3)).createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class));
+
+            // Different clients of the same cluster with the same credentials are not closed
+            verify(admin1, never()).close();
+            verify(admin2, never()).close();
+        }
+    }
+
+    @Test
+    void testClientsAreReplacedWhenCredentialsChange() {
+        Admin oldAdmin = mock(Admin.class);
+        Admin newAdmin = mock(Admin.class);
+        AdminClientProvider provider = mockProvider(oldAdmin, newAdmin);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        try (AdminClientPool pool = new AdminClientPool(provider, 60_000L, new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(registry)), () -> 0L)) {
+            Admin oldLease = pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator");
+            Admin newLease = pool.createAdminClient(BOOTSTRAP, CA_CERT, coKey("key2"), "cluster-operator");
+
+            // The outdated client is closed only once it is not used anymore
+            verify(oldAdmin, never()).close();
+            oldLease.close();
+            verify(oldAdmin).close();
+
+            newLease.describeCluster();
+            newLease.close();
+            verify(newAdmin).describeCluster();
+            verify(newAdmin, never()).close();
+
+            assertThat(registry.get("strimzi.admin.client.pool.evictions").tag("reason", "credentials").counter().count(), is(1.0));
+            assertThat(registry.get("strimzi.admin.client.pool.clients").gauge().value(), is(1.0));
+        }
+    }
+
+    @Test
+    void testIdleTimeoutHasToBePositive() {
+        AdminClientProvider provider = mock(AdminClientProvider.class);
+        AdminClientPoolMetricsHolder metrics = new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        assertThrows(IllegalArgumentException.class, () -> new AdminClientPool(provider, 0L, metrics, () -> 0L));
+        assertThrows(IllegalArgumentException.class, () -> new AdminClientPool(provider, -1L, metrics, () -> 0L));
+    }
+
+    @Test
+    void testClientIsCreatedOutsideOfTheLock() throws Exception {
+        Admin slowAdmin = mock(Admin.class);
+        Admin fastAdmin = mock(Admin.class);
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch created = new CountDownLatch(1);
+        AdminClientProvider provider = mock(AdminClientProvider.class);
+        when(provider.createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class))).thenAnswer(invocation -> {
+            if (BOOTSTRAP.equals(invocation.getArgument(0))) {
+                creating.countDown();
+                assertThat(created.await(10, TimeUnit.SECONDS), is(true));
+                return slowAdmin;
+            } else {
+                return fastAdmin;
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (AdminClientPool pool = new AdminClientPool(provider, 60_000L, new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(new SimpleMeterRegistry())), () -> 0L)) {
+            Future<Admin> first = executor.submit(() -> pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator"));
+            assertThat(creating.await(10, TimeUnit.SECONDS), is(true));
+            Future<Admin> second = executor.submit(() -> pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator"));
+
+            // The client of another broker is created while the first client is still being created
+            pool.createAdminClient("my-cluster-kafka-0.my-namespace.svc:9091", CA_CERT, CO_KEY, "cluster-operator").describeCluster();
+            verify(fastAdmin).describeCluster();
+            assertThat(first.isDone(), is(false));
+            assertThat(second.isDone(), is(false));
+
+            // The concurrent callers share the same client
+            created.countDown();
+            first.get(10, TimeUnit.SECONDS).describeCluster();
+            second.get(10, TimeUnit.SECONDS).describeCluster();
+            verify(slowAdmin, times(2)).describeCluster();
+            verify(provider, times(2)).createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedClientIsCreatedAgain() {
+        Admin admin = mock(Admin.class);
+        AdminClientProvider provider = mock(AdminClientProvider.class);
+        when(provider.createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class)))
+                .thenThrow(new RuntimeException("Failed to create the client"))
+                .thenReturn(admin);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        try (AdminClientPool pool = new AdminClientPool(provider, 60_000L, new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(registry)), () -> 0L)) {
+            RuntimeException e = assertThrows(RuntimeException.class, () -> pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator"));
+            assertThat(e.getMessage(), is("Failed to create the client"));
+            assertThat(registry.get("strimzi.admin.client.pool.clients").gauge().value(), is(0.0));
+            assertThat(registry.get("strimzi.admin.client.pool.active.leases").gauge().value(), is(0.0));
+
+            pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator").describeCluster();
+            verify(admin).describeCluster();
+            assertThat(registry.get("strimzi.admin.client.pool.created").counter().count(), is(1.0));
+        }
+    }
+
+    @Test
+    void testIdleClientsAreEvicted() {
+        Admin admin1 = mock(Admin.class);
+        Admin admin2 = mock(Admin.class);
+        AdminClientProvider provider = mockProvider(admin1, admin2);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AtomicLong clock = new AtomicLong(0L);
+
+        try (AdminClientPool pool = new AdminClientPool(provider, 60_000L, new AdminClientPoolMetricsHolder(new MicrometerMetricsProvider(registry)), clock::get)) {
+            Admin lease = pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator");
+
+            // Leased clients are never evicted
+            clock.set(120_000L);
+            pool.evictIdleClients();
+            verify(admin1, never()).close();
+
+            lease.close();
+            clock.set(150_000L);
+            pool.evictIdleClients();
+            verify(admin1, never()).close();
+
+            clock.set(180_000L);
+            pool.evictIdleClients();
+            verify(admin1).close();
+
+            assertThat(registry.get("strimzi.admin.client.pool.evictions").tag("reason", "idle").counter().count(), is(1.0));
+            assertThat(registry.get("strimzi.admin.client.pool.clients").gauge().value(), is(0.0));
+
+            // A new client is created once the idle client was evicted
+            pool.createAdminClient(BOOTSTRAP, CA_CERT, CO_KEY, "cluster-operator").close();
+            verify(provider, times(2)).createAdminClient(anyString(), any(), any(), anyString(), any(Properties.class));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReconciliationGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    @Test
+    void testIndependentStepsRunConcurrently() {
+        List<String> started = new ArrayList<>();
+        Promise<Void> a = Promise.promise();
+        Promise<Void> b = Promise.promise();
+        Promise<Void> c = Promise.promise();
+
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, null)
+                .addStep("a", () -> {
+                    started.add("a");
+                    return a.future();
+                })
+                .addStep("b", () -> {
+                    started.add("b");
+                    return b.future();
+                })
+                .addStep("c", () -> {
+                    started.add("c");
+                    return c.future();
+                }, "a", "b")
+                .execute();
+
+        // a and b do not depend on each other, so they are both started right away
+        assertThat(started, contains("a", "b"));
+
+        a.complete();
+        assertThat(started, contains("a", "b"));
+
+        b.complete();
+        assertThat(started, contains("a", "b", "c"));
+        assertThat(result.isComplete(), is(false));
+
+        c.complete();
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    void testStepsWithoutDependenciesRunInOrder() {
+        List<String> started = new ArrayList<>();
+
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, null)
+                .addStep("a", () -> {
+                    started.add("a");
+                    return Future.succeededFuture();
+                })
+                .addStep("b", () -> {
+                    started.add("b");
+                    return Future.succeededFuture();
+                })
+                .addStep("c", () -> {
+                    started.add("c");
+                    return Future.succeededFuture();
+                })
+                .execute();
+
+        assertThat(result.succeeded(), is(true));
+        assertThat(started, contains("a", "b", "c"));
+    }
+
+    @Test
+    void testFailedStepSkipsDependentSteps() {
+        List<String> started = new ArrayList<>();
+        RuntimeException failure = new RuntimeException("failed");
+        Promise<Void> independent = Promise.promise();
+
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, null)
+                .addStep("a", () -> {
+                    started.add("a");
+                    return Future.failedFuture(failure);
+                })
+                .addStep("b", () -> {
+                    started.add("b");
+                    return independent.future();
+                })
+                .addStep("c", () -> {
+                    started.add("c");
+                    return Future.succeededFuture();
+                }, "a")
+                .addStep("d", () -> {
+                    started.add("d");
+                    return Future.succeededFuture();
+                }, "b", "c")
+                .execute();
+
+        // The graph waits for the running steps
+        assertThat(result.isComplete(), is(false));
+
+        independent.complete();
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause(), is(failure));
+        assertThat(started, contains("a", "b"));
+    }
+
+    @Test
+    void testThrowingStep() {
+        RuntimeException failure = new RuntimeException("failed");
+
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, null)
+                .addStep("a", () -> {
+                    throw failure;
+                })
+                .execute();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause(), is(failure));
+    }
+
+    @Test
+    void testInvalidSteps() {
+        ReconciliationGraph graph = new ReconciliationGraph(RECONCILIATION, null)
+                .addStep("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.addStep("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.addStep("b", Future::succeededFuture, "c"));
+    }
+
+    @Test
+    void testStepTimers() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OperatorMetricsHolder metrics = new OperatorMetricsHolder("Kafka", null, new MicrometerMetricsProvider(registry));
+
+        Future<Void> result = new ReconciliationGraph(RECONCILIATION, metrics)
+                .addStep("a", Future::succeededFuture)
+                .addStep("b", () -> Future.failedFuture("failed"))
+                .addStep("c", Future::succeededFuture, "b")
+                .execute();
+
+        assertThat(result.failed(), is(true));
+
+        Timer a = registry.find("strimzi.reconciliations.step.duration").tag("step", "a").tag("namespace", "my-namespace").timer();
+        assertThat(a, is(notNullValue()));
+        assertThat(a.count(), is(1L));
+
+        Timer b = registry.find("strimzi.reconciliations.step.duration").tag("step", "b").timer();
+        assertThat(b, is(notNullValue()));
+        assertThat(b.count(), is(1L));
+
+        // Skipped steps are not timed
+        assertThat(registry.find("strimzi.reconciliations.step.duration").tag("step", "c").timer(), is(nullValue()));
+    }
+}
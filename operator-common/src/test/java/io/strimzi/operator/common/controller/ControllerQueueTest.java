@@ -10,8 +10,14 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -30,11 +36,206 @@ public class ControllerQueueTest {
         q.enqueue(r3);
         q.enqueue(r2);
 
-        assertThat(q.queue.size(), is(2));
-        assertThat(q.queue.contains(r1), is(true));
-        assertThat(q.queue.contains(r3), is(true));
+        assertThat(q.shards[0].queue.size(), is(2));
+        assertThat(q.shards[0].queue.contains(r1), is(true));
+        assertThat(q.shards[0].queue.contains(r3), is(true));
 
         // Test metric
         assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
     }
+
+    @Test
+    public void testEnqueueingInProgress() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+        SimplifiedReconciliation r3 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+        assertThat(q.shards[0].inProgress.contains(r1), is(true));
+
+        // Events received while the resource is reconciled should not be available in the queue
+        q.enqueue(r2);
+        q.enqueue(r3);
+        assertThat(q.shards[0].queue.size(), is(0));
+        assertThat(q.shards[0].pending.size(), is(1));
+
+        // Once the reconciliation is done, they should be enqueued as a single reconciliation
+        q.done(r1);
+        assertThat(q.shards[0].queue.size(), is(1));
+        assertThat(q.shards[0].inProgress.isEmpty(), is(true));
+
+        SimplifiedReconciliation next = q.take();
+        assertThat(next, is(r2));
+        assertThat(next.trigger, is("timer"));
+        q.done(next);
+        assertThat(q.shards[0].queue.size(), is(0));
+        assertThat(q.shards[0].pending.isEmpty(), is(true));
+        assertThat(q.shards[0].inProgress.isEmpty(), is(true));
+
+        // Test metrics
+        assertThat(metricsRegistry.get("strimzi.reconciliations.coalesced").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.wait.duration").tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(2L));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").tag("namespace", "").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void testFullQueue() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(2, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch"));
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name2", "watch"));
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name3", "watch"));
+
+        assertThat(q.size(), is(2));
+        assertThat(q.shards[0].pending.size(), is(2));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").tag("namespace", "").gauge().value(), is(2.0));
+    }
+
+    @Test
+    public void testFullQueueWithInProgressReconciliation() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(1, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name2", "watch");
+
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+
+        // The event received during the reconciliation fits into the queue ...
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer"));
+        assertThat(q.shards[0].pending.size(), is(1));
+
+        // ... but the queue is full once the reconciliation is done, so it is dropped
+        q.enqueue(r2);
+        q.done(r1);
+        assertThat(q.size(), is(1));
+        assertThat(q.shards[0].pending.size(), is(1));
+        assertThat(q.shards[0].pending.containsKey(r2), is(true));
+
+        // Events for in-progress resources are not coalesced when the queue is full
+        assertThat(q.take(), is(r2));
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name3", "watch"));
+        q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name2", "timer"));
+        assertThat(q.shards[0].pending.containsKey(r2), is(false));
+        q.done(r2);
+        assertThat(q.size(), is(1));
+    }
+
+    @Test
+    public void testEnqueueRateLimited() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(100L, 1_000L, 1_000, 1_000);
+
+        try {
+            ControllerQueue q = new ControllerQueue(10, rateLimiter, scheduledExecutor, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+            SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+
+            q.enqueueRateLimited(r1);
+            q.enqueueRateLimited(r1);
+
+            // The reconciliation should be enqueued only after the delay
+            assertThat(q.size(), is(0));
+            assertThat(rateLimiter.retries(r1.lockName()), is(2));
+            TestUtils.waitFor("Wait for the retry to be enqueued", 10, 5_000, () -> q.size() == 1);
+
+            // The second retry should be deduplicated
+            Thread.sleep(300);
+            assertThat(q.size(), is(1));
+            assertThat(q.take(), is(r1));
+            q.done(r1);
+            assertThat(q.size(), is(0));
+
+            // Forgetting the reconciliation resets the backoff
+            q.forget(r1);
+            assertThat(rateLimiter.retries(r1.lockName()), is(0));
+
+            // Test metrics
+            assertThat(metricsRegistry.get("strimzi.reconciliations.retried").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(2.0));
+            assertThat(metricsRegistry.get("strimzi.reconciliations.retry.delay").tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(2L));
+        } finally {
+            scheduledExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEnqueueRateLimitedWithoutRateLimiter() {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        q.enqueueRateLimited(new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch"));
+
+        assertThat(q.size(), is(1));
+    }
+
+    @Test
+    public void testShardedQueue() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, 4, null, null, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+
+        // The same resource should always end up in the same shard
+        assertThat(q.shardFor(r1), is(q.shardFor(r2)));
+
+        Set<ControllerQueue.Shard> usedShards = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            SimplifiedReconciliation r = new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i, "watch");
+            q.enqueue(r);
+            usedShards.add(q.shardFor(r));
+            assertThat(q.shardFor(r).queue.contains(r), is(true));
+        }
+
+        assertThat(q.size(), is(20));
+        assertThat(q.shardCount(), is(4));
+        assertThat(usedShards.size(), is(4));
+
+        // Each shard should report its own depth
+        for (int i = 0; i < 4; i++) {
+            assertThat(metricsRegistry.get("strimzi.controller.queue.shard.depth").tag("kind", "kind").tag("shard", String.valueOf(i)).gauge().value(), is((double) q.shards[i].queue.size()));
+        }
+    }
+
+    @Test
+    public void testShardedQueueStealing() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, 2, null, null, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "watch");
+        int ownShard = q.shardFor(r1) == q.shards[0] ? 0 : 1;
+        int otherShard = 1 - ownShard;
+
+        q.enqueue(r1);
+
+        // The other shard is empty => it should steal the reconciliation
+        assertThat(q.take(otherShard), is(r1));
+        assertThat(q.shards[ownShard].inProgress.contains(r1), is(true));
+
+        // The resource is in progress => new events are coalesced and cannot be stolen or taken
+        q.enqueue(r1);
+        assertThat(q.size(), is(0));
+
+        // Done returns it to its own shard
+        q.done(r1);
+        assertThat(q.shards[ownShard].queue.contains(r1), is(true));
+        assertThat(q.take(ownShard), is(r1));
+        q.done(r1);
+
+        assertThat(metricsRegistry.get("strimzi.reconciliations.stolen").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+    }
 }
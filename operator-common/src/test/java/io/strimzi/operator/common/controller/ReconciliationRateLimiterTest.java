@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationRateLimiterTest {
+    @Test
+    public void testExponentialBackoff() {
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(100L, 1_000L, 1_000, 1_000);
+
+        assertThat(rateLimiter.when("my-key"), is(100L));
+        assertThat(rateLimiter.when("my-key"), is(200L));
+        assertThat(rateLimiter.when("my-key"), is(400L));
+        assertThat(rateLimiter.when("my-key"), is(800L));
+        assertThat(rateLimiter.when("my-key"), is(1_000L));
+        assertThat(rateLimiter.when("my-key"), is(1_000L));
+        assertThat(rateLimiter.retries("my-key"), is(6));
+
+        // Other keys should not be affected
+        assertThat(rateLimiter.when("my-other-key"), is(100L));
+        assertThat(rateLimiter.retries("my-other-key"), is(1));
+
+        // Forgetting the key resets the backoff
+        rateLimiter.forget("my-key");
+        assertThat(rateLimiter.retries("my-key"), is(0));
+        assertThat(rateLimiter.when("my-key"), is(100L));
+
+        assertThat(rateLimiter.failures.size(), is(2));
+    }
+
+    @Test
+    public void testBackoffDoesNotOverflow() {
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(1_000L, Long.MAX_VALUE, 1_000, 1_000);
+
+        long delay = 0;
+        for (int i = 0; i < 100; i++) {
+            delay = rateLimiter.when("my-key");
+        }
+
+        assertThat(delay, greaterThan(0L));
+    }
+
+    @Test
+    public void testGlobalRateLimit() {
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(0L, 0L, 1, 2);
+
+        // Burst
+        assertThat(rateLimiter.when("key-1"), is(0L));
+        assertThat(rateLimiter.when("key-2"), is(0L));
+
+        // Tokens were used => we should wait
+        long delay = rateLimiter.when("key-3");
+        assertThat(delay, greaterThan(0L));
+        assertThat(delay, lessThanOrEqualTo(1_000L));
+
+        // The tokens are borrowed from the future => the next one waits even longer
+        assertThat(rateLimiter.when("key-4"), greaterThan(delay));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ReconciliationRateLimiter(1_000L, 100L, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> new ReconciliationRateLimiter(100L, 1_000L, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new ReconciliationRateLimiter(100L, 1_000L, 10, 0));
+    }
+}
@@ -9,10 +9,27 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractNamespacedResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -55,4 +72,161 @@ public class ConfigMapOperatorTest extends AbstractNamespacedResourceOperatorTes
                 .withData(singletonMap("FOO", "BAR2"))
                 .build();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergePatchStrategy(VertxTestContext context) {
+        ConfigMap current = resource();
+        ConfigMap desired = modifiedResource();
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(PatchContext.class), anyString())).thenReturn(desired);
+        KubernetesClient mockClient = mockClient(mockResource);
+
+        AbstractNamespacedResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClient);
+        op.setPatchStrategy(PatchStrategy.MERGE);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            ArgumentCaptor<PatchContext> contextCaptor = ArgumentCaptor.forClass(PatchContext.class);
+            ArgumentCaptor<String> patchCaptor = ArgumentCaptor.forClass(String.class);
+            verify(mockResource).patch(contextCaptor.capture(), patchCaptor.capture());
+            verify(mockResource, never()).patch(any(PatchContext.class), any(ConfigMap.class));
+
+            assertThat(contextCaptor.getValue().getPatchType(), is(PatchType.JSON_MERGE));
+            assertThat(patchCaptor.getValue(), is("{\"data\":{\"FOO\":\"BAR2\"}}"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyStrategy(VertxTestContext context) {
+        ConfigMap current = resource();
+        ConfigMap desired = modifiedResource();
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(PatchContext.class), any(ConfigMap.class))).thenReturn(desired);
+        KubernetesClient mockClient = mockClient(mockResource);
+
+        AbstractNamespacedResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClient);
+        op.setPatchStrategy(PatchStrategy.SERVER_SIDE_APPLY);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            ArgumentCaptor<PatchContext> contextCaptor = ArgumentCaptor.forClass(PatchContext.class);
+            verify(mockResource).patch(contextCaptor.capture(), any(ConfigMap.class));
+
+            assertThat(contextCaptor.getValue().getPatchType(), is(PatchType.SERVER_SIDE_APPLY));
+            assertThat(contextCaptor.getValue().getFieldManager(), is(AbstractNamespacedResourceOperator.FIELD_MANAGER));
+            assertThat(contextCaptor.getValue().getForce(), is(true));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMergePatchStrategyRemovesLabel(VertxTestContext context) {
+        ConfigMap current = new ConfigMapBuilder(resource())
+                .editMetadata()
+                    .withLabels(Map.of("foo", "bar", "baz", "qux"))
+                .endMetadata()
+                .build();
+        ConfigMap desired = new ConfigMapBuilder(resource())
+                .editMetadata()
+                    .withLabels(Map.of("baz", "qux"))
+                .endMetadata()
+                .build();
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(PatchContext.class), anyString())).thenReturn(desired);
+        KubernetesClient mockClient = mockClient(mockResource);
+
+        AbstractNamespacedResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClient);
+        op.setPatchStrategy(PatchStrategy.MERGE);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            ArgumentCaptor<String> patchCaptor = ArgumentCaptor.forClass(String.class);
+            verify(mockResource).patch(any(PatchContext.class), patchCaptor.capture());
+
+            assertThat(patchCaptor.getValue(), is("{\"metadata\":{\"labels\":{\"foo\":null}}}"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyStrategyRemovesLabel(VertxTestContext context) {
+        ConfigMap current = new ConfigMapBuilder(resource())
+                .editMetadata()
+                    .withLabels(Map.of("foo", "bar", "baz", "qux"))
+                .endMetadata()
+                .build();
+        ConfigMap desired = new ConfigMapBuilder(resource())
+                .editMetadata()
+                    .withLabels(Map.of("baz", "qux"))
+                .endMetadata()
+                .build();
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(PatchContext.class), any(ConfigMap.class))).thenReturn(desired);
+        KubernetesClient mockClient = mockClient(mockResource);
+
+        AbstractNamespacedResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClient);
+        op.setPatchStrategy(PatchStrategy.SERVER_SIDE_APPLY);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            // The applied configuration does not contain the removed label, so it is removed from the fields owned by the Strimzi field manager
+            ArgumentCaptor<ConfigMap> appliedCaptor = ArgumentCaptor.forClass(ConfigMap.class);
+            verify(mockResource).patch(any(PatchContext.class), appliedCaptor.capture());
+
+            assertThat(appliedCaptor.getValue().getMetadata().getLabels(), is(Map.of("baz", "qux")));
+            async.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testServerSideApplyStrategyCreatesResource(VertxTestContext context) {
+        ConfigMap desired = resource();
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.patch(any(PatchContext.class), any(ConfigMap.class))).thenReturn(desired);
+        KubernetesClient mockClient = mockClient(mockResource);
+
+        AbstractNamespacedResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClient);
+        op.setPatchStrategy(PatchStrategy.SERVER_SIDE_APPLY);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, desired).onComplete(context.succeeding(rr -> context.verify(() -> {
+            ArgumentCaptor<PatchContext> contextCaptor = ArgumentCaptor.forClass(PatchContext.class);
+            verify(mockResource).patch(contextCaptor.capture(), any(ConfigMap.class));
+            verify(mockResource, never()).create();
+
+            assertThat(rr instanceof ReconcileResult.Created, is(true));
+            assertThat(contextCaptor.getValue().getPatchType(), is(PatchType.SERVER_SIDE_APPLY));
+            assertThat(contextCaptor.getValue().getFieldManager(), is(AbstractNamespacedResourceOperator.FIELD_MANAGER));
+            async.flag();
+        })));
+    }
+
+    @SuppressWarnings("unchecked")
+    private KubernetesClient mockClient(Resource<ConfigMap> mockResource) {
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(NAMESPACE)).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+        return mockClient;
+    }
 }
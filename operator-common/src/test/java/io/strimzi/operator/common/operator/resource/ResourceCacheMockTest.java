@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+@EnableKubernetesMockClient(crud = true)
+@ExtendWith(VertxExtension.class)
+public class ResourceCacheMockTest {
+    private static final String NAMESPACE = "test";
+    private static final String CLUSTER = "my-cluster";
+
+    private static Vertx vertx;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ConfigMap configMap(String name, String value) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER))
+                .endMetadata()
+                .withData(Map.of("key", value))
+                .build();
+    }
+
+    @Test
+    public void testReadsFromCache(VertxTestContext context) throws InterruptedException {
+        client.configMaps().inNamespace(NAMESPACE).resource(configMap("a", "a")).create();
+        // Not cached, because it does not have the cluster label
+        client.configMaps().inNamespace(NAMESPACE).resource(new ConfigMapBuilder(configMap("user", "user"))
+                .editMetadata()
+                    .withLabels(null)
+                .endMetadata()
+                .build()).create();
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+        ResourceCache<ConfigMap> cache = op.enableCache(List.of(NAMESPACE), ResourceCache.DEFAULT_MAX_WRITE_AGE_MS, new MicrometerMetricsProvider(registry));
+        cache.start();
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (op.get(NAMESPACE, "a") == null || registry.get("strimzi.resource.cache.hits").counter().count() == 0) {
+            if (System.currentTimeMillis() > deadline) {
+                context.failNow("The cache did not sync");
+                return;
+            }
+
+            Thread.sleep(100);
+        }
+
+        Checkpoint async = context.checkpoint();
+        op.getAsync(NAMESPACE, "user")
+                .compose(user -> {
+                    // Reads missing in the cache go to the Kubernetes API
+                    context.verify(() -> assertThat(user.getData().get("key"), is("user")));
+                    return op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, "a", configMap("a", "updated"));
+                })
+                .compose(i -> op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, "b", configMap("b", "created")))
+                .compose(i -> op.getAsync(NAMESPACE, "a"))
+                .compose(a -> {
+                    // The operator reads its own writes
+                    context.verify(() -> assertThat(a.getData().get("key"), is("updated")));
+                    return op.listAsync(NAMESPACE, Labels.forStrimziCluster(CLUSTER));
+                })
+                .onComplete(context.succeeding(list -> context.verify(() -> {
+                    assertThat(list.stream().map(cm -> cm.getData().get("key")).toList(), containsInAnyOrder("updated", "created"));
+                    assertThat(registry.get("strimzi.resource.cache.hits").counter().count(), greaterThanOrEqualTo(4.0));
+                    assertThat(registry.get("strimzi.resource.cache.misses").counter().count(), greaterThanOrEqualTo(1.0));
+
+                    cache.stop(1_000);
+                    async.flag();
+                })));
+    }
+}
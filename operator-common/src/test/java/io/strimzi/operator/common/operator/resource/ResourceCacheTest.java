@@ -0,0 +1,235 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.ResourceCacheMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER = "my-cluster";
+
+    private final Map<String, ConfigMap> store = new ConcurrentHashMap<>();
+    private MeterRegistry registry;
+    private SharedIndexInformer<ConfigMap> informer;
+    private ResourceEventHandler<ConfigMap> handler;
+    private ResourceCache<ConfigMap> cache;
+
+    private static ConfigMap configMap(String name, String cluster, String resourceVersion, String value) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(cluster != null ? Map.of(ResourceCache.SCOPE_LABEL, cluster) : null)
+                .endMetadata()
+                .withData(Map.of("key", value))
+                .build();
+    }
+
+    /**
+     * Updates the informer store and notifies the event handler in the same order as the informer
+     */
+    private void inform(ConfigMap configMap) {
+        ConfigMap previous = store.put(Cache.metaNamespaceKeyFunc(configMap), configMap);
+
+        if (previous == null) {
+            handler.onAdd(configMap);
+        } else {
+            handler.onUpdate(previous, configMap);
+        }
+    }
+
+    private void informDeletion(String name) {
+        ConfigMap previous = store.remove(Cache.namespaceKeyFunc(NAMESPACE, name));
+        handler.onDelete(previous, false);
+    }
+
+    private double counter(String name) {
+        return registry.get("strimzi.resource.cache." + name).tag("kind", "ConfigMap").counter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void beforeEach() {
+        store.clear();
+        registry = new SimpleMeterRegistry();
+
+        Indexer<ConfigMap> indexer = mock(Indexer.class);
+        when(indexer.getIndexers()).thenReturn(Map.of());
+        when(indexer.getByKey(anyString())).thenAnswer(i -> store.get(i.<String>getArgument(0)));
+        when(indexer.list()).thenAnswer(i -> List.copyOf(store.values()));
+        when(indexer.byIndex(anyString(), anyString())).thenAnswer(i -> store.values().stream()
+                .filter(cm -> (cm.getMetadata().getNamespace() + "/" + cm.getMetadata().getLabels().get(ResourceCache.SCOPE_LABEL)).equals(i.getArgument(1)))
+                .toList());
+
+        informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        cache = new ResourceCache<>("ConfigMap", Map.of(NAMESPACE, informer), new KubernetesSerialization(),
+                new ResourceCacheMetricsHolder("ConfigMap", new MicrometerMetricsProvider(registry)), 60_000L);
+
+        ArgumentCaptor<ResourceEventHandler<ConfigMap>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(handlerCaptor.capture());
+        verify(informer).addIndexers(any());
+        handler = handlerCaptor.getValue();
+    }
+
+    @Test
+    public void testGet() {
+        ConfigMap cm = configMap("a", CLUSTER, "1", "a");
+        inform(cm);
+
+        ConfigMap cached = cache.get(NAMESPACE, "a");
+        assertThat(cached, is(cm));
+        // The returned resource is a copy
+        assertThat(cached, is(not(sameInstance(cm))));
+        assertThat(counter("hits"), is(1.0));
+
+        // Resources which are not in the cache and namespaces which are not watched are read from the Kubernetes API
+        assertThat(cache.get(NAMESPACE, "b"), is(nullValue()));
+        assertThat(cache.get("other-namespace", "a"), is(nullValue()));
+        assertThat(counter("misses"), is(2.0));
+    }
+
+    @Test
+    public void testNothingIsCachedBeforeSync() {
+        inform(configMap("a", CLUSTER, "1", "a"));
+        when(informer.hasSynced()).thenReturn(false);
+
+        assertThat(cache.get(NAMESPACE, "a"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)), is(nullValue()));
+        assertThat(counter("misses"), is(2.0));
+    }
+
+    @Test
+    public void testList() {
+        inform(configMap("a", CLUSTER, "1", "a"));
+        inform(configMap("b", CLUSTER, "1", "b"));
+        inform(configMap("c", "other-cluster", "1", "c"));
+
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)).stream().map(cm -> cm.getMetadata().getName()).toList(), containsInAnyOrder("a", "b"));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster("other-cluster")).stream().map(cm -> cm.getMetadata().getName()).toList(), containsInAnyOrder("c"));
+
+        // Selectors without the cluster label might match resources which are not cached
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziKind("Kafka")), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.EMPTY), is(nullValue()));
+    }
+
+    @Test
+    public void testReadOwnWrites() {
+        inform(configMap("a", CLUSTER, "1", "old"));
+
+        // The informer did not observe the write yet
+        cache.written(configMap("a", CLUSTER, "2", "new"));
+        cache.written(configMap("b", CLUSTER, "1", "created"));
+        assertThat(cache.pendingWrites(), is(2));
+        assertThat(cache.get(NAMESPACE, "a").getData().get("key"), is("new"));
+        assertThat(cache.get(NAMESPACE, "b").getData().get("key"), is("created"));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)).stream().map(cm -> cm.getData().get("key")).toList(), containsInAnyOrder("new", "created"));
+
+        // Older events do not replace the writes
+        inform(configMap("a", CLUSTER, "1", "old"));
+        assertThat(cache.get(NAMESPACE, "a").getData().get("key"), is("new"));
+
+        // The informer observes the writes
+        inform(configMap("a", CLUSTER, "2", "new"));
+        inform(configMap("b", CLUSTER, "1", "created"));
+        assertThat(cache.pendingWrites(), is(0));
+        assertThat(cache.get(NAMESPACE, "a").getData().get("key"), is("new"));
+        assertThat(registry.get("strimzi.resource.cache.write.lag").tag("kind", "ConfigMap").timer().count(), is(2L));
+        assertThat(registry.get("strimzi.resource.cache.pending.writes").tag("kind", "ConfigMap").gauge().value(), is(0.0));
+    }
+
+    @Test
+    public void testWriteObservedBeforeItIsRecorded() {
+        inform(configMap("a", CLUSTER, "2", "new"));
+
+        cache.written(configMap("a", CLUSTER, "2", "new"));
+        assertThat(cache.pendingWrites(), is(0));
+    }
+
+    @Test
+    public void testDeletion() {
+        inform(configMap("a", CLUSTER, "1", "a"));
+
+        cache.deleted(NAMESPACE, "a");
+        // Deleted resource is read from the Kubernetes API until the informer observes the deletion
+        assertThat(cache.get(NAMESPACE, "a"), is(nullValue()));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)).size(), is(0));
+
+        informDeletion("a");
+        assertThat(cache.pendingWrites(), is(0));
+        assertThat(cache.get(NAMESPACE, "a"), is(nullValue()));
+    }
+
+    @Test
+    public void testWriteRemovingTheLabel() {
+        inform(configMap("a", CLUSTER, "1", "a"));
+
+        cache.written(configMap("a", null, "2", "a"));
+        assertThat(cache.get(NAMESPACE, "a"), is(nullValue()));
+
+        // The informer stops watching the resource
+        informDeletion("a");
+        assertThat(cache.pendingWrites(), is(0));
+    }
+
+    @Test
+    public void testInvalidation() {
+        inform(configMap("a", CLUSTER, "1", "old"));
+        cache.written(configMap("a", CLUSTER, "2", "new"));
+
+        cache.invalidate(NAMESPACE, "a");
+        assertThat(cache.pendingWrites(), is(0));
+        assertThat(cache.get(NAMESPACE, "a").getData().get("key"), is("old"));
+    }
+
+    @Test
+    public void testExpiredWrites() throws InterruptedException {
+        ResourceCache<ConfigMap> expiringCache = new ResourceCache<>("ConfigMap", Map.of(NAMESPACE, informer), new KubernetesSerialization(),
+                new ResourceCacheMetricsHolder("ConfigMap", new MicrometerMetricsProvider(registry)), 1L);
+        inform(configMap("a", CLUSTER, "1", "old"));
+
+        expiringCache.written(configMap("a", CLUSTER, "2", "new"));
+        Thread.sleep(10);
+
+        // The informer did not observe the write in time, so it is not trusted anymore
+        assertThat(expiringCache.get(NAMESPACE, "a"), is(notNullValue()));
+        assertThat(expiringCache.get(NAMESPACE, "a").getData().get("key"), is("old"));
+        assertThat(expiringCache.pendingWrites(), is(0));
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ResourceDiffTest {
+    private static final Pattern SERVICE_IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields" +
+                    "|/metadata/creationTimestamp" +
+                    "|/metadata/resourceVersion" +
+                    "|/metadata/generation" +
+                    "|/metadata/uid" +
+                    "|/spec/sessionAffinity" +
+                    "|/spec/clusterIP" +
+                    "|/spec/clusterIPs" +
+                    "|/status)$");
+
+    private static final Pattern PVC_IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields" +
+                    "|/metadata/annotations/pv.kubernetes.io~1.*" +
+                    "|/metadata/finalizers" +
+                    "|/metadata/creationTimestamp" +
+                    "|/metadata/resourceVersion" +
+                    "|/metadata/uid" +
+                    "|/status)$");
+
+    /**
+     * Checks the result of the diff and that the structural comparison agrees with the JSON diff
+     */
+    private static <T extends HasMetadata> void assertDiff(T current, T desired, Pattern ignorable, boolean expectedEmpty, boolean expectedStructurallyEqual) {
+        assertThat(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Kind", "name", current, desired, ignorable).isEmpty(), is(expectedEmpty));
+        assertThat(ResourceDiff.isJsonDiffEmpty(Reconciliation.DUMMY_RECONCILIATION, "Kind", "name", current, desired, ignorable), is(expectedEmpty));
+        assertThat(ResourceDiff.isStructurallyEqual(current, desired, ignorable), is(expectedStructurallyEqual));
+    }
+
+    private static void assertMergePatch(HasMetadata current, HasMetadata desired, Pattern ignorable, String expected) {
+        try {
+            assertThat(ResourceDiff.mergePatch(current, desired, ignorable), is(new ObjectMapper().readTree(expected)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ConfigMap desiredConfigMap(Map<String, String> data) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-namespace")
+                    .withName("my-cluster-kafka-config")
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/kind", "Kafka", "strimzi.io/name", "my-cluster-kafka"))
+                    .addNewOwnerReference()
+                        .withApiVersion("kafka.strimzi.io/v1beta2")
+                        .withKind("Kafka")
+                        .withName("my-cluster")
+                        .withUid("7c2bd8a4-6b4d-4bbf-a3f5-8d1f21d2e6a1")
+                        .withBlockOwnerDeletion(false)
+                        .withController(false)
+                    .endOwnerReference()
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    /**
+     * Adds the fields set by the Kubernetes API server to a resource
+     */
+    private static ConfigMap currentConfigMap(ConfigMap desired) {
+        return new ConfigMapBuilder(desired)
+                .editMetadata()
+                    .withUid("0b6f9a4e-1f0b-4a1e-9a0e-9d5a0f1c6c7e")
+                    .withResourceVersion("123456")
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("strimzi-cluster-operator").withOperation("Update").build())
+                .endMetadata()
+                .build();
+    }
+
+    private static Map<String, String> brokerConfig(int entries) {
+        return Map.of("server.config", IntStream.range(0, entries)
+                .mapToObj(i -> "config.option." + i + "=value-" + i)
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Test
+    public void testUnchangedConfigMap() {
+        ConfigMap desired = desiredConfigMap(brokerConfig(1_000));
+
+        assertDiff(currentConfigMap(desired), desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS, true, true);
+    }
+
+    @Test
+    public void testChangedConfigMap() {
+        ConfigMap current = currentConfigMap(desiredConfigMap(brokerConfig(1_000)));
+        ConfigMap desired = desiredConfigMap(brokerConfig(1_001));
+
+        assertDiff(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS, false, false);
+    }
+
+    @Test
+    public void testChangedLabel() {
+        ConfigMap desired = desiredConfigMap(Map.of("key", "value"));
+        ConfigMap current = new ConfigMapBuilder(currentConfigMap(desired))
+                .editMetadata()
+                    .addToLabels("strimzi.io/name", "other")
+                .endMetadata()
+                .build();
+
+        assertDiff(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS, false, false);
+    }
+
+    @Test
+    public void testOrderOfMapEntriesIsIgnored() {
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("a", "1");
+        data.put("b", "2");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("b", "2");
+        reversed.put("a", "1");
+
+        assertDiff(currentConfigMap(desiredConfigMap(data)), desiredConfigMap(reversed), ResourceDiff.DEFAULT_IGNORABLE_PATHS, true, true);
+    }
+
+    @Test
+    public void testServiceWithServerDefaults() {
+        Service desired = new ServiceBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-namespace")
+                    .withName("my-cluster-kafka-bootstrap")
+                .endMetadata()
+                .withNewSpec()
+                    .withType("ClusterIP")
+                    .addNewPort()
+                        .withName("tcp-replication")
+                        .withPort(9091)
+                        .withNewTargetPort(9091)
+                        .withProtocol("TCP")
+                    .endPort()
+                    .withSelector(Map.of("strimzi.io/cluster", "my-cluster"))
+                .endSpec()
+                .build();
+        Service current = new ServiceBuilder(desired)
+                .editMetadata()
+                    .withResourceVersion("1")
+                .endMetadata()
+                .editSpec()
+                    .withClusterIP("10.0.0.1")
+                    .withClusterIPs("10.0.0.1")
+                    .withSessionAffinity("None")
+                .endSpec()
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                    .endLoadBalancer()
+                .endStatus()
+                .build();
+
+        assertDiff(current, desired, SERVICE_IGNORABLE_PATHS, true, true);
+
+        Service changedPort = new ServiceBuilder(desired)
+                .editSpec()
+                    .editFirstPort()
+                        .withPort(9092)
+                    .endPort()
+                .endSpec()
+                .build();
+
+        assertDiff(current, changedPort, SERVICE_IGNORABLE_PATHS, false, false);
+    }
+
+    @Test
+    public void testIgnorableAnnotationsAndFinalizers() {
+        PersistentVolumeClaim desired = new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                    .withNamespace("my-namespace")
+                    .withName("data-my-cluster-kafka-0")
+                    .withAnnotations(Map.of("strimzi.io/delete-claim", "false"))
+                .endMetadata()
+                .withNewSpec()
+                    .withAccessModes("ReadWriteOnce")
+                    .withNewResources()
+                        .withRequests(Map.of("storage", new Quantity("100Gi")))
+                    .endResources()
+                .endSpec()
+                .build();
+        PersistentVolumeClaim current = new PersistentVolumeClaimBuilder(desired)
+                .editMetadata()
+                    .addToAnnotations("pv.kubernetes.io/bind-completed", "yes")
+                    .withFinalizers("kubernetes.io/pvc-protection")
+                .endMetadata()
+                .build();
+
+        assertDiff(current, desired, PVC_IGNORABLE_PATHS, true, true);
+    }
+
+    @Test
+    public void testQuantitiesAreComparedByTheirJson() {
+        PersistentVolumeClaim desired = new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                    .withName("data-my-cluster-kafka-0")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewResources()
+                        .withRequests(Map.of("storage", new Quantity("1Gi")))
+                    .endResources()
+                .endSpec()
+                .build();
+        PersistentVolumeClaim current = new PersistentVolumeClaimBuilder(desired)
+                .editSpec()
+                    .editResources()
+                        .withRequests(Map.of("storage", new Quantity("1024Mi")))
+                    .endResources()
+                .endSpec()
+                .build();
+
+        assertDiff(current, desired, PVC_IGNORABLE_PATHS, false, false);
+    }
+
+    @Test
+    public void testEmptyListsAreNotSerialized() {
+        Deployment desired = new DeploymentBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-entity-operator")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withNewTemplate()
+                        .withNewSpec()
+                            .addNewContainer()
+                                .withName("topic-operator")
+                                .withImage("quay.io/strimzi/operator:latest")
+                                .withArgs(List.of())
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+        Deployment current = new DeploymentBuilder(desired)
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withArgs((List<String>) null)
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        assertDiff(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS, true, true);
+    }
+
+    @Test
+    public void testDifferenceInsideArrayFallsBackToJsonDiff() {
+        Pattern ignoreImage = Pattern.compile("^(/spec/template/spec/containers/0/image)$");
+        Deployment desired = new DeploymentBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-entity-operator")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewTemplate()
+                        .withNewSpec()
+                            .addNewContainer()
+                                .withName("topic-operator")
+                                .withImage("quay.io/strimzi/operator:1")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+        Deployment current = new DeploymentBuilder(desired)
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImage("quay.io/strimzi/operator:2")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        // The structural comparison does not ignore differences inside arrays, but the JSON diff does
+        assertDiff(current, desired, ignoreImage, true, false);
+    }
+
+    @Test
+    public void testMergePatchContainsOnlyChanges() {
+        ConfigMap desired = new ConfigMapBuilder(desiredConfigMap(Map.of("a", "1", "b", "2")))
+                .editMetadata()
+                    .addToAnnotations("strimzi.io/new", "true")
+                .endMetadata()
+                .build();
+        ConfigMap current = new ConfigMapBuilder(currentConfigMap(desiredConfigMap(Map.of("a", "0", "c", "3"))))
+                .editMetadata()
+                    .addToAnnotations("strimzi.io/user/annotation", "true")
+                .endMetadata()
+                .build();
+
+        // The ignorable fields are not reset, the removed fields are set to null, and slashes in the keys are unescaped
+        assertMergePatch(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS,
+                "{\"data\":{\"a\":\"1\",\"b\":\"2\",\"c\":null},\"metadata\":{\"annotations\":{\"strimzi.io/new\":\"true\",\"strimzi.io/user/annotation\":null}}}");
+    }
+
+    @Test
+    public void testMergePatchReplacesChangedArrays() {
+        Service desired = new ServiceBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka-bootstrap")
+                .endMetadata()
+                .withNewSpec()
+                    .addNewPort()
+                        .withName("tcp-replication")
+                        .withPort(9091)
+                    .endPort()
+                    .addNewPort()
+                        .withName("tcp-clients")
+                        .withPort(9092)
+                    .endPort()
+                .endSpec()
+                .build();
+        Service current = new ServiceBuilder(desired)
+                .editSpec()
+                    .editLastPort()
+                        .withPort(9093)
+                    .endPort()
+                    .withClusterIP("10.0.0.1")
+                .endSpec()
+                .build();
+
+        assertMergePatch(current, desired, SERVICE_IGNORABLE_PATHS,
+                "{\"spec\":{\"ports\":[{\"name\":\"tcp-replication\",\"port\":9091},{\"name\":\"tcp-clients\",\"port\":9092}]}}");
+    }
+
+    @Test
+    public void testMergePatchAddsNewObjects() {
+        ConfigMap desired = desiredConfigMap(Map.of("a", "1"));
+        ConfigMap current = new ConfigMapBuilder(currentConfigMap(desired))
+                .editMetadata()
+                    .withOwnerReferences(List.of())
+                    .withLabels(null)
+                .endMetadata()
+                .withData(null)
+                .build();
+
+        assertMergePatch(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS,
+                "{\"data\":{\"a\":\"1\"},\"metadata\":{\"labels\":{\"strimzi.io/cluster\":\"my-cluster\",\"strimzi.io/kind\":\"Kafka\",\"strimzi.io/name\":\"my-cluster-kafka\"},"
+                        + "\"ownerReferences\":[{\"apiVersion\":\"kafka.strimzi.io/v1beta2\",\"blockOwnerDeletion\":false,\"controller\":false,\"kind\":\"Kafka\",\"name\":\"my-cluster\",\"uid\":\"7c2bd8a4-6b4d-4bbf-a3f5-8d1f21d2e6a1\"}]}}");
+    }
+}
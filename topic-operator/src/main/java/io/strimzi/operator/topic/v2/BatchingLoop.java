@@ -12,11 +12,11 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
@@ -34,10 +34,11 @@ class BatchingLoop {
 
     /**
      * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * This functions as mechanism for preventing concurrent reconciliation of the same topic:
+     * a thread can add a topic to its batch only when it manages to add it to this set.
+     * The set is concurrent, so the threads can fill their batches in parallel without any locking.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private final Set<KubeRef> inFlight = ConcurrentHashMap.newKeySet();
     private final LoopRunnable[] threads;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
@@ -189,15 +190,7 @@ class BatchingLoop {
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.debugOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
+                fillBatch(batchId, batch);
 
                 if (batch.size() > 0) {
                     LOGGER.debugOp("[Batch #{}] Reconciling {} topics", batchId, batch.size());
@@ -217,6 +210,12 @@ class BatchingLoop {
                 return true;
             } catch (Exception e) {
                 LOGGER.errorOp("[Batch #{}] Unexpected exception", batchId, e);
+            } finally {
+                // remove the batch from the inflight set, so that other threads can reconcile its topics, and reset the batch
+                LOGGER.debugOp("[Batch #{}] Removing batch from inflight", batchId);
+                batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
+                batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
+                batch.clear();
             }
             return stopRequested;
         }
@@ -52,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -80,18 +81,25 @@ public class BatchingTopicController {
     private final KubernetesClient kubeClient;
 
     // Key: topic name, Value: The KafkaTopics known to manage that topic
-    /* test */ final Map<String, Set<KubeRef>> topics = new HashMap<>();
+    // Concurrent, because the controller is shared by all the BatchingLoop threads
+    /* test */ final Map<String, Set<KubeRef>> topics = new ConcurrentHashMap<>();
 
     private final TopicOperatorMetricsHolder metrics;
     private final String namespace;
 
+    // Snapshot of the topics in Kafka used to skip the resyncs of unchanged topics, null when disabled
+    private final KafkaTopicSnapshot snapshot;
+    private final KafkaTopicStatusWriter statusWriter;
+
     BatchingTopicController(Map<String, String> selector,
                             Admin admin,
                             KubernetesClient kubeClient,
                             boolean useFinalizer,
                             TopicOperatorMetricsHolder metrics,
                             String namespace,
-                            boolean enableAdditionalMetrics) throws ExecutionException, InterruptedException {
+                            boolean enableAdditionalMetrics,
+                            KafkaTopicSnapshot snapshot,
+                            KafkaTopicStatusWriter statusWriter) throws ExecutionException, InterruptedException {
         this.selector = Objects.requireNonNull(selector);
         this.useFinalizer = useFinalizer;
         this.admin = admin;
@@ -118,6 +126,8 @@ public class BatchingTopicController {
         this.metrics = metrics;
         this.namespace = namespace;
         this.enableAdditionalMetrics = enableAdditionalMetrics;
+        this.snapshot = snapshot;
+        this.statusWriter = Objects.requireNonNull(statusWriter);
     }
 
     /* test */ static boolean isManaged(KafkaTopic kt) {
@@ -201,9 +211,13 @@ public class BatchingTopicController {
 
     private boolean rememberTopic(ReconcilableTopic reconcilableTopic) {
         String tn = reconcilableTopic.topicName();
-        var existing = topics.computeIfAbsent(tn, k -> new HashSet<>());
         KubeRef thisRef = new KubeRef(reconcilableTopic.kt());
-        existing.add(thisRef);
+        // Add the ref atomically with the lookup, so that it cannot race with forgetTopic() removing an empty set
+        topics.compute(tn, (k, v) -> {
+            Set<KubeRef> existing = v != null ? v : ConcurrentHashMap.newKeySet();
+            existing.add(thisRef);
+            return existing;
+        });
         return true;
     }
 
@@ -279,7 +293,7 @@ public class BatchingTopicController {
             }
         });
         Map<String, KafkaFuture<Void>> values = ctr.values();
-        return partitionedByError(kts.stream().map(reconcilableTopic -> {
+        PartitionedByError<ReconcilableTopic, Void> createResults = partitionedByError(kts.stream().map(reconcilableTopic -> {
             try {
                 values.get(reconcilableTopic.topicName()).get();
                 return pair(reconcilableTopic, Either.ofRight((null)));
@@ -294,6 +308,8 @@ public class BatchingTopicController {
                 throw new UncheckedInterruptedException(e);
             }
         }));
+        invalidate(values.keySet());
+        return createResults;
     }
 
     private static TopicOperatorException handleAdminException(ExecutionException e) {
@@ -456,7 +472,7 @@ public class BatchingTopicController {
         metrics.reconciliationsCounter(namespace).increment(mayNeedUpdate.size());
         var addedFinalizer = addOrRemoveFinalizer(useFinalizer, mayNeedUpdate);
 
-        var currentStatesOrError = describeTopic(addedFinalizer);
+        var currentStatesOrError = describeTopic(skipUnchangedTopics(results, addedFinalizer));
 
         createMissingTopics(results, currentStatesOrError);
 
@@ -511,6 +527,62 @@ public class BatchingTopicController {
         return mayNeedUpdate;
     }
 
+    /**
+     * Uses the snapshot of the topics in Kafka to find the topics which are already in sync with their KafkaTopic.
+     * These are reconciled successfully without describing them through the Admin API.
+     *
+     * @param results   The reconciliation results to which the unchanged topics are added
+     * @param batch     The topics to reconcile
+     *
+     * @return  The topics which have to be described
+     */
+    private List<ReconcilableTopic> skipUnchangedTopics(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, List<ReconcilableTopic> batch) {
+        if (snapshot == null || batch.isEmpty()) {
+            return batch;
+        }
+
+        var partitionedByUnchanged = batch.stream().collect(Collectors.partitioningBy(this::isUnchanged));
+        var unchanged = partitionedByUnchanged.get(true);
+        unchanged.forEach(reconcilableTopic -> putResult(results, reconcilableTopic, Either.ofRight(null)));
+        if (!unchanged.isEmpty()) {
+            LOGGER.debugOp("Skipped describing {} unchanged topics", unchanged.size());
+            metrics.unchangedReconciliationsCounter(namespace).increment(unchanged.size());
+        }
+        return partitionedByUnchanged.get(false);
+    }
+
+    /**
+     * A topic is unchanged when its KafkaTopic was successfully reconciled at its current generation and the
+     * state of the topic in the snapshot does not need any change.
+     */
+    private boolean isUnchanged(ReconcilableTopic reconcilableTopic) {
+        var kt = reconcilableTopic.kt();
+        var status = kt.getStatus();
+        if (status == null
+                || status.getObservedGeneration() != kt.getMetadata().getGeneration()
+                || !reconcilableTopic.topicName().equals(status.getTopicName())
+                || status.getConditions() == null
+                || status.getConditions().stream().noneMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()))) {
+            return false;
+        }
+
+        var currentState = snapshot.get(reconcilableTopic.topicName());
+        if (currentState == null) {
+            return false;
+        }
+
+        var replicas = kt.getSpec().getReplicas();
+        return (replicas == null || currentState.uniqueReplicationFactor() == replicas)
+                && buildNewPartitions(reconcilableTopic.reconciliation(), kt, currentState.numPartitions()).isRightEqual(null)
+                && buildAlterConfigOps(reconcilableTopic.reconciliation(), kt, currentState.configs()).isEmpty();
+    }
+
+    private void invalidate(Collection<String> topicNames) {
+        if (snapshot != null) {
+            topicNames.forEach(snapshot::invalidate);
+        }
+    }
+
     private static void putResult(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, ReconcilableTopic key, Either<TopicOperatorException, Object> result) {
         results.compute(key, (k, v) -> {
             if (v == null) {
@@ -703,7 +775,9 @@ public class BatchingTopicController {
                 throw new UncheckedInterruptedException(e);
             }
         });
-        return partitionedByError(entryStream);
+        var alterResults = partitionedByError(entryStream);
+        invalidate(alteredConfigs.keySet().stream().map(ConfigResource::name).toList());
+        return alterResults;
     }
 
     private PartitionedByError<ReconcilableTopic, Void> createPartitions(List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions) {
@@ -733,7 +807,9 @@ public class BatchingTopicController {
                 throw new UncheckedInterruptedException(e);
             }
         });
-        return partitionedByError(entryStream);
+        var createPartitionsResults = partitionedByError(entryStream);
+        invalidate(newPartitions.keySet());
+        return createPartitionsResults;
     }
 
     private static ConfigResource topicConfigResource(String tn) {
@@ -749,6 +825,7 @@ public class BatchingTopicController {
                 .collect(Collectors.toSet());
         Set<String> tns = batch.stream().map(ReconcilableTopic::topicName).collect(Collectors.toSet());
 
+        long describeNanoTime = System.nanoTime();
         DescribeTopicsResult describeTopicsResult;
         {
             LOGGER.debugOp("Admin.describeTopics({})", tns);
@@ -802,7 +879,11 @@ public class BatchingTopicController {
             if (exception != null) {
                 return pair(reconcilableTopic, Either.ofLeft(handleAdminException(exception)));
             } else {
-                return pair(reconcilableTopic, Either.ofRight(new CurrentState(description, configs)));
+                var currentState = new CurrentState(description, configs);
+                if (snapshot != null) {
+                    snapshot.update(reconcilableTopic.topicName(), currentState, describeNanoTime);
+                }
+                return pair(reconcilableTopic, Either.ofRight(currentState));
             }
         }));
     }
@@ -926,6 +1007,7 @@ public class BatchingTopicController {
                 throw new UncheckedInterruptedException(e);
             }
         }));
+        invalidate(topicNames);
         return deleteResult;
     }
 
@@ -1056,14 +1138,9 @@ public class BatchingTopicController {
                         .withTopicName(newTopicName)
                         .withConditions(condition)
                     .endStatus().build();
-            LOGGER.debugCr(reconciliation, "Updating status with {}", updatedTopic.getStatus());
-            Timer.Sample timerSample = startOperationTimer();
-            var got = Crds.topicOperation(kubeClient)
-                    .resource(updatedTopic)
-                    .updateStatus();
-            stopOperationTimer(timerSample, metrics::updateStatusTimer);
-            LOGGER.traceCr(reconciliation, "Updated status to observedGeneration {}, resourceVersion now {}",
-                    got.getStatus().getObservedGeneration());
+            // A merge patch cannot remove the topic name, so the status is replaced when the topic becomes unmanaged
+            boolean removesTopicName = oldStatus != null && oldStatus.getTopicName() != null && newTopicName == null;
+            statusWriter.write(reconciliation, updatedTopic, removesTopicName);
         } else {
             LOGGER.traceCr(reconciliation, "Unchanged status of {}", kt.getStatus());
         }
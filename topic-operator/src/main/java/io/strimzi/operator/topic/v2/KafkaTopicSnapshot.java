@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.BatchingTopicController.CurrentState;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * An in-memory snapshot of the state of the topics in Kafka (their partitions, replicas and configs), used by the
+ * {@link BatchingTopicController} to skip the Admin round-trip when resyncing {@code KafkaTopics} which did not change.
+ *
+ * The snapshot is refreshed in bulk in the background (by listing all the topics and describing them in pages), and
+ * updated with the results of the describe calls done by the controller. Topics which the controller creates, alters
+ * or deletes are invalidated, so that they are described again by their next reconciliation.
+ *
+ * Every entry records the time when the request which obtained it was sent. An older entry never replaces a newer one,
+ * so a bulk refresh which was started before a topic was altered cannot bring back its previous state.
+ * Entries are used for at most twice the refresh interval; after that the controller describes the topic again.
+ */
+class KafkaTopicSnapshot {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicSnapshot.class);
+
+    /**
+     * The state of a single topic
+     *
+     * @param state     The state of the topic, or null when the topic was invalidated
+     * @param nanoTime  The time when the request which obtained the state (or the invalidation) was sent
+     */
+    private record Entry(CurrentState state, long nanoTime) { }
+
+    private final Admin admin;
+    private final long refreshIntervalMs;
+    private final long maxAgeNs;
+    private final int pageSize;
+    private final Map<String, Entry> topics = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Constructs the snapshot. The snapshot is refreshed only after it is started.
+     *
+     * @param admin             Kafka Admin client
+     * @param refreshIntervalMs Interval between the bulk refreshes
+     * @param pageSize          Number of topics described by a single request during the bulk refresh
+     */
+    KafkaTopicSnapshot(Admin admin, long refreshIntervalMs, int pageSize) {
+        if (refreshIntervalMs <= 0) {
+            throw new IllegalArgumentException("The refresh interval of the topic snapshot has to be positive");
+        }
+
+        this.admin = admin;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.maxAgeNs = TimeUnit.MILLISECONDS.toNanos(2 * refreshIntervalMs);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Starts the periodical bulk refresh
+     */
+    synchronized void start() {
+        LOGGER.infoOp("Starting the topic snapshot with refresh interval {}ms", refreshIntervalMs);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KafkaTopicSnapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodical bulk refresh
+     */
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * @param topicName Name of the topic
+     *
+     * @return  The state of the topic from the snapshot, or null if the snapshot does not know the topic, the topic
+     *          was invalidated, or its state is too old
+     */
+    CurrentState get(String topicName) {
+        Entry entry = topics.get(topicName);
+
+        if (entry != null
+                && entry.state() != null
+                && System.nanoTime() - entry.nanoTime() <= maxAgeNs) {
+            return entry.state();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Updates the state of the topic, unless the snapshot already contains newer state or invalidation.
+     *
+     * @param topicName Name of the topic
+     * @param state     State of the topic
+     * @param nanoTime  Time when the request which obtained the state was sent
+     */
+    void update(String topicName, CurrentState state, long nanoTime) {
+        topics.merge(topicName, new Entry(state, nanoTime), (current, updated) -> current.nanoTime() > updated.nanoTime() ? current : updated);
+    }
+
+    /**
+     * Invalidates the state of the topic, for example because it was altered by the operator.
+     *
+     * @param topicName Name of the topic
+     */
+    void invalidate(String topicName) {
+        update(topicName, null, System.nanoTime());
+    }
+
+    /**
+     * @return  Number of topics in the snapshot
+     */
+    /* test */ int size() {
+        return topics.size();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // The entries just age out, so the controller falls back to describing the topics
+            LOGGER.warnOp("Failed to refresh the topic snapshot", e);
+        }
+    }
+
+    /**
+     * Lists all the topics, describes them in pages and updates the snapshot. Topics which do not exist anymore
+     * are removed.
+     *
+     * @throws ExecutionException   If any of the Admin requests failed
+     * @throws InterruptedException If interrupted while waiting for the Admin requests
+     */
+    /* test */ void refresh() throws ExecutionException, InterruptedException {
+        long start = System.nanoTime();
+        LOGGER.debugOp("Refreshing the topic snapshot");
+
+        Set<String> topicNames = admin.listTopics().names().get();
+        List<String> names = new ArrayList<>(topicNames);
+
+        for (int i = 0; i < names.size(); i += pageSize) {
+            List<String> page = names.subList(i, Math.min(i + pageSize, names.size()));
+            Set<ConfigResource> configResources = page.stream()
+                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                    .collect(Collectors.toSet());
+
+            long pageStart = System.nanoTime();
+            var describeTopicsResult = admin.describeTopics(page).topicNameValues();
+            var describeConfigsResult = admin.describeConfigs(configResources).values();
+
+            for (String name : page) {
+                try {
+                    TopicDescription description = describeTopicsResult.get(name).get();
+                    Config configs = describeConfigsResult.get(new ConfigResource(ConfigResource.Type.TOPIC, name)).get();
+                    update(name, new CurrentState(description, configs), pageStart);
+                } catch (ExecutionException e) {
+                    // For example, the topic was deleted after it was listed
+                    LOGGER.debugOp("Failed to describe topic {} for the snapshot", name, e);
+                    invalidate(name);
+                }
+            }
+        }
+
+        // Remove the topics which were deleted, unless they were updated (e.g. created) after the refresh started
+        topics.entrySet().removeIf(entry -> !topicNames.contains(entry.getKey()) && entry.getValue().nanoTime() < start);
+
+        LOGGER.debugOp("Refreshed the topic snapshot with {} topics in {}ms", topicNames.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
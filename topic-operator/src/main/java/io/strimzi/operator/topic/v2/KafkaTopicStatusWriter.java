@@ -0,0 +1,206 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the statuses of the {@code KafkaTopics}.
+ *
+ * With no threads, the statuses are written synchronously by the thread which reconciled the topic. Otherwise the
+ * writes are pipelined: they are done by the given number of threads, so that the {@link BatchingLoop} threads can
+ * move on to the next batch without waiting for the Kubernetes API. The KafkaTopics are assigned to the threads by
+ * their key, so the statuses of a single KafkaTopic are always written in order. When the status of a KafkaTopic is
+ * updated again before the previous update was written, only the latest status is written. The number of pending
+ * writes is therefore bounded by the number of KafkaTopics. A failed write is retried with an exponential backoff,
+ * unless a newer status of the KafkaTopic is already pending. Writes which fail because the KafkaTopic was deleted or
+ * modified in the meantime are dropped, because they would fail again.
+ *
+ * The statuses are written using a JSON merge patch of the status subresource. Only when a field of the status has
+ * to be removed, the status is replaced instead.
+ */
+class KafkaTopicStatusWriter {
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicStatusWriter.class);
+    /* test */ static final long INITIAL_RETRY_DELAY_MS = 1_000L;
+    private static final long MAX_RETRY_DELAY_MS = 30_000L;
+    private static final int MAX_ATTEMPTS = 6;
+
+    /**
+     * A pending status update
+     *
+     * @param reconciliation    Reconciliation which produced the status
+     * @param kafkaTopic        KafkaTopic with the new status
+     * @param replace           Whether the status has to be replaced instead of patched
+     * @param attempt           Number of the previous failed attempts to write the status
+     */
+    private record PendingUpdate(Reconciliation reconciliation, KafkaTopic kafkaTopic, boolean replace, int attempt) { }
+
+    private final KubernetesClient kubeClient;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+    private final boolean enableAdditionalMetrics;
+    private final Map<String, PendingUpdate> pending = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor[] writers;
+
+    /**
+     * Constructs the status writer
+     *
+     * @param kubeClient                Kubernetes client
+     * @param threads                   Number of threads writing the statuses, 0 to write them synchronously
+     * @param metrics                   Metrics holder
+     * @param namespace                 Namespace of the KafkaTopics
+     * @param enableAdditionalMetrics   Whether to measure the duration of the writes
+     */
+    KafkaTopicStatusWriter(KubernetesClient kubeClient, int threads, TopicOperatorMetricsHolder metrics, String namespace, boolean enableAdditionalMetrics) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("The number of status writer threads cannot be negative");
+        }
+
+        this.kubeClient = kubeClient;
+        this.metrics = metrics;
+        this.namespace = namespace;
+        this.enableAdditionalMetrics = enableAdditionalMetrics;
+        this.writers = new ScheduledThreadPoolExecutor[threads];
+
+        for (int i = 0; i < threads; i++) {
+            String name = "KafkaTopicStatusWriter-" + i;
+            writers[i] = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Retries which are still waiting for their backoff are dropped when stopping
+            writers[i].setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+    }
+
+    /**
+     * Writes the status of the KafkaTopic, either immediately or asynchronously.
+     *
+     * @param reconciliation    Reconciliation which produced the status
+     * @param kafkaTopic        KafkaTopic with the new status
+     * @param replace           Whether the status has to be replaced (because some of its fields were removed)
+     */
+    void write(Reconciliation reconciliation, KafkaTopic kafkaTopic, boolean replace) {
+        PendingUpdate update = new PendingUpdate(reconciliation, kafkaTopic, replace, 0);
+
+        if (writers.length == 0) {
+            write(update);
+        } else {
+            String key = Cache.metaNamespaceKeyFunc(kafkaTopic);
+
+            if (pending.put(key, update) == null) {
+                metrics.statusUpdatesQueueSize(namespace).incrementAndGet();
+                writer(key).execute(() -> writePending(key));
+            } else {
+                LOGGER.debugCr(reconciliation, "Status update coalesced with a pending status update");
+            }
+        }
+    }
+
+    private ScheduledThreadPoolExecutor writer(String key) {
+        return writers[Math.floorMod(key.hashCode(), writers.length)];
+    }
+
+    private void writePending(String key) {
+        PendingUpdate update = pending.remove(key);
+
+        if (update != null) {
+            metrics.statusUpdatesQueueSize(namespace).decrementAndGet();
+
+            try {
+                write(update);
+            } catch (KubernetesClientException e) {
+                if (e.getCode() == 404) {
+                    LOGGER.debugCr(update.reconciliation(), "KafkaTopic was deleted before its status was updated");
+                } else if (e.getCode() == 409) {
+                    // Retrying would fail again with the same stale resourceVersion. The KafkaTopic was modified
+                    // since it was reconciled, so its next reconciliation writes a more recent status.
+                    LOGGER.debugCr(update.reconciliation(), "KafkaTopic was modified before its status was updated");
+                } else {
+                    retry(key, update, e);
+                }
+            } catch (RuntimeException e) {
+                retry(key, update, e);
+            }
+        }
+    }
+
+    private void retry(String key, PendingUpdate update, RuntimeException e) {
+        if (update.attempt() + 1 >= MAX_ATTEMPTS) {
+            // The next reconciliation of the KafkaTopic updates the status again
+            LOGGER.warnCr(update.reconciliation(), "Failed to update status after {} attempts", MAX_ATTEMPTS, e);
+            return;
+        }
+
+        PendingUpdate retry = new PendingUpdate(update.reconciliation(), update.kafkaTopic(), update.replace(), update.attempt() + 1);
+
+        if (pending.putIfAbsent(key, retry) == null) {
+            long delayMs = Math.min(INITIAL_RETRY_DELAY_MS << update.attempt(), MAX_RETRY_DELAY_MS);
+            LOGGER.warnCr(update.reconciliation(), "Failed to update status, retrying in {}ms", delayMs, e);
+            metrics.statusUpdatesQueueSize(namespace).incrementAndGet();
+
+            try {
+                writer(key).schedule(() -> writePending(key), delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ree) {
+                if (pending.remove(key, retry)) {
+                    metrics.statusUpdatesQueueSize(namespace).decrementAndGet();
+                }
+                LOGGER.debugCr(update.reconciliation(), "Status writer is stopping, the status update will not be retried");
+            }
+        } else {
+            // A newer status is already pending, so the failed one is not retried
+            LOGGER.debugCr(update.reconciliation(), "Failed to update status, a newer status update is pending", e);
+        }
+    }
+
+    private void write(PendingUpdate update) {
+        Timer.Sample timerSample = enableAdditionalMetrics ? Timer.start(metrics.metricsProvider().meterRegistry()) : null;
+
+        try {
+            LOGGER.debugCr(update.reconciliation(), "Updating status with {}", update.kafkaTopic().getStatus());
+            var resource = Crds.topicOperation(kubeClient).resource(update.kafkaTopic());
+            KafkaTopic got = update.replace() ? resource.updateStatus() : resource.patchStatus();
+            LOGGER.traceCr(update.reconciliation(), "Updated status to observedGeneration {}, resourceVersion now {}",
+                    got.getStatus().getObservedGeneration(), BatchingTopicController.resourceVersion(got));
+        } finally {
+            if (timerSample != null) {
+                timerSample.stop(metrics.updateStatusTimer(namespace));
+            }
+        }
+    }
+
+    /**
+     * Stops the writer threads after they write the pending statuses
+     *
+     * @throws InterruptedException If interrupted while waiting for the pending statuses to be written
+     */
+    void stop() throws InterruptedException {
+        for (var writer : writers) {
+            writer.shutdown();
+        }
+
+        for (var writer : writers) {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warnOp("Status writer did not finish writing the pending statuses");
+                writer.shutdownNow();
+            }
+        }
+    }
+}
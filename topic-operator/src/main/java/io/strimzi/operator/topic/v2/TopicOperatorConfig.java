@@ -15,6 +15,7 @@ import org.apache.kafka.common.config.SslConfigs;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -49,6 +50,9 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
  * @param maxQueueSize                  The capacity of the queue
  * @param maxBatchSize                  The maximum size of a reconciliation batch
  * @param maxBatchLingerMs              The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param maxThreads                    The number of threads reconciling batches concurrently
+ * @param statusUpdateThreads           The number of threads writing the KafkaTopic statuses, or 0 (when not set) to write them from the reconciliation threads
+ * @param topicSnapshotIntervalMs       The refresh interval of the snapshot of the topics in Kafka used to skip unchanged topics, or 0 when disabled
  * @param enableAdditionalMetrics       Whether to enable additional metrics
  */
 record TopicOperatorConfig(
@@ -72,6 +76,9 @@ record TopicOperatorConfig(
         int maxQueueSize,
         int maxBatchSize,
         long maxBatchLingerMs,
+        int maxThreads,
+        int statusUpdateThreads,
+        long topicSnapshotIntervalMs,
         boolean enableAdditionalMetrics
 ) {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorConfig.class);
@@ -98,6 +105,9 @@ record TopicOperatorConfig(
     static final ConfigParameter<Integer> MAX_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_MAX_QUEUE_SIZE", strictlyPositive(INTEGER), "1024", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
+    static final ConfigParameter<Integer> MAX_THREADS = new ConfigParameter<>("STRIMZI_MAX_THREADS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_UPDATE_THREADS = new ConfigParameter<>("STRIMZI_STATUS_UPDATE_THREADS", strictlyPositive(INTEGER), null, CONFIG_VALUES);
+    static final ConfigParameter<Long> TOPIC_SNAPSHOT_INTERVAL_MS = new ConfigParameter<>("STRIMZI_TOPIC_SNAPSHOT_INTERVAL_MS", LONG, "0", CONFIG_VALUES);
     static final ConfigParameter<Boolean> ENABLE_ADDITIONAL_METRICS = new ConfigParameter<>("STRIMZI_ENABLE_ADDITIONAL_METRICS", BOOLEAN, "false", CONFIG_VALUES);
 
     @SuppressWarnings("unchecked")
@@ -142,6 +152,9 @@ record TopicOperatorConfig(
                 get(map, MAX_QUEUE_SIZE),
                 get(map, MAX_BATCH_SIZE),
                 get(map, MAX_BATCH_LINGER_MS),
+                get(map, MAX_THREADS),
+                Objects.requireNonNullElse(get(map, STATUS_UPDATE_THREADS), 0),
+                get(map, TOPIC_SNAPSHOT_INTERVAL_MS),
                 get(map, ENABLE_ADDITIONAL_METRICS)
         );
     }
@@ -246,6 +259,9 @@ record TopicOperatorConfig(
                 "\n\tmaxQueueSize=" + maxQueueSize +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\tmaxThreads=" + maxThreads +
+                "\n\tstatusUpdateThreads=" + statusUpdateThreads +
+                "\n\ttopicSnapshotIntervalMs=" + topicSnapshotIntervalMs +
                 "\n\tenableAdditionalMetrics=" + enableAdditionalMetrics +
                 '}';
     }
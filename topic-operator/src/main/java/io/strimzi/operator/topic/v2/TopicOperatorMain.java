@@ -48,6 +48,8 @@ public class TopicOperatorMain implements Liveness, Readiness {
     private final BasicItemStore<KafkaTopic> itemStore;
     /* test */ final BatchingTopicController controller;
     private final Admin admin;
+    private final KafkaTopicSnapshot snapshot;
+    private final KafkaTopicStatusWriter statusWriter;
     private SharedIndexInformer<KafkaTopic> informer; // guarded by this
     Thread shutdownHook; // guarded by this
 
@@ -67,9 +69,11 @@ public class TopicOperatorMain implements Liveness, Readiness {
         this.admin = admin;
         TopicOperatorMetricsProvider metricsProvider = createMetricsProvider();
         TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
-        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace, config.enableAdditionalMetrics());
+        this.snapshot = config.topicSnapshotIntervalMs() > 0 ? new KafkaTopicSnapshot(admin, config.topicSnapshotIntervalMs(), config.maxBatchSize()) : null;
+        this.statusWriter = new KafkaTopicStatusWriter(client, config.statusUpdateThreads(), metrics, namespace, config.enableAdditionalMetrics());
+        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace, config.enableAdditionalMetrics(), snapshot, statusWriter);
         this.itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
+        this.queue = new BatchingLoop(config.maxQueueSize(), controller, config.maxThreads(), config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
         this.handler = new TopicOperatorEventHandler(queue, config.useFinalizer(), metrics, namespace);
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
@@ -85,6 +89,10 @@ public class TopicOperatorMain implements Liveness, Readiness {
         Runtime.getRuntime().addShutdownHook(shutdownHook);
         LOGGER.infoOp("Starting health and metrics");
         healthAndMetricsServer.start();
+        if (snapshot != null) {
+            LOGGER.infoOp("Starting topic snapshot");
+            snapshot.start();
+        }
         LOGGER.infoOp("Starting queue");
         queue.start();
         informer = Crds.topicOperation(client)
@@ -127,6 +135,10 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 informer = null;
             }
             this.queue.stop();
+            this.statusWriter.stop();
+            if (this.snapshot != null) {
+                this.snapshot.stop();
+            }
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
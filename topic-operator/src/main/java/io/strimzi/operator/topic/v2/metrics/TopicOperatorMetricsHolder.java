@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic.v2.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.MetricsHolder;
@@ -19,6 +20,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TopicOperatorMetricsHolder extends MetricsHolder {
     private final Map<String, AtomicInteger> reconciliationsMaxQueueMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> reconciliationsMaxBatchMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> unchangedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> statusUpdatesQueueMap = new ConcurrentHashMap<>(1);
 
     // additional metrics, useful for tuning or monitoring specific internal operations
     private final Map<String, Timer> addFinalizerTimerMap = new ConcurrentHashMap<>(1);
@@ -94,6 +97,31 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
             metricsProvider, selectorLabels, reconciliationsMaxBatchMap, "Max size recorded for a single event batch");
     }
 
+    /**
+     * Gauge metric for the number of KafkaTopic status updates waiting to be written.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger statusUpdatesQueueSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "status.updates.queue.size",
+            metricsProvider, selectorLabels, statusUpdatesQueueMap, "Number of status updates waiting to be written");
+    }
+
+    /**
+     * Counter metric for number of reconciliations which skipped describing the topic in Kafka, because the
+     * topic snapshot showed it was unchanged.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter unchangedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.unchanged", metricsProvider, selectorLabels, unchangedReconciliationsCounterMap,
+            "Number of reconciliations of unchanged topics which were done without describing the topics in Kafka");
+    }
+
     /**
      * Timer which measures how long the addFinalizer Kubernetes operations take.
      *
@@ -0,0 +1,167 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the concurrent reconciliation in the {@link BatchingLoop}. The controller is a stub which simulates the latency
+ * of the Admin and Kubernetes API calls, so these tests also show how the time of a full resync scales with the
+ * number of threads.
+ */
+class BatchingLoopTest {
+    private static final Logger LOGGER = LogManager.getLogger(BatchingLoopTest.class);
+
+    private static final String NAMESPACE = "ns";
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long MAX_BATCH_LINGER_MS = 10;
+
+    /**
+     * Stub controller which sleeps for the given time for each batch (as if it was waiting for the Admin API) and
+     * detects when the same KafkaTopic is reconciled by more than one thread at the same time.
+     */
+    private static class StubController {
+        final BatchingTopicController controller = mock(BatchingTopicController.class);
+        final Set<String> reconciling = ConcurrentHashMap.newKeySet();
+        final Map<String, AtomicInteger> reconciliations = new ConcurrentHashMap<>();
+        final AtomicInteger concurrentReconciliations = new AtomicInteger();
+        final CountDownLatch done;
+
+        StubController(int expectedReconciliations, long batchLatencyMs) throws InterruptedException {
+            this.done = new CountDownLatch(expectedReconciliations);
+
+            doAnswer(invocation -> {
+                List<ReconcilableTopic> batch = invocation.getArgument(0);
+                List<String> names = batch.stream().map(rt -> rt.kt().getMetadata().getName()).toList();
+
+                for (String name : names) {
+                    if (!reconciling.add(name)) {
+                        concurrentReconciliations.incrementAndGet();
+                    }
+                }
+
+                Thread.sleep(batchLatencyMs);
+
+                for (String name : names) {
+                    reconciling.remove(name);
+                    reconciliations.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+                    done.countDown();
+                }
+
+                return null;
+            }).when(controller).onUpdate(any());
+        }
+    }
+
+    private static ItemStore<KafkaTopic> itemStore() {
+        @SuppressWarnings("unchecked")
+        ItemStore<KafkaTopic> itemStore = mock(ItemStore.class);
+        when(itemStore.get(anyString())).thenAnswer(invocation -> {
+            String[] key = invocation.<String>getArgument(0).split("/");
+            return new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withNamespace(key[0])
+                        .withName(key[1])
+                    .endMetadata()
+                    .build();
+        });
+        return itemStore;
+    }
+
+    private static BatchingLoop batchingLoop(StubController stub, int threads) {
+        TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null,
+                new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+
+        return new BatchingLoop(10_000, stub.controller, threads, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS, itemStore(),
+                () -> { }, metrics, NAMESPACE);
+    }
+
+    private static void offer(BatchingLoop loop, int topics, int eventsPerTopic) {
+        for (int i = 0; i < eventsPerTopic; i++) {
+            for (int t = 0; t < topics; t++) {
+                loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-" + t, String.valueOf(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testTopicIsNotReconciledConcurrently() throws InterruptedException {
+        int topics = 20;
+        int eventsPerTopic = 10;
+        StubController stub = new StubController(topics * eventsPerTopic, 5);
+        BatchingLoop loop = batchingLoop(stub, 4);
+
+        loop.start();
+        try {
+            offer(loop, topics, eventsPerTopic);
+            assertThat(stub.done.await(30, TimeUnit.SECONDS), is(true));
+        } finally {
+            loop.stop();
+        }
+
+        assertThat(stub.concurrentReconciliations.get(), is(0));
+        assertThat(stub.reconciliations.size(), is(topics));
+        stub.reconciliations.values().forEach(count -> assertThat(count.get(), is(eventsPerTopic)));
+    }
+
+    /**
+     * Measures the time of a resync of many KafkaTopics with different number of threads
+     */
+    @Test
+    public void testResyncTimeDecreasesWithThreads() throws InterruptedException {
+        int topics = 400;
+        long singleThreadMs = 0;
+
+        for (int threads : List.of(1, 2, 4, 8)) {
+            StubController stub = new StubController(topics, 20);
+            BatchingLoop loop = batchingLoop(stub, threads);
+
+            loop.start();
+            try {
+                long start = System.nanoTime();
+                offer(loop, topics, 1);
+                assertThat(stub.done.await(60, TimeUnit.SECONDS), is(true));
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                LOGGER.info("Resync of {} topics with {} thread(s) took {}ms", topics, threads, durationMs);
+
+                if (threads == 1) {
+                    singleThreadMs = durationMs;
+                } else {
+                    assertThat(durationMs, lessThan(singleThreadMs));
+                }
+            } finally {
+                loop.stop();
+            }
+
+            assertThat(stub.concurrentReconciliations.get(), is(0));
+        }
+    }
+}
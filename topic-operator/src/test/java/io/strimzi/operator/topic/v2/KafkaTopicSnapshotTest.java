@@ -0,0 +1,224 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.BatchingTopicController.CurrentState;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaTopicSnapshotTest {
+    private static final String NAMESPACE = "ns";
+    private static final Node NODE = new Node(0, "localhost", 9092);
+
+    private static CurrentState currentState(String name, int partitions, Map<String, String> dynamicConfigs) {
+        var partitionInfos = IntStream.range(0, partitions)
+                .mapToObj(p -> new TopicPartitionInfo(p, NODE, List.of(NODE), List.of(NODE)))
+                .toList();
+        var configEntries = dynamicConfigs.entrySet().stream()
+                .map(e -> new ConfigEntry(e.getKey(), e.getValue(), ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), ConfigEntry.ConfigType.STRING, null))
+                .toList();
+        return new CurrentState(new TopicDescription(name, false, partitionInfos), new Config(configEntries));
+    }
+
+    /**
+     * Mocks an Admin client which knows the given topics
+     */
+    @SuppressWarnings("unchecked")
+    private static Admin admin(Map<String, CurrentState> topics) {
+        Admin admin = mock(Admin.class);
+
+        ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(topics.keySet()));
+        when(admin.listTopics()).thenReturn(listTopicsResult);
+
+        when(admin.describeTopics(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.topicNameValues()).thenReturn(names.stream()
+                    .collect(Collectors.toMap(Function.identity(), name -> KafkaFuture.completedFuture(topics.get(name).topicDescription()))));
+            when(result.allTopicNames()).thenReturn(KafkaFuture.completedFuture(names.stream()
+                    .collect(Collectors.toMap(Function.identity(), name -> topics.get(name).topicDescription()))));
+            return result;
+        });
+
+        when(admin.describeConfigs(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<ConfigResource> resources = invocation.getArgument(0);
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.values()).thenReturn(resources.stream()
+                    .collect(Collectors.toMap(Function.identity(), resource -> KafkaFuture.completedFuture(topics.get(resource.name()).configs()))));
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(resources.stream()
+                    .collect(Collectors.toMap(Function.identity(), resource -> topics.get(resource.name()).configs()))));
+            return result;
+        });
+
+        DescribeClusterResult describeClusterResult = mock(DescribeClusterResult.class);
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(admin.describeCluster()).thenReturn(describeClusterResult);
+
+        return admin;
+    }
+
+    @Test
+    public void testRefresh() throws ExecutionException, InterruptedException {
+        Admin admin = admin(Map.of(
+                "a", currentState("a", 1, Map.of()),
+                "b", currentState("b", 2, Map.of()),
+                "c", currentState("c", 3, Map.of("retention.ms", "1000"))));
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(admin, 60_000, 2);
+
+        snapshot.refresh();
+
+        // 3 topics in pages of 2
+        verify(admin, times(2)).describeTopics(any(Collection.class));
+        verify(admin, times(2)).describeConfigs(any(Collection.class));
+        assertThat(snapshot.size(), is(3));
+        assertThat(snapshot.get("b").numPartitions(), is(2));
+        assertThat(snapshot.get("c").configs().get("retention.ms").value(), is("1000"));
+        assertThat(snapshot.get("d"), is(nullValue()));
+    }
+
+    @Test
+    public void testRefreshRemovesDeletedTopics() throws ExecutionException, InterruptedException {
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(admin(Map.of("a", currentState("a", 1, Map.of()))), 60_000, 10);
+        snapshot.update("deleted", currentState("deleted", 1, Map.of()), System.nanoTime() - 1_000_000);
+
+        snapshot.refresh();
+
+        assertThat(snapshot.size(), is(1));
+        assertThat(snapshot.get("a"), is(notNullValue()));
+        assertThat(snapshot.get("deleted"), is(nullValue()));
+    }
+
+    @Test
+    public void testInvalidation() {
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(mock(Admin.class), 60_000, 10);
+
+        long describedBeforeAlter = System.nanoTime();
+        snapshot.update("a", currentState("a", 1, Map.of()), describedBeforeAlter);
+        assertThat(snapshot.get("a"), is(notNullValue()));
+
+        snapshot.invalidate("a");
+        assertThat(snapshot.get("a"), is(nullValue()));
+
+        // State obtained before the invalidation does not replace it
+        snapshot.update("a", currentState("a", 1, Map.of()), describedBeforeAlter);
+        assertThat(snapshot.get("a"), is(nullValue()));
+
+        // State obtained after the invalidation does
+        snapshot.update("a", currentState("a", 2, Map.of()), System.nanoTime());
+        assertThat(snapshot.get("a").numPartitions(), is(2));
+    }
+
+    @Test
+    public void testExpiredState() {
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(mock(Admin.class), 1_000, 10);
+        snapshot.update("a", currentState("a", 1, Map.of()), System.nanoTime() - 3_000_000_000L);
+
+        assertThat(snapshot.get("a"), is(nullValue()));
+    }
+
+    private static KafkaTopic readyKafkaTopic(String name, int partitions, Map<String, Object> config) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withGeneration(2L)
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                    .addToFinalizers(BatchingTopicController.FINALIZER)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(partitions)
+                    .withReplicas(1)
+                    .withConfig(config)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .withTopicName(name)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    @Test
+    public void testControllerSkipsUnchangedTopics() throws ExecutionException, InterruptedException {
+        Admin admin = admin(Map.of("a", currentState("a", 2, Map.of("retention.ms", "1000"))));
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(admin, 60_000, 10);
+        snapshot.refresh();
+
+        TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null,
+                new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        // The Kubernetes client is not used, because the finalizer is present and the status does not change
+        BatchingTopicController controller = new BatchingTopicController(Map.of(), admin, null, true, metrics, NAMESPACE, false, snapshot, new KafkaTopicStatusWriter(null, 0, metrics, NAMESPACE, false));
+
+        KafkaTopic kt = readyKafkaTopic("a", 2, Map.of("retention.ms", 1000));
+        controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", RESOURCE_KIND, NAMESPACE, "a"), kt, "a")));
+
+        // only the refresh described the topic
+        verify(admin, times(1)).describeTopics(any(Collection.class));
+        verify(admin, never()).incrementalAlterConfigs(any());
+        assertThat(metrics.unchangedReconciliationsCounter(NAMESPACE).count(), is(1.0));
+        assertThat(metrics.successfulReconciliationsCounter(NAMESPACE).count(), is(1.0));
+    }
+
+    @Test
+    public void testControllerDescribesInvalidatedTopics() throws ExecutionException, InterruptedException {
+        Admin admin = admin(Map.of("a", currentState("a", 2, Map.of("retention.ms", "1000"))));
+        KafkaTopicSnapshot snapshot = new KafkaTopicSnapshot(admin, 60_000, 10);
+        snapshot.refresh();
+        snapshot.invalidate("a");
+
+        TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null,
+                new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        BatchingTopicController controller = new BatchingTopicController(Map.of(), admin, null, true, metrics, NAMESPACE, false, snapshot, new KafkaTopicStatusWriter(null, 0, metrics, NAMESPACE, false));
+
+        KafkaTopic kt = readyKafkaTopic("a", 2, Map.of("retention.ms", 1000));
+        controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", RESOURCE_KIND, NAMESPACE, "a"), kt, "a")));
+
+        // described by the refresh and by the reconciliation, which also updates the snapshot
+        verify(admin, times(2)).describeTopics(any(Collection.class));
+        assertThat(metrics.unchangedReconciliationsCounter(NAMESPACE).count(), is(0.0));
+        assertThat(snapshot.get("a"), is(notNullValue()));
+    }
+}
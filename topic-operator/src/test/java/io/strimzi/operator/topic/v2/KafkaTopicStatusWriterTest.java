@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@EnableKubernetesMockClient(crud = true)
+class KafkaTopicStatusWriterTest {
+    private static final String NAMESPACE = "ns";
+    private static final String NAME = "my-topic";
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", RESOURCE_KIND, NAMESPACE, NAME);
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    private TopicOperatorMetricsHolder metrics;
+
+    @BeforeEach
+    public void beforeEach() {
+        metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        Crds.topicOperation(client).resource(new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                .endSpec()
+                .build()).create();
+    }
+
+    private KafkaTopic withStatus(long observedGeneration, String topicName, String ready) {
+        return new KafkaTopicBuilder(Crds.topicOperation(client).inNamespace(NAMESPACE).withName(NAME).get())
+                .editMetadata()
+                    .withResourceVersion(null)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                    .withTopicName(topicName)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus(ready)
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private KafkaTopic current() {
+        return Crds.topicOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+    }
+
+    @Test
+    public void testSynchronousWrite() throws InterruptedException {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(client, 0, metrics, NAMESPACE, true);
+
+        writer.write(RECONCILIATION, withStatus(1, NAME, "True"), false);
+
+        assertThat(current().getStatus().getObservedGeneration(), is(1L));
+        assertThat(current().getStatus().getTopicName(), is(NAME));
+        assertThat(current().getStatus().getConditions().get(0).getStatus(), is("True"));
+        assertThat(metrics.updateStatusTimer(NAMESPACE).count(), is(1L));
+
+        writer.stop();
+    }
+
+    @Test
+    public void testReplaceRemovesTopicName() throws InterruptedException {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(client, 0, metrics, NAMESPACE, false);
+
+        writer.write(RECONCILIATION, withStatus(1, NAME, "True"), false);
+        writer.write(RECONCILIATION, withStatus(2, null, "True"), true);
+
+        assertThat(current().getStatus().getObservedGeneration(), is(2L));
+        assertThat(current().getStatus().getTopicName(), is(nullValue()));
+
+        writer.stop();
+    }
+
+    @Test
+    public void testAsynchronousWritesAreCoalesced() throws InterruptedException {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(client, 2, metrics, NAMESPACE, true);
+
+        for (int i = 1; i <= 50; i++) {
+            writer.write(RECONCILIATION, withStatus(i, NAME, "True"), false);
+        }
+
+        // Stopping the writer writes the pending updates
+        writer.stop();
+
+        assertThat(current().getStatus().getObservedGeneration(), is(50L));
+        assertThat(metrics.statusUpdatesQueueSize(NAMESPACE).get(), is(0));
+        assertThat(metrics.updateStatusTimer(NAMESPACE).count() <= 50L, is(true));
+    }
+
+    @Test
+    public void testAsynchronousWriteOfDeletedTopic() throws InterruptedException {
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(client, 1, metrics, NAMESPACE, false);
+        KafkaTopic kt = withStatus(1, NAME, "True");
+        Crds.topicOperation(client).inNamespace(NAMESPACE).withName(NAME).delete();
+
+        // Does not throw, the error is only logged
+        writer.write(RECONCILIATION, kt, false);
+        writer.stop();
+
+        assertThat(metrics.statusUpdatesQueueSize(NAMESPACE).get(), is(0));
+    }
+
+    @Test
+    public void testFailedAsynchronousWriteIsRetried() throws InterruptedException {
+        KubernetesClient failingOnce = spy(client);
+        doThrow(new KubernetesClientException("Internal error", 500, null))
+                .doCallRealMethod()
+                .when(failingOnce).resources(KafkaTopic.class, KafkaTopicList.class);
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(failingOnce, 1, metrics, NAMESPACE, false);
+
+        writer.write(RECONCILIATION, withStatus(1, NAME, "True"), false);
+
+        TestUtils.waitFor("status to be written after a retry", 100, 10 * KafkaTopicStatusWriter.INITIAL_RETRY_DELAY_MS,
+                () -> current().getStatus() != null && current().getStatus().getObservedGeneration() == 1L);
+        writer.stop();
+
+        assertThat(metrics.statusUpdatesQueueSize(NAMESPACE).get(), is(0));
+    }
+
+    @Test
+    public void testConflictingAsynchronousWriteIsNotRetried() throws InterruptedException {
+        KubernetesClient conflictingOnce = spy(client);
+        doThrow(new KubernetesClientException("Conflict", 409, null))
+                .doCallRealMethod()
+                .when(conflictingOnce).resources(KafkaTopic.class, KafkaTopicList.class);
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(conflictingOnce, 1, metrics, NAMESPACE, false);
+
+        writer.write(RECONCILIATION, withStatus(1, NAME, "True"), false);
+
+        verify(conflictingOnce, timeout(1_000)).resources(KafkaTopic.class, KafkaTopicList.class);
+        // Wait for longer than the first retry would take
+        Thread.sleep(2 * KafkaTopicStatusWriter.INITIAL_RETRY_DELAY_MS);
+        writer.stop();
+
+        verify(conflictingOnce, times(1)).resources(KafkaTopic.class, KafkaTopicList.class);
+        assertThat(current().getStatus(), is(nullValue()));
+        assertThat(metrics.statusUpdatesQueueSize(NAMESPACE).get(), is(0));
+    }
+}
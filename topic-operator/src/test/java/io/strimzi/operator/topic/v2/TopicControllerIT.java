@@ -1190,7 +1190,7 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 useFinalizer,
-                100, 100, 10, false);
+                100, 100, 10, 1, 0, 0, false);
     }
 
     @ParameterizedTest
@@ -1921,7 +1921,7 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 true,
-                1, 100, 5_0000, false);
+                1, 100, 5_0000, 1, 0, 0, false);
 
         maybeStartOperator(config);
 
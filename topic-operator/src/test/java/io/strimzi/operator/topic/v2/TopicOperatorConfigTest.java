@@ -272,4 +272,46 @@ class TopicOperatorConfigTest {
         assertFalse(config.toString().contains("FORBIDDEN"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldConfigureMaxThreads() {
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace"));
+        assertEquals(1, config.maxThreads());
+
+        config = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.MAX_THREADS.key(), "4"));
+        assertEquals(4, config.maxThreads());
+
+        assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.MAX_THREADS.key(), "0")));
+    }
+
+    @Test
+    void shouldConfigureStatusUpdateThreads() {
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace"));
+        assertEquals(0, config.statusUpdateThreads());
+
+        config = TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.STATUS_UPDATE_THREADS.key(), "2"));
+        assertEquals(2, config.statusUpdateThreads());
+
+        assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.STATUS_UPDATE_THREADS.key(), "0")));
+
+        assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                TopicOperatorConfig.STATUS_UPDATE_THREADS.key(), "-1")));
+    }
+}
@@ -16,7 +16,9 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
@@ -24,6 +26,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
+import io.strimzi.operator.common.metrics.KeyPairPoolMetricsHolder;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
@@ -79,19 +82,18 @@ public class Main {
         SecretOperator secretOperator = new SecretOperator(kafkaUserOperatorExecutor, client);
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
+        MetricsProvider metricsProvider = createMetricsProvider();
 
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
-                new OpenSslCertManager(),
+                createCertManager(config, metricsProvider),
                 secretOperator,
                 kafkaUserCrdOperator,
-                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
+                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor, metricsProvider) : new DisabledSimpleAclOperator()
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
@@ -187,6 +189,29 @@ public class Main {
         return new MicrometerMetricsProvider(registry);
     }
 
+    /**
+     * Creates the certificate manager. When the key pair pool is enabled, the pool is created and started as well.
+     *
+     * @param config            User Operator configuration
+     * @param metricsProvider   Metrics provider used for the key pair pool metrics
+     *
+     * @return  Certificate manager instance
+     */
+    private static CertManager createCertManager(UserOperatorConfig config, MetricsProvider metricsProvider) {
+        if (config.getKeyPairPoolSize() > 0) {
+            if (config.getCertManagerType() == CertManagerType.JCA) {
+                KeyPairPool pool = new KeyPairPool(config.getKeyPairAlgorithm(), config.getKeyPairPoolSize(), new KeyPairPoolMetricsHolder(config.getKeyPairAlgorithm(), metricsProvider));
+                pool.start();
+
+                return config.getCertManagerType().create(config.getKeyPairAlgorithm(), pool);
+            } else {
+                LOGGER.warn("The key pair pool is supported only with the jca certificate manager and will be ignored");
+            }
+        }
+
+        return config.getCertManagerType().create(config.getKeyPairAlgorithm(), null);
+    }
+
     private static class OperatorWorkThreadFactory implements ThreadFactory {
         private final AtomicInteger threadCounter = new AtomicInteger(0);
 
@@ -18,6 +18,7 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.controller.ReconciliationRateLimiter;
 import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
@@ -102,9 +103,6 @@ public class UserController implements Liveness, Readiness {
         // Set up the metrics holder
         this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, Labels.fromMap(userSelector), metricsProvider);
 
-        // Set up the work queue
-        this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
-
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS);
         Lister<Secret> secretLister = new Lister<>(secretInformer.getIndexer());
@@ -113,16 +111,27 @@ public class UserController implements Liveness, Readiness {
         this.userInformer = userCrdOperator.informer(watchedNamespace, userSelector, DEFAULT_RESYNC_PERIOD_MS);
         Lister<KafkaUser> userLister = new Lister<>(userInformer.getIndexer());
 
-        // Creates the scheduled executor service used for periodical reconciliations and progress warnings
+        // Creates the scheduled executor service used for periodical reconciliations, retries and progress warnings
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerScheduledExecutor"));
 
-        // Create the reconciliation lock manager
-        ReconciliationLockManager lockManager = new ReconciliationLockManager();
+        // Set up the work queue. Failed reconciliations are retried with a backoff decided by the rate limiter.
+        ReconciliationRateLimiter rateLimiter = new ReconciliationRateLimiter(config.getRetryInitialDelayMs(), config.getRetryMaxDelayMs(), config.getRetryRateLimit(), config.getRetryRateLimitBurst());
+        // In the asynchronous mode, a single controller loop dispatches all reconciliations. Otherwise, when the
+        // sharded work queue is used, each controller loop has its own shard.
+        boolean async = config.getMaxInFlightReconciliations() > 0;
+        int loops = async ? 1 : config.getControllerThreadPoolSize();
+        int shards = !async && config.isShardedWorkQueue() ? loops : 1;
+        this.workQueue = new ControllerQueue(config.getWorkQueueSize(), shards, rateLimiter, scheduledExecutor, this.metrics);
+
+        // Create the reconciliation lock manager. It is not needed with the sharded work queue which never hands out
+        // the same resource to multiple controller loops at the same time or in the asynchronous mode with a single
+        // controller loop.
+        ReconciliationLockManager lockManager = async || config.isShardedWorkQueue() ? null : new ReconciliationLockManager();
 
         // Create a thread pool for the reconciliation loops and add the reconciliation loops
-        this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
-        for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+        this.threadPool = new ArrayList<>(loops);
+        for (int i = 0; i < loops; i++)  {
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, shards > 1 ? i : 0, lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
         }
     }
 
@@ -328,6 +337,8 @@ public class UserController implements Liveness, Readiness {
                 metrics.pausedResourceCounter(watchedNamespace).decrementAndGet();
             }
 
+            // The backoff of the deleted user is not needed anymore
+            workQueue.forget(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), user.getMetadata().getName()));
             enqueueKafkaUser(user, "DELETED");
         }
     }
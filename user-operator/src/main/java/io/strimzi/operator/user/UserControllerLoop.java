@@ -29,12 +29,14 @@ import io.strimzi.operator.user.operator.KafkaUserOperator;
 
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * User controller loop is responsible for reconciling the KafkaUser and the secrets and Kafka settings which belong to it.
@@ -58,7 +60,10 @@ public class UserControllerLoop extends AbstractControllerLoop {
      *                              possible the namespace in which it reconciles it or the number of the loop if more
      *                              than one is running in parallel.
      * @param workQueue             ControllerQueue from which the reconciliation events should be taken
-     * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
+     * @param shard                 Index of the work queue shard from which the reconciliation events should be taken
+     * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple
+     *                              loops in parallel. Null when the sharded work queue or the asynchronous mode is
+     *                              used.
      * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
      *                              used to run the progress warnings
      * @param userLister            The KafkaUser resource lister for getting the resources
@@ -71,6 +76,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
     public UserControllerLoop(
             String name,
             ControllerQueue workQueue,
+            int shard,
             ReconciliationLockManager lockManager,
             ScheduledExecutorService scheduledExecutor,
             Lister<KafkaUser> userLister,
@@ -80,7 +86,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerMetricsHolder metrics,
             UserOperatorConfig config
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, shard, lockManager, config.getMaxInFlightReconciliations(), scheduledExecutor);
 
         this.userLister = userLister;
         this.secretLister = secretLister;
@@ -93,12 +99,29 @@ public class UserControllerLoop extends AbstractControllerLoop {
     }
 
     /**
-     * The main reconciliation logic which handles the reconciliations.
+     * The main reconciliation logic which handles the reconciliations. It runs the asynchronous reconciliation and
+     * waits for its result.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  True if the reconciliation succeeded. False if it failed and should be retried.
+     */
+    @Override
+    protected boolean reconcile(Reconciliation reconciliation) {
+        return reconcileAsync(reconciliation).toCompletableFuture().join();
+    }
+
+    /**
+     * The asynchronous reconciliation logic. It does not block the calling thread while waiting for the Kafka and
+     * Kubernetes operations.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  CompletionStage which completes with true if the reconciliation succeeded or with false if it failed and
+     *          should be retried.
      */
     @Override
-    protected void reconcile(Reconciliation reconciliation) {
+    protected CompletionStage<Boolean> reconcileAsync(Reconciliation reconciliation) {
         LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
 
         KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
@@ -108,39 +131,74 @@ public class UserControllerLoop extends AbstractControllerLoop {
             LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-            maybeUpdateStatus(reconciliation, user, status);
+
+            return maybeUpdateStatus(reconciliation, user, status)
+                    .thenApply(i -> true);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
-            CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
-                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
-
-            try {
-                KafkaUserStatus status = new KafkaUserStatus();
-                Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
-
-                try {
-                    status = reconciliationResult.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                    LOGGER.infoCr(reconciliation, "reconciled");
-                    metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-                } catch (ExecutionException | InterruptedException | TimeoutException | CancellationException e) {
-                    // The reconciliation failed (these are returned from the get(...) call)
-                    LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
-                    metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-
-                    if (user != null) {
-                        StatusUtils.setStatusConditionAndObservedGeneration(user, status, e);
-                    }
-                } finally {
-                    // Update the status if the user exists
-                    if (user != null) {
-                        StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
-                        maybeUpdateStatus(reconciliation, user, status);
-                    }
-                }
-            } catch (Throwable t) {
-                // Updating status failed
-                LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
-            }
+            Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
+
+            return userOperator
+                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())))
+                    .toCompletableFuture()
+                    .copy() // We use a copy to not complete the original future when timing out
+                    .orTimeout(operationTimeoutMs, TimeUnit.MILLISECONDS)
+                    .handle((reconciledStatus, error) -> {
+                        KafkaUserStatus status = new KafkaUserStatus();
+
+                        if (error == null) {
+                            status = reconciledStatus;
+                            LOGGER.infoCr(reconciliation, "reconciled");
+                            metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+                        } else {
+                            Throwable e = reconciliationError(error);
+                            LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
+                            metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
+
+                            if (user != null) {
+                                StatusUtils.setStatusConditionAndObservedGeneration(user, status, e);
+                            }
+                        }
+
+                        boolean success = error == null;
+
+                        // Update the status if the user exists
+                        if (user != null) {
+                            StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
+
+                            return maybeUpdateStatus(reconciliation, user, status)
+                                    .handle((i, t) -> {
+                                        if (t != null) {
+                                            // Updating status failed
+                                            LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                                        }
+
+                                        return success;
+                                    });
+                        } else {
+                            return CompletableFuture.completedFuture(success);
+                        }
+                    })
+                    .thenCompose(Function.identity());
+        }
+    }
+
+    /**
+     * Converts the error from the reconciliation to the exception which is used in the status of the KafkaUser
+     * resource. Timeouts and cancellations are used directly while other errors are wrapped into ExecutionException
+     * in the same way as when waiting for the result of a Future.
+     *
+     * @param error     The error returned by the reconciliation
+     *
+     * @return  Exception which should be used in the KafkaUser status
+     */
+    private static Throwable reconciliationError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (cause instanceof TimeoutException || cause instanceof CancellationException) {
+            return cause;
+        } else {
+            return new ExecutionException(cause);
         }
     }
 
@@ -150,8 +208,10 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * @param reconciliation    Reconciliation in which this is executed
      * @param kafkaUser         Original KafkaUser with the current status
      * @param desiredStatus     The desired status which should be set if it differs
+     *
+     * @return  CompletionStage which completes when the status is updated
      */
-    private void maybeUpdateStatus(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
+    private CompletionStage<Void> maybeUpdateStatus(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
         // KafkaUser or desiredStatus being null means deletion => no status to update
         if (kafkaUser != null && desiredStatus != null && !new StatusDiff(kafkaUser.getStatus(), desiredStatus).isEmpty()) {
             LOGGER.debugCr(reconciliation, "Updating status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
@@ -162,7 +222,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
                         .withStatus(desiredStatus)
                         .build();
 
-                userCrdOperator.updateStatusAsync(reconciliation, updateKafkaUser)
+                return userCrdOperator.updateStatusAsync(reconciliation, updateKafkaUser)
                     .exceptionally(error -> {
                         if (Util.unwrap(error) instanceof KubernetesClientException kce) {
                             switch (kce.getCode()) {
@@ -175,10 +235,11 @@ public class UserControllerLoop extends AbstractControllerLoop {
                             throw new CompletionException(Util.unwrap(error));
                         }
                     })
-                    .toCompletableFuture()
-                    .join();
+                    .thenAccept(i -> { });
             }
         }
+
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -4,8 +4,12 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
+import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
+import io.strimzi.operator.common.operator.resource.ConfigParameterParser;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +26,7 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.PROPERTIES;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.SEMICOLON_SEPARATED_LIST;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
@@ -79,6 +84,18 @@ public class UserOperatorConfig {
      * How long before the certificate expiration should the user certificate be renewed
      */
     public static final ConfigParameter<Integer> CERTS_RENEWAL_DAYS = new ConfigParameter<>("STRIMZI_CA_RENEWAL", strictlyPositive(INTEGER), "30", CONFIG_VALUES);
+    /**
+     * Certificate manager implementation used to generate the user certificates (openssl or jca)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+    /**
+     * Number of pre-generated key pairs kept in the key pair pool of the jca certificate manager (0 disables the pool)
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_SIZE", nonNegative(INTEGER), "0", CONFIG_VALUES);
+    /**
+     * Algorithm of the user certificate keys generated by the jca certificate manager (RSA or EC)
+     */
+    public static final ConfigParameter<KeyAlgorithm> KEY_PAIR_ALGORITHM = new ConfigParameter<>("STRIMZI_KEY_PAIR_ALGORITHM", ConfigParameterParser.KEY_ALGORITHM, "RSA", CONFIG_VALUES);
     /**
      * Length used for the Scram-Sha Password
      */
@@ -99,10 +116,39 @@ public class UserOperatorConfig {
      * Size of the pool of the controller threads used to reconcile the users
      */
     public static final ConfigParameter<Integer> CONTROLLER_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CONTROLLER_THREAD_POOL_SIZE", INTEGER, "50", CONFIG_VALUES);
+    /**
+     * Indicates whether the work queue should be split into shards with one shard per controller thread
+     */
+    public static final ConfigParameter<Boolean> SHARDED_WORK_QUEUE = new ConfigParameter<>("STRIMZI_SHARDED_WORK_QUEUE", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Maximal number of reconciliations in progress when the controller runs in the asynchronous mode. The default
+     * value 0 disables the asynchronous mode and the reconciliations are executed by the controller thread pool.
+     */
+    public static final ConfigParameter<Integer> MAX_IN_FLIGHT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_IN_FLIGHT_RECONCILIATIONS", nonNegative(INTEGER), "0", CONFIG_VALUES);
+    /**
+     * Initial delay for retrying failed reconciliations. The delay doubles with every consecutive failure.
+     */
+    public static final ConfigParameter<Long> RETRY_INITIAL_DELAY_MS = new ConfigParameter<>("STRIMZI_RETRY_INITIAL_DELAY_MS", nonNegative(LONG), "1000", CONFIG_VALUES);
+    /**
+     * Maximal delay for retrying failed reconciliations
+     */
+    public static final ConfigParameter<Long> RETRY_MAXIMUM_DELAY_MS = new ConfigParameter<>("STRIMZI_RETRY_MAXIMUM_DELAY_MS", nonNegative(LONG), "120000", CONFIG_VALUES);
+    /**
+     * Maximal number of retried reconciliations per second across all users
+     */
+    public static final ConfigParameter<Integer> RETRY_RATE_LIMIT = new ConfigParameter<>("STRIMZI_RETRY_RATE_LIMIT", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+    /**
+     * Number of retried reconciliations which can be enqueued in a burst above the retry rate limit
+     */
+    public static final ConfigParameter<Integer> RETRY_RATE_LIMIT_BURST = new ConfigParameter<>("STRIMZI_RETRY_RATE_LIMIT_BURST", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     /**
      * Refresh interval for the cache storing the resources from the Kafka Admin API
      */
     public static final ConfigParameter<Long> CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CACHE_REFRESH_INTERVAL_MS", LONG, "15000", CONFIG_VALUES);
+    /**
+     * Indicates whether the ACL cache should load the ACLs with a separate Kafka Admin API request for each resource type
+     */
+    public static final ConfigParameter<Boolean> ACLS_CACHE_SPLIT_BY_RESOURCE_TYPE = new ConfigParameter<>("STRIMZI_ACLS_CACHE_SPLIT_BY_RESOURCE_TYPE", BOOLEAN, "false", CONFIG_VALUES);
     /**
      * Maximal queue for requests when micro-batching the Kafka Admin API requests
      */
@@ -115,6 +161,15 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Indicates whether the batch size and batch time for micro-batching the Kafka Admin API requests should be adapted
+     * to the latency and errors of the previous batches
+     */
+    public static final ConfigParameter<Boolean> BATCH_ADAPTIVE = new ConfigParameter<>("STRIMZI_BATCH_ADAPTIVE", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Target latency of the batches when adaptive micro-batching of the Kafka Admin API requests is used
+     */
+    public static final ConfigParameter<Long> BATCH_TARGET_LATENCY_MS = new ConfigParameter<>("STRIMZI_BATCH_TARGET_LATENCY_MS", strictlyPositive(LONG), "500", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -151,6 +206,10 @@ public class UserOperatorConfig {
 
         Map<String, Object> generatedMap = ConfigParameter.define(envMap, CONFIG_VALUES);
 
+        if ((Long) generatedMap.get(RETRY_INITIAL_DELAY_MS.key()) > (Long) generatedMap.get(RETRY_MAXIMUM_DELAY_MS.key())) {
+            throw new InvalidConfigurationException(RETRY_INITIAL_DELAY_MS.key() + " has to be lower or equal to " + RETRY_MAXIMUM_DELAY_MS.key());
+        }
+
         return new UserOperatorConfig(generatedMap);
     }
 
@@ -317,6 +376,49 @@ public class UserOperatorConfig {
         return get(CONTROLLER_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Indicates whether the work queue should be split into shards with one shard per controller thread
+     */
+    public boolean isShardedWorkQueue() {
+        return get(SHARDED_WORK_QUEUE);
+    }
+
+    /**
+     * @return  Maximal number of reconciliations in progress in the asynchronous mode or 0 if the asynchronous mode is
+     *          disabled
+     */
+    public int getMaxInFlightReconciliations() {
+        return get(MAX_IN_FLIGHT_RECONCILIATIONS);
+    }
+
+    /**
+     * @return  Initial delay for retrying failed reconciliations
+     */
+    public long getRetryInitialDelayMs() {
+        return get(RETRY_INITIAL_DELAY_MS);
+    }
+
+    /**
+     * @return  Maximal delay for retrying failed reconciliations
+     */
+    public long getRetryMaxDelayMs() {
+        return get(RETRY_MAXIMUM_DELAY_MS);
+    }
+
+    /**
+     * @return  Maximal number of retried reconciliations per second
+     */
+    public int getRetryRateLimit() {
+        return get(RETRY_RATE_LIMIT);
+    }
+
+    /**
+     * @return  Number of retried reconciliations which can be enqueued in a burst above the retry rate limit
+     */
+    public int getRetryRateLimitBurst() {
+        return get(RETRY_RATE_LIMIT_BURST);
+    }
+
     /**
      * @return  Refresh interval for the cache storing the resources from the Kafka Admin API
      */
@@ -324,6 +426,13 @@ public class UserOperatorConfig {
         return get(CACHE_REFRESH_INTERVAL_MS);
     }
 
+    /**
+     * @return  Indicates whether the ACL cache should load the ACLs with a separate request for each resource type
+     */
+    public boolean isAclsCacheSplitByResourceType() {
+        return get(ACLS_CACHE_SPLIT_BY_RESOURCE_TYPE);
+    }
+
     /**
      * @return  Maximal queue for requests when micro-batching the Kafka Admin API requests
      */
@@ -345,6 +454,20 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Indicates whether adaptive micro-batching of the Kafka Admin API requests should be used
+     */
+    public boolean isBatchAdaptive() {
+        return get(BATCH_ADAPTIVE);
+    }
+
+    /**
+     * @return  Target latency of the batches when adaptive micro-batching of the Kafka Admin API requests is used
+     */
+    public long getBatchTargetLatencyMs() {
+        return get(BATCH_TARGET_LATENCY_MS);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -366,6 +489,27 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return  Certificate manager implementation used to generate the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return  Number of pre-generated key pairs kept in the key pair pool
+     */
+    public int getKeyPairPoolSize() {
+        return get(KEY_PAIR_POOL_SIZE);
+    }
+
+    /**
+     * @return  Algorithm of the user certificate keys generated by the jca certificate manager
+     */
+    public KeyAlgorithm getKeyPairAlgorithm() {
+        return get(KEY_PAIR_ALGORITHM);
+    }
+
 
     @Override
     public String toString() {
@@ -382,6 +526,9 @@ public class UserOperatorConfig {
                 "\n\tsecretPrefix='" + getSecretPrefix() + '\'' +
                 "\n\tclientsCaValidityDays=" + getClientsCaValidityDays() +
                 "\n\tclientsCaRenewalDays=" + getClientsCaRenewalDays() +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tkeyPairPoolSize=" + getKeyPairPoolSize() +
+                "\n\tkeyPairAlgorithm=" + getKeyPairAlgorithm() +
                 "\n\taclsAdminApiSupported=" + isAclsAdminApiSupported() +
                 "\n\tscramPasswordLength=" + getScramPasswordLength() +
                 "\n\tmaintenanceWindows=`" + getMaintenanceWindows() + '\'' +
@@ -389,10 +536,19 @@ public class UserOperatorConfig {
                 "\n\toperationTimeoutMs=" + getOperationTimeoutMs() +
                 "\n\tworkQueueSize=" + getWorkQueueSize() +
                 "\n\tcontrollerThreadPoolSize=" + getControllerThreadPoolSize() +
+                "\n\tshardedWorkQueue=" + isShardedWorkQueue() +
+                "\n\tmaxInFlightReconciliations=" + getMaxInFlightReconciliations() +
+                "\n\tretryInitialDelayMs=" + getRetryInitialDelayMs() +
+                "\n\tretryMaxDelayMs=" + getRetryMaxDelayMs() +
+                "\n\tretryRateLimit=" + getRetryRateLimit() +
+                "\n\tretryRateLimitBurst=" + getRetryRateLimitBurst() +
                 "\n\tcacheRefresh=" + getCacheRefresh() +
+                "\n\taclsCacheSplitByResourceType=" + isAclsCacheSplitByResourceType() +
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchAdaptive=" + isBatchAdaptive() +
+                "\n\tbatchTargetLatencyMs=" + getBatchTargetLatencyMs() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
                 '}';
     }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator;
 
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -39,18 +40,19 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
     /**
      * Constructor
      *
-     * @param adminClient   Kafka Admin client instance
-     * @param config        User operator configuration
-     * @param executor      Shared executor for executing async operations
+     * @param adminClient       Kafka Admin client instance
+     * @param config            User operator configuration
+     * @param executor          Shared executor for executing async operations
+     * @param metricsProvider   Metrics provider used for the micro-batching and cache metrics
      */
-    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the Quotas locally
-        this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
+        this.cache = new QuotasCache(adminClient, config.getCacheRefresh(), metricsProvider);
 
         // Create micro-batching reconcilers for managing the quotas
-        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new QuotasBatchReconciler(adminClient, config, metricsProvider);
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -45,18 +46,19 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     /**
      * Constructor
      *
-     * @param adminClient   Kafka Admin client instance
-     * @param config        User operator configuration
-     * @param executor      Shared executor for executing async operations
+     * @param adminClient       Kafka Admin client instance
+     * @param config            User operator configuration
+     * @param executor          Shared executor for executing async operations
+     * @param metricsProvider   Metrics provider used for the micro-batching and cache metrics
      */
-    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the SCRAM-SHA Credentials locally
-        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
+        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh(), metricsProvider);
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
-        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config, metricsProvider);
     }
 
     /**
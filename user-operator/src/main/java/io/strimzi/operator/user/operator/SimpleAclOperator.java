@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -45,19 +46,20 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
     /**
      * Constructor
      *
-     * @param adminClient   Kafka Admin client instance
-     * @param config        User operator configuration
-     * @param executor      Shared executor for executing async operations
+     * @param adminClient       Kafka Admin client instance
+     * @param config            User operator configuration
+     * @param executor          Shared executor for executing async operations
+     * @param metricsProvider   Metrics provider used for the micro-batching and cache metrics
      */
-    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, MetricsProvider metricsProvider) {
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
-        this.cache = new AclCache(adminClient, config.getCacheRefresh());
+        this.cache = new AclCache(adminClient, config.getCacheRefresh(), config.isAclsCacheSplitByResourceType(), metricsProvider);
 
         // Create micro-batching reconcilers for managing the ACLs
-        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
-        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.addReconciler = new AddAclsBatchReconciler(adminClient, config, metricsProvider);
+        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config, metricsProvider);
     }
 
     /**
@@ -4,6 +4,10 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,22 +16,40 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval. In the adaptive
+ * mode, the batch size and time are adjusted based on the latency and the result of the previous batches.
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
+    private final static String METRICS_PREFIX = "strimzi.batch.";
 
     private final BlockingQueue<T> queue;
     private final int maxBatchSize;
     private final int maxBatchTime;
+    private final AdaptiveBatchPolicy adaptivePolicy;
     private final Thread batchHandlerThread;
+    private final AtomicInteger inFlightBatches = new AtomicInteger(0);
+
+    // Used to wake up the batch handler thread when the batch is ready
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReadyCondition = lock.newCondition();
+    private boolean batchReady = true; // Guarded by the lock
+
+    // Metrics
+    private final MetricsProvider metricsProvider;
+    private final AtomicInteger batchSizeGauge;
+    private final AtomicInteger batchLingerGauge;
+    private final Timer batchTimer;
 
-    private volatile CountDownLatch batchSize;
     private volatile boolean stop = false;
 
     /**
@@ -39,23 +61,68 @@ public abstract class AbstractBatchReconciler<T> {
      * @param maxBatchTime  Maximal time to wait before batch is executed
      */
     public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+        this(name, queueSize, maxBatchSize, maxBatchTime, 0, null);
+    }
+
+    /**
+     * Creates the BatchReconciler
+     *
+     * @param name              Name of the reconciler
+     * @param queueSize         Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize      Maximal size of the batch. In the adaptive mode, this is the initial batch size and
+     *                          the batch can grow up to the queue size.
+     * @param maxBatchTime      Maximal time to wait before batch is executed
+     * @param targetLatencyMs   Target latency of the batches used in the adaptive mode. 0 disables the adaptive mode.
+     * @param metricsProvider   Metrics provider used for the batching metrics. Null if no metrics should be reported.
+     */
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, long targetLatencyMs, MetricsProvider metricsProvider) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
         this.queue = new ArrayBlockingQueue<>(queueSize);
-        this.batchSize = new CountDownLatch(0);
         this.maxBatchSize = maxBatchSize;
         this.maxBatchTime = maxBatchTime;
+        this.adaptivePolicy = targetLatencyMs > 0 ? new AdaptiveBatchPolicy(maxBatchSize, queueSize, maxBatchTime, targetLatencyMs) : null;
         this.batchHandlerThread = new Thread(new Runner(), name);
+
+        this.metricsProvider = metricsProvider;
+        if (metricsProvider != null) {
+            Tags tags = Tags.of("reconciler", name);
+            this.batchSizeGauge = metricsProvider.gauge(METRICS_PREFIX + "size", "The batch size currently used by the batch reconciler", tags);
+            this.batchLingerGauge = metricsProvider.gauge(METRICS_PREFIX + "linger", "The time in milliseconds for which the batch reconciler currently collects the requests", tags);
+            this.batchTimer = metricsProvider.timer(METRICS_PREFIX + "duration", "The time it takes to send the batch to Kafka and get the result", tags);
+            updateGauges();
+        } else {
+            this.batchSizeGauge = null;
+            this.batchLingerGauge = null;
+            this.batchTimer = null;
+        }
     }
 
     /**
-     * Method responsible for sending the batch of requests to Apache Kafka and handling the result
+     * Method responsible for sending the batch of requests to Apache Kafka and handling the result. The items passed
+     * to this method are owned by the implementation and can be used after this method returns.
      *
      * @param items Items which should be reconciled
+     *
+     * @return  CompletionStage which completes when the batch is handled. It completes with false when the whole batch
+     *          failed and true otherwise.
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<Boolean> reconcile(Collection<T> items);
+
+    /**
+     * Decides whether the whole batch failed based on the per-entity results of the Kafka Admin API request. Errors
+     * related to individual entities (such as an invalid quota) fail only some of the results. Broker-level errors
+     * (such as timeouts or unavailable brokers) fail all of them.
+     *
+     * @param results   Per-entity results of the Kafka Admin API request
+     *
+     * @return  True if all results failed (or when there are no per-entity results). False otherwise.
+     */
+    protected static boolean wholeBatchFailed(Collection<? extends KafkaFuture<?>> results) {
+        return results.stream().allMatch(KafkaFuture::isCompletedExceptionally);
+    }
 
     /**
      * Enqueues a reconciliation request
@@ -67,8 +134,78 @@ public abstract class AbstractBatchReconciler<T> {
     public void enqueue(T item) throws InterruptedException {
         queue.put(item);
 
-        if (queue.size() >= maxBatchSize)   {
-            batchSize.countDown();
+        int queued = queue.size();
+        if (queued >= batchSize()
+                || (adaptivePolicy != null && queued == 1 && inFlightBatches.get() == 0))   {
+            // The batch is full or in the adaptive mode there is no load => we trigger the batch right away
+            signalBatchReady();
+        }
+    }
+
+    /**
+     * @return  The batch size currently in use
+     */
+    private int batchSize() {
+        return adaptivePolicy != null ? adaptivePolicy.batchSize() : maxBatchSize;
+    }
+
+    /**
+     * @return  The time for which the requests are collected before the batch is sent
+     */
+    private int lingerMs() {
+        return adaptivePolicy != null ? adaptivePolicy.lingerMs() : maxBatchTime;
+    }
+
+    /**
+     * Wakes up the batch handler thread to send the next batch
+     */
+    private void signalBatchReady() {
+        lock.lock();
+        try {
+            batchReady = true;
+            batchReadyCondition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the next batch should be sent
+     *
+     * @return  True if the batch is sent because it is ready. False if it is sent because the batch time passed.
+     *
+     * @throws InterruptedException Thrown when interrupted while waiting
+     */
+    private boolean awaitBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            if (queue.size() >= batchSize()) {
+                // There are enough requests for another batch already waiting
+                return true;
+            }
+
+            long nanos = TimeUnit.MILLISECONDS.toNanos(lingerMs());
+
+            while (!batchReady && nanos > 0) {
+                nanos = batchReadyCondition.awaitNanos(nanos);
+            }
+
+            return batchReady;
+        } finally {
+            // The signal is consumed by this batch on every exit path. Otherwise, a stale signal would trigger the
+            // next batch right away.
+            batchReady = false;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the batch size and linger gauges
+     */
+    private void updateGauges() {
+        if (metricsProvider != null) {
+            batchSizeGauge.set(batchSize());
+            batchLingerGauge.set(lingerMs());
         }
     }
 
@@ -85,12 +222,40 @@ public abstract class AbstractBatchReconciler<T> {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        int maxSize = batchSize();
+        int queued = queue.size();
+
+        if (queued > 0)  {
+            // The batch is passed to the reconcile method which completes it asynchronously. So the list cannot be
+            // reused, but we at least avoid resizing it.
+            List<T> batch = new ArrayList<>(Math.min(queued, maxSize));
+            int batchSize = queue.drainTo(batch, maxSize);
 
-        if (batchSize > 0)  {
             LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+            inFlightBatches.incrementAndGet();
+            long startNanos = System.nanoTime();
+
+            CompletionStage<Boolean> result;
+            try {
+                result = reconcile(batch);
+            } catch (RuntimeException e) {
+                LOGGER.warn("{}: Failed to process the batch in the BatchReconciler", batchHandlerThread.getName(), e);
+                result = CompletableFuture.completedFuture(false);
+            }
+
+            result.whenComplete((success, error) -> {
+                long durationNanos = System.nanoTime() - startNanos;
+                inFlightBatches.decrementAndGet();
+
+                if (adaptivePolicy != null) {
+                    adaptivePolicy.onBatchCompleted(batchSize, TimeUnit.NANOSECONDS.toMillis(durationNanos), error != null || !Boolean.TRUE.equals(success));
+                }
+
+                if (metricsProvider != null) {
+                    batchTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+                    updateGauges();
+                }
+            });
         }
     }
 
@@ -130,12 +295,7 @@ public abstract class AbstractBatchReconciler<T> {
             while (!stop)    {
                 try {
                     LOGGER.trace("{}: Waiting for the next batch of the BatchReconciler", batchHandlerThread.getName());
-                    boolean batchSizeReached = batchSize.await(maxBatchTime, TimeUnit.MILLISECONDS);
-
-                    if (batchSizeReached) {
-                        batchSize = new CountDownLatch(1);
-                    }
-
+                    boolean batchSizeReached = awaitBatch();
                     handleBatch(batchSizeReached);
                 } catch (InterruptedException e) {
                     LOGGER.debug("{}: BatchReconciler was interrupted", batchHandlerThread.getName(), e);
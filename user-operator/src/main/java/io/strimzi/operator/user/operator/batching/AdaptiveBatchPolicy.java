@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+/**
+ * Decides the batch size and the batch time (linger) used by the adaptive micro-batching reconcilers based on the
+ * results of the previous batches. It uses additive increase and multiplicative decrease:
+ *     - When a full batch completes faster than the target latency, the batch size grows and the linger shrinks
+ *     - When a batch takes longer than the target latency, the batch size shrinks and the linger grows
+ *     - When a whole batch fails, the batch size is halved and the linger is reset to its maximum
+ *
+ * This class is thread-safe. The batches are completed from the Kafka Admin API threads while the batch size and
+ * linger are read by the batch reconciler thread.
+ */
+public class AdaptiveBatchPolicy {
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int MIN_LINGER_MS = 1;
+
+    private final int maxBatchSize;
+    private final int maxLingerMs;
+    private final long targetLatencyMs;
+
+    private volatile int batchSize;
+    private volatile int lingerMs;
+
+    /**
+     * Creates the adaptive batch policy
+     *
+     * @param initialBatchSize  Batch size used before the first batch completes
+     * @param maxBatchSize      Maximal batch size
+     * @param maxLingerMs       Maximal time for which the requests are collected before the batch is sent
+     * @param targetLatencyMs   Latency of the batch which is considered acceptable
+     */
+    public AdaptiveBatchPolicy(int initialBatchSize, int maxBatchSize, int maxLingerMs, long targetLatencyMs) {
+        if (initialBatchSize < MIN_BATCH_SIZE || maxBatchSize < initialBatchSize) {
+            throw new IllegalArgumentException("The initial batch size has to be positive and lower or equal to the maximal batch size");
+        } else if (maxLingerMs < MIN_LINGER_MS || targetLatencyMs <= 0) {
+            throw new IllegalArgumentException("The maximal linger and the target latency have to be positive");
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerMs = maxLingerMs;
+        this.targetLatencyMs = targetLatencyMs;
+
+        this.batchSize = initialBatchSize;
+        this.lingerMs = maxLingerMs;
+    }
+
+    /**
+     * @return  The current batch size
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return  The current time in milliseconds for which the requests are collected before the batch is sent
+     */
+    public int lingerMs() {
+        return lingerMs;
+    }
+
+    /**
+     * Updates the batch size and linger based on the result of a completed batch.
+     *
+     * @param size          Number of requests in the batch
+     * @param latencyMs     Time in milliseconds it took to complete the batch
+     * @param failed        Indicates whether the whole batch failed
+     */
+    public synchronized void onBatchCompleted(int size, long latencyMs, boolean failed) {
+        if (failed) {
+            batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
+            lingerMs = maxLingerMs;
+        } else if (latencyMs > targetLatencyMs) {
+            batchSize = Math.max(MIN_BATCH_SIZE, batchSize * 3 / 4);
+            lingerMs = Math.min(maxLingerMs, lingerMs * 2);
+        } else if (size >= batchSize) {
+            // Only full batches tell us that a bigger batch would be used
+            batchSize = Math.min(maxBatchSize, batchSize + Math.max(1, batchSize / 4));
+            lingerMs = Math.max(MIN_LINGER_MS, lingerMs / 2);
+        }
+    }
+}
@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DeleteAclsResult;
@@ -16,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -39,19 +42,33 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
         this.adminClient = adminClient;
     }
 
+    /**
+     * Creates the micro-batching reconciler for deleting ACL rules. The batching is configured from the User Operator configuration.
+     *
+     * @param adminClient       Kafka Admin API client
+     * @param config            User Operator configuration
+     * @param metricsProvider   Metrics provider used for the batching metrics
+     */
+    public DeleteAclsBatchReconciler(Admin adminClient, UserOperatorConfig config, MetricsProvider metricsProvider) {
+        super("DeleteAclsBatchReconciler", config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.isBatchAdaptive() ? config.getBatchTargetLatencyMs() : 0, metricsProvider);
+        this.adminClient = adminClient;
+    }
+
     /**
      * Reconciles batch of requests to delete ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes with false when the whole batch failed and true otherwise
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
+    protected CompletionStage<Boolean> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
         List<AclBindingFilter> aclFilters = new ArrayList<>();
         items.forEach(req -> aclFilters.addAll(req.desired()));
 
         DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -102,7 +119,8 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
                         });
                     }
 
-                    return null;
+                    // Failures of individual entities do not mean that the whole batch failed
+                    return e == null || !wholeBatchFailed(result.values().values());
                 });
     }
 }
@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterClientQuotasResult;
@@ -17,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching Kafka quotas using the Kafka Admin API.
@@ -39,19 +42,33 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
         this.adminClient = adminClient;
     }
 
+    /**
+     * Creates the Quotas micro-batching reconciler. The batching is configured from the User Operator configuration.
+     *
+     * @param adminClient       Kafka Admin API client
+     * @param config            User Operator configuration
+     * @param metricsProvider   Metrics provider used for the batching metrics
+     */
+    public QuotasBatchReconciler(Admin adminClient, UserOperatorConfig config, MetricsProvider metricsProvider) {
+        super("QuotasBatchReconciler", config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.isBatchAdaptive() ? config.getBatchTargetLatencyMs() : 0, metricsProvider);
+        this.adminClient = adminClient;
+    }
+
     /**
      * Reconciles batch of requests to Patch quotas in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes with false when the whole batch failed and true otherwise
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
+    protected CompletionStage<Boolean> reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
         List<ClientQuotaAlteration> quotas = new ArrayList<>();
         items.forEach(req -> quotas.add(req.desired()));
 
         AlterClientQuotasResult result = adminClient.alterClientQuotas(quotas);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -87,7 +104,8 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
                         });
                     }
 
-                    return null;
+                    // Failures of individual entities do not mean that the whole batch failed
+                    return e == null || !wholeBatchFailed(result.values().values());
                 });
     }
 }
@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
@@ -18,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching SCRAM-SHA credentials using the Kafka Admin API.
@@ -40,19 +43,33 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
         this.adminClient = adminClient;
     }
 
+    /**
+     * Creates the SCRAM-SHA credentials micro-batching reconciler. The batching is configured from the User Operator configuration.
+     *
+     * @param adminClient       Kafka Admin API client
+     * @param config            User Operator configuration
+     * @param metricsProvider   Metrics provider used for the batching metrics
+     */
+    public ScramShaCredentialsBatchReconciler(Admin adminClient, UserOperatorConfig config, MetricsProvider metricsProvider) {
+        super("ScramShaCredentialsBatchReconciler", config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.isBatchAdaptive() ? config.getBatchTargetLatencyMs() : 0, metricsProvider);
+        this.adminClient = adminClient;
+    }
+
     /**
      * Reconciles batch of requests to patch SCRAM-SHA credentials in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  CompletionStage which completes with false when the whole batch failed and true otherwise
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
+    protected CompletionStage<Boolean> reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
         List<UserScramCredentialAlteration> alterations = new ArrayList<>();
         items.forEach(req -> alterations.add(req.desired()));
 
         AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(alterations);
 
-        result.all()
+        return result.all()
                 .toCompletionStage()
                 .handleAsync((r, e) -> {
                     if (e != null)  {
@@ -94,7 +111,8 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
                         });
                     }
 
-                    return null;
+                    // Failures of individual entities do not mean that the whole batch failed
+                    return e == null || !wholeBatchFailed(result.values().values());
                 });
     }
 }
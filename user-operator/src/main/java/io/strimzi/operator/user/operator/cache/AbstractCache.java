@@ -4,27 +4,50 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
- * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
+ * periodical timer which regularly updates the cache. The refreshed data are merged into the existing map so that only
+ * the entries which changed are replaced. It also provides method to access the cache and its data.
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
+    private final static String METRICS_PREFIX = "strimzi.cache.";
 
     private final long refreshIntervalMs;
     private final ScheduledExecutorService scheduledExecutor;
 
+    // Metrics
+    private final MetricsProvider metricsProvider;
+    private final Timer refreshTimer;
+    private final AtomicInteger entriesGauge;
+    private final Counter addedCounter;
+    private final Counter updatedCounter;
+    private final Counter removedCounter;
+
     private volatile ConcurrentHashMap<String, T> cache = null;
 
+    // Map into which the data are loaded on every refresh. It is reused between the refreshes to avoid allocating and
+    // resizing a new map each time. It is used only from the scheduled executor thread.
+    private final Map<String, T> loaded = new HashMap<>();
+
     /**
      * Constructs the abstract cache
      *
@@ -32,16 +55,43 @@ public abstract class AbstractCache<T> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public AbstractCache(String name, long refreshIntervalMs) {
+        this(name, refreshIntervalMs, null);
+    }
+
+    /**
+     * Constructs the abstract cache
+     *
+     * @param name                  Name of the cache
+     * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics. Null if no metrics should be reported.
+     */
+    public AbstractCache(String name, long refreshIntervalMs, MetricsProvider metricsProvider) {
         this.refreshIntervalMs = refreshIntervalMs;
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-cache"));
+
+        this.metricsProvider = metricsProvider;
+        if (metricsProvider != null) {
+            Tags tags = Tags.of("cache", name);
+            this.refreshTimer = metricsProvider.timer(METRICS_PREFIX + "refresh.duration", "The time it takes to refresh the cache", tags);
+            this.entriesGauge = metricsProvider.gauge(METRICS_PREFIX + "entries", "Number of entries in the cache", tags);
+            this.addedCounter = metricsProvider.counter(METRICS_PREFIX + "changes", "Number of cache entries added, updated or removed by the cache refresh", tags.and("change", "added"));
+            this.updatedCounter = metricsProvider.counter(METRICS_PREFIX + "changes", "Number of cache entries added, updated or removed by the cache refresh", tags.and("change", "updated"));
+            this.removedCounter = metricsProvider.counter(METRICS_PREFIX + "changes", "Number of cache entries added, updated or removed by the cache refresh", tags.and("change", "removed"));
+        } else {
+            this.refreshTimer = null;
+            this.entriesGauge = null;
+            this.addedCounter = null;
+            this.updatedCounter = null;
+            this.removedCounter = null;
+        }
     }
 
     /**
      * Method for loading the data into the cache. This method is implemented by the different cache implementations.
      *
-     * @return  New map with the latest data
+     * @param latest    Empty map into which the latest data should be loaded
      */
-    protected abstract ConcurrentHashMap<String, T> loadCache();
+    protected abstract void loadCache(Map<String, T> latest);
 
     /**
      * Retrieves a value from the cache for given key.
@@ -143,11 +193,81 @@ public abstract class AbstractCache<T> {
     private void updateCache()  {
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
+            long startNanos = System.nanoTime();
+
+            loadCache(loaded);
+            ConcurrentHashMap<String, T> current = cache;
+
+            if (current == null) {
+                // First load or the previous refresh failed => we create a new map
+                cache = new ConcurrentHashMap<>(loaded);
+                recordChanges(loaded.size(), 0, 0);
+            } else {
+                mergeCache(current, loaded);
+            }
+
+            if (metricsProvider != null) {
+                refreshTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                entriesGauge.set(cache.size());
+            }
+
             LOGGER.debug("{} updated", this.getClass().getSimpleName());
         } catch (Exception e)   {
             LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
             cache = null; // Reset the cache
+        } finally {
+            // Clear the loaded data to not keep them around until the next refresh. The map keeps its capacity.
+            loaded.clear();
+        }
+    }
+
+    /**
+     * Merges the latest data into the existing cache. Only the entries which were added, changed or removed are
+     * modified. The unchanged entries keep their existing values.
+     *
+     * @param current   The current cache
+     * @param latest    The latest data loaded from Kafka
+     */
+    private void mergeCache(ConcurrentHashMap<String, T> current, Map<String, T> latest) {
+        int added = 0;
+        int updated = 0;
+        int removed = 0;
+
+        for (Map.Entry<String, T> entry : latest.entrySet()) {
+            T existing = current.putIfAbsent(entry.getKey(), entry.getValue());
+
+            if (existing == null) {
+                added++;
+            } else if (!Objects.equals(existing, entry.getValue())
+                    && current.replace(entry.getKey(), existing, entry.getValue())) {
+                updated++;
+            }
+        }
+
+        Iterator<String> keys = current.keySet().iterator();
+        while (keys.hasNext()) {
+            if (!latest.containsKey(keys.next())) {
+                keys.remove();
+                removed++;
+            }
+        }
+
+        LOGGER.debug("{} merged with {} added, {} updated and {} removed entries", this.getClass().getSimpleName(), added, updated, removed);
+        recordChanges(added, updated, removed);
+    }
+
+    /**
+     * Records the changes done by the cache refresh in the metrics
+     *
+     * @param added     Number of added entries
+     * @param updated   Number of updated entries
+     * @param removed   Number of removed entries
+     */
+    private void recordChanges(int added, int updated, int removed) {
+        if (metricsProvider != null) {
+            addedCounter.increment(added);
+            updatedCounter.increment(updated);
+            removedCounter.increment(removed);
         }
     }
 }
@@ -4,20 +4,27 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePatternFilter;
+import org.apache.kafka.common.resource.ResourceType;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -29,6 +36,7 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     private final static Logger LOGGER = LogManager.getLogger(AclCache.class);
 
     private final Admin adminClient;
+    private final List<AclBindingFilter> filters;
 
     /**
      * Constructs the ACL cache
@@ -37,35 +45,66 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public AclCache(Admin adminClient, long refreshIntervalMs) {
-        super("ACL", refreshIntervalMs);
+        this(adminClient, refreshIntervalMs, false, null);
+    }
+
+    /**
+     * Constructs the ACL cache
+     *
+     * @param adminClient           Kafka Admin client
+     * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param splitByResourceType   Indicates whether the ACLs should be loaded with a separate request for each resource
+     *                              type instead of a single request for all ACLs
+     * @param metricsProvider       Metrics provider used for the cache metrics
+     */
+    public AclCache(Admin adminClient, long refreshIntervalMs, boolean splitByResourceType, MetricsProvider metricsProvider) {
+        super("ACL", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
+        this.filters = splitByResourceType ? resourceTypeFilters() : List.of(AclBindingFilter.ANY);
     }
 
     /**
-     * Loads the ACL rules from Kafka for all users
+     * Creates the filters for loading the ACLs for each resource type separately
      *
-     * @return  ConcurrentHashMap with all users and their ACLs
+     * @return  List with ACL binding filters
+     */
+    /*test*/ static List<AclBindingFilter> resourceTypeFilters() {
+        List<AclBindingFilter> filters = new ArrayList<>();
+
+        for (ResourceType type : ResourceType.values()) {
+            if (type != ResourceType.ANY && type != ResourceType.UNKNOWN) {
+                filters.add(new AclBindingFilter(new ResourcePatternFilter(type, null, PatternType.ANY), AccessControlEntryFilter.ANY));
+            }
+        }
+
+        return filters;
+    }
+
+    /**
+     * Loads the ACL rules from Kafka for all users. When the ACLs are split by resource type, all requests are sent
+     * first, and then their results are collected.
+     *
+     * @param latest    Map into which all users and their ACLs are loaded
      */
     @Override
-    protected ConcurrentHashMap<String, Set<SimpleAclRule>> loadCache() {
-        KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(AclBindingFilter.ANY).values();
+    protected void loadCache(Map<String, Set<SimpleAclRule>> latest) {
+        List<KafkaFuture<Collection<AclBinding>>> futureAcls = new ArrayList<>(filters.size());
+        for (AclBindingFilter filter : filters) {
+            futureAcls.add(adminClient.describeAcls(filter).values());
+        }
 
         try {
-            Collection<AclBinding> aclsBindings = futureAcls.get(1, TimeUnit.MINUTES);
-            // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
-            // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
-            // initial size than Java's default
-            ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+            for (KafkaFuture<Collection<AclBinding>> futureAcl : futureAcls) {
+                Collection<AclBinding> aclsBindings = futureAcl.get(1, TimeUnit.MINUTES);
 
-            for (AclBinding aclBinding : aclsBindings) {
-                KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+                for (AclBinding aclBinding : aclsBindings) {
+                    KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
-                if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                    map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                    if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                        latest.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                    }
                 }
             }
-
-            return map;
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOGGER.warn("Failed to load ACLs", e);
             throw new RuntimeException("Failed to load ACLs", e);
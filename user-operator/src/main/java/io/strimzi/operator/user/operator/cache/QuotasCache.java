@@ -5,6 +5,7 @@
 package io.strimzi.operator.user.operator.cache;
 
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.user.model.QuotaUtils;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
@@ -14,7 +15,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -34,33 +34,41 @@ public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public QuotasCache(Admin adminClient, long refreshIntervalMs) {
-        super("Quotas", refreshIntervalMs);
+        this(adminClient, refreshIntervalMs, null);
+    }
+
+    /**
+     * Constructs the Quotas cache
+     *
+     * @param adminClient           Kafka Admin client
+     * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
+     */
+    public QuotasCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("Quotas", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
     /**
      * Loads the Quotas from Kafka for all users
      *
-     * @return  ConcurrentHashMap with all users and their Quotas
+     * @param latest    Map into which all users and their Quotas are loaded
      */
     @Override
-    protected ConcurrentHashMap<String, KafkaUserQuotas> loadCache() {
+    protected void loadCache(Map<String, KafkaUserQuotas> latest) {
         KafkaFuture<Map<ClientQuotaEntity, Map<String, Double>>> futureQuotas = adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities();
 
         try {
             Map<ClientQuotaEntity, Map<String, Double>> quotas = futureQuotas.get(1, TimeUnit.MINUTES);
-            ConcurrentHashMap<String, KafkaUserQuotas> map = new ConcurrentHashMap<>((int) (quotas.size() / 0.75f));
 
             for (Map.Entry<ClientQuotaEntity, Map<String, Double>> entry : quotas.entrySet()) {
                 // We have to check if the ClientQuotaEntity.USER value is not null, because the entries might contain
                 // the default user quota for which the key would exist but the value would be null. And that would
                 // throw and NPE when we try to insert it into the cache.
                 if (entry.getKey().entries().get(ClientQuotaEntity.USER) != null) {
-                    map.put(entry.getKey().entries().get(ClientQuotaEntity.USER), QuotaUtils.fromClientQuota(entry.getValue()));
+                    latest.put(entry.getKey().entries().get(ClientQuotaEntity.USER), QuotaUtils.fromClientQuota(entry.getValue()));
                 }
             }
-
-            return map;
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOGGER.warn("Failed to load Quotas", e);
             throw new RuntimeException("Failed to load Quotas", e);
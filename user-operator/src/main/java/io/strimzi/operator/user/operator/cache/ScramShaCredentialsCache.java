@@ -4,13 +4,14 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -32,24 +33,33 @@ public class ScramShaCredentialsCache extends AbstractCache<Boolean> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public ScramShaCredentialsCache(Admin adminClient, long refreshIntervalMs) {
-        super("ScramShaCredentials", refreshIntervalMs);
+        this(adminClient, refreshIntervalMs, null);
+    }
+
+    /**
+     * Constructs the SCRAM-SHA credentials cache
+     *
+     * @param adminClient           Kafka Admin client
+     * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param metricsProvider       Metrics provider used for the cache metrics
+     */
+    public ScramShaCredentialsCache(Admin adminClient, long refreshIntervalMs, MetricsProvider metricsProvider) {
+        super("ScramShaCredentials", refreshIntervalMs, metricsProvider);
         this.adminClient = adminClient;
     }
 
     /**
      * Loads the SCRAM-SHA credentials from Kafka for all users
      *
-     * @return  ConcurrentHashMap with Boolean values indicating if the user has SCRAM-SHA credentials set.
+     * @param latest    Map into which the Boolean values indicating if the user has SCRAM-SHA credentials set are loaded
      */
     @Override
-    protected ConcurrentHashMap<String, Boolean> loadCache() {
+    protected void loadCache(Map<String, Boolean> latest) {
         KafkaFuture<List<String>> futureUsers = adminClient.describeUserScramCredentials().users();
 
         try {
             List<String> users = futureUsers.get(1, TimeUnit.MINUTES);
-            ConcurrentHashMap<String, Boolean> map = new ConcurrentHashMap<>((int) (users.size() / 0.75f));
-            users.forEach(u -> map.put(u, true));
-            return map;
+            users.forEach(u -> latest.put(u, true));
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOGGER.warn("Failed to load SCRAM-SHA credentials", e);
             throw new RuntimeException("Failed to load SCRAM-SHA credentials", e);
@@ -141,6 +141,99 @@ public class UserControllerMockTest {
         }
     }
 
+    @Test
+    public void testShardedReconciliation() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> {
+            KafkaUserStatus status = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
+            return CompletableFuture.completedFuture(status);
+        });
+
+        // Create User Controller
+        UserController controller = new UserController(
+                new UserOperatorConfig.UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, ""))
+                        .with(UserOperatorConfig.SHARDED_WORK_QUEUE.key(), "true")
+                        .with(UserOperatorConfig.CONTROLLER_THREAD_POOL_SIZE.key(), "4")
+                        .build(),
+                secretOperator,
+                kafkaUserOps,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            for (int i = 0; i < 10; i++) {
+                KafkaUser user = ResourceUtils.createKafkaUserTls();
+                user.getMetadata().setName(NAME + "-" + i);
+                kafkaUserOps.resource(NAMESPACE, user).create();
+            }
+
+            for (int i = 0; i < 10; i++) {
+                kafkaUserOps.resource(NAMESPACE, NAME + "-" + i).waitUntilCondition(KafkaUser.isReady(), 10_000, TimeUnit.MILLISECONDS);
+            }
+
+            // Check metrics
+            assertThat(metrics.meterRegistry().get("strimzi.resources").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).gauge().value(), is(10.0));
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations.successful").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(10.0)));
+            assertThat(metrics.meterRegistry().find("strimzi.controller.queue.shard.depth").tag("kind", "KafkaUser").gauges().size(), is(4));
+        } finally {
+            controller.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncReconciliation() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator. The reconciliations complete asynchronously after a delay.
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> {
+            KafkaUserStatus status = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
+            return CompletableFuture.supplyAsync(() -> status, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        });
+
+        // Create User Controller
+        UserController controller = new UserController(
+                new UserOperatorConfig.UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, ""))
+                        .with(UserOperatorConfig.MAX_IN_FLIGHT_RECONCILIATIONS.key(), "5")
+                        .build(),
+                secretOperator,
+                kafkaUserOps,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            for (int i = 0; i < 10; i++) {
+                KafkaUser user = ResourceUtils.createKafkaUserTls();
+                user.getMetadata().setName(NAME + "-" + i);
+                kafkaUserOps.resource(NAMESPACE, user).create();
+            }
+
+            for (int i = 0; i < 10; i++) {
+                kafkaUserOps.resource(NAMESPACE, NAME + "-" + i).waitUntilCondition(KafkaUser.isReady(), 10_000, TimeUnit.MILLISECONDS);
+            }
+
+            // Check metrics
+            assertThat(metrics.meterRegistry().get("strimzi.resources").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).gauge().value(), is(10.0));
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations.successful").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(10.0)));
+            assertThat(metrics.meterRegistry().find("strimzi.reconciliations.in.flight").tag("kind", "KafkaUser").gauge(), is(notNullValue()));
+        } finally {
+            controller.stop();
+        }
+    }
+
     @Test
     public void testReconciliationCrAndPrefixedSecret() {
         // Prepare metrics registry
@@ -298,11 +391,13 @@ public class UserControllerMockTest {
 
             // Check resource
             assertThat(user.getStatus(), is(notNullValue()));
+            assertThat(user.getStatus().getConditions().get(0).getReason(), is("ExecutionException"));
 
             // Check metrics
             assertThat(metrics.meterRegistry().get("strimzi.resources").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).gauge().value(), is(1.0));
             assertThat(metrics.meterRegistry().get("strimzi.reconciliations.failed").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
             assertThat(metrics.meterRegistry().get("strimzi.reconciliations").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations.retried").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
         } finally {
             controller.stop();
         }
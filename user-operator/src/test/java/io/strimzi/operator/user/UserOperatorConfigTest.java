@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -52,16 +54,28 @@ public class UserOperatorConfigTest {
         assertThat(config.getCaNamespaceOrNamespace(), is(ENV_VARS.get(UserOperatorConfig.CA_NAMESPACE.key())));
         assertThat(config.getClientsCaValidityDays(), is(1000));
         assertThat(config.getClientsCaRenewalDays(), is(10));
+        assertThat(config.getCertManagerType(), is(CertManagerType.OPENSSL));
+        assertThat(config.getKeyPairPoolSize(), is(0));
+        assertThat(config.getKeyPairAlgorithm(), is(KeyAlgorithm.RSA));
         assertThat(config.isAclsAdminApiSupported(), is(false));
         assertThat(config.getScramPasswordLength(), is(20));
         assertThat(config.getMaintenanceWindows(), is(nullValue()));
         assertThat(config.getOperationTimeoutMs(), is(300_000L));
         assertThat(config.getWorkQueueSize(), is(1_024));
         assertThat(config.getControllerThreadPoolSize(), is(50));
+        assertThat(config.isShardedWorkQueue(), is(false));
+        assertThat(config.getMaxInFlightReconciliations(), is(0));
+        assertThat(config.getRetryInitialDelayMs(), is(1_000L));
+        assertThat(config.getRetryMaxDelayMs(), is(120_000L));
+        assertThat(config.getRetryRateLimit(), is(10));
+        assertThat(config.getRetryRateLimitBurst(), is(100));
         assertThat(config.getCacheRefresh(), is(15_000L));
         assertThat(config.getBatchQueueSize(), is(1_024));
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
+        assertThat(config.isBatchAdaptive(), is(false));
+        assertThat(config.isAclsCacheSplitByResourceType(), is(false));
+        assertThat(config.getBatchTargetLatencyMs(), is(500L));
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
     }
 
@@ -125,6 +139,41 @@ public class UserOperatorConfigTest {
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
     }
 
+    @Test
+    public void testFromMapCertManagerType()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.CERT_MANAGER_TYPE.key(), "jca");
+
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.JCA));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER_TYPE.key(), "not_a_cert_manager");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapKeyPairPool()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.KEY_PAIR_POOL_SIZE.key(), "100");
+        envVars.put(UserOperatorConfig.KEY_PAIR_ALGORITHM.key(), "EC");
+
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getKeyPairPoolSize(), is(100));
+        assertThat(config.getKeyPairAlgorithm(), is(KeyAlgorithm.EC));
+
+        envVars.put(UserOperatorConfig.KEY_PAIR_ALGORITHM.key(), "DSA");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapNegativeKeyPairPoolSizeThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.KEY_PAIR_POOL_SIZE.key(), "-1");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testFromMapInvalidScramPasswordLengthThrows()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
@@ -212,6 +261,36 @@ public class UserOperatorConfigTest {
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
     }
 
+    @Test
+    public void testInvalidRetryDelays()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.RETRY_INITIAL_DELAY_MS.key(), "0");
+        envVars.put(UserOperatorConfig.RETRY_MAXIMUM_DELAY_MS.key(), "0");
+
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getRetryInitialDelayMs(), is(0L));
+        assertThat(config.getRetryMaxDelayMs(), is(0L));
+
+        envVars.put(UserOperatorConfig.RETRY_INITIAL_DELAY_MS.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+
+        envVars.put(UserOperatorConfig.RETRY_INITIAL_DELAY_MS.key(), "5000");
+        envVars.put(UserOperatorConfig.RETRY_MAXIMUM_DELAY_MS.key(), "1000");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
+    @Test
+    public void testMaxInFlightReconciliations()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.MAX_IN_FLIGHT_RECONCILIATIONS.key(), "10");
+
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.getMaxInFlightReconciliations(), is(10));
+
+        envVars.put(UserOperatorConfig.MAX_IN_FLIGHT_RECONCILIATIONS.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testOperationTimeout()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
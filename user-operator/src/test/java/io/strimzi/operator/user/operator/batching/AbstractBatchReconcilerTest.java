@@ -4,15 +4,23 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 public class AbstractBatchReconcilerTest {
     Set<Integer> reconciled;
@@ -50,15 +58,70 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
+    @Test
+    public void testAdaptiveBatching() throws InterruptedException {
+        int numberOfItems = 100;
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        reconciled = ConcurrentHashMap.newKeySet(numberOfItems);
+        reconciliationFinished = new CountDownLatch(numberOfItems);
+
+        // The batch time is long => without the adaptive mode, the batches would wait for it
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(200, 5, 10_000, 1_000, metrics);
+        batcher.start();
+
+        try {
+            // Single request at low load is sent right away
+            batcher.enqueue(0);
+            MatcherAssert.assertThat(waitFor(() -> reconciled.contains(0), 1_000), CoreMatchers.is(true));
+
+            for (int i = 1; i < numberOfItems; i++)    {
+                batcher.enqueue(i);
+            }
+
+            MatcherAssert.assertThat(reconciliationFinished.await(5_000, TimeUnit.MILLISECONDS), CoreMatchers.is(true));
+
+            for (int i = 0; i < numberOfItems; i++)    {
+                MatcherAssert.assertThat(reconciled.contains(i), CoreMatchers.is(true));
+            }
+
+            // Batches complete fast => the batch size should grow
+            MatcherAssert.assertThat(metrics.meterRegistry().get("strimzi.batch.size").tag("reconciler", "TestBatchReconciler").gauge().value(), CoreMatchers.is(Matchers.greaterThan(5.0)));
+            MatcherAssert.assertThat(metrics.meterRegistry().get("strimzi.batch.linger").tag("reconciler", "TestBatchReconciler").gauge().value(), CoreMatchers.is(Matchers.lessThan(10_000.0)));
+            MatcherAssert.assertThat(metrics.meterRegistry().get("strimzi.batch.duration").tag("reconciler", "TestBatchReconciler").timer().count(), CoreMatchers.is(Matchers.greaterThan(1L)));
+        } finally {
+            batcher.stop();
+        }
+    }
+
+    private static boolean waitFor(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+
+            Thread.sleep(10);
+        }
+
+        return condition.getAsBoolean();
+    }
+
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
         public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
             super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
         }
 
+        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime, long targetLatencyMs, MetricsProvider metricsProvider) {
+            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime, targetLatencyMs, metricsProvider);
+        }
+
         @Override
-        protected void reconcile(Collection<Integer> items) {
+        protected CompletionStage<Boolean> reconcile(Collection<Integer> items) {
             reconciled.addAll(items);
-            reconciliationFinished.countDown();
+            items.forEach(i -> reconciliationFinished.countDown());
+            return CompletableFuture.completedFuture(true);
         }
     }
 }
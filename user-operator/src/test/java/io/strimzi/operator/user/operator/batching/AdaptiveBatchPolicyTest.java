@@ -0,0 +1,68 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveBatchPolicyTest {
+    @Test
+    public void testGrowing() {
+        AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(10, 20, 100, 50);
+        assertThat(policy.batchSize(), is(10));
+        assertThat(policy.lingerMs(), is(100));
+
+        // Fast full batch => grows
+        policy.onBatchCompleted(10, 10, false);
+        assertThat(policy.batchSize(), is(12));
+        assertThat(policy.lingerMs(), is(50));
+
+        // Fast batch which was not full => no change
+        policy.onBatchCompleted(5, 10, false);
+        assertThat(policy.batchSize(), is(12));
+        assertThat(policy.lingerMs(), is(50));
+
+        // Grows up to the maximum
+        for (int i = 0; i < 10; i++) {
+            policy.onBatchCompleted(policy.batchSize(), 10, false);
+        }
+
+        assertThat(policy.batchSize(), is(20));
+        assertThat(policy.lingerMs(), is(1));
+    }
+
+    @Test
+    public void testShrinking() {
+        AdaptiveBatchPolicy policy = new AdaptiveBatchPolicy(16, 20, 100, 50);
+
+        // Slow batch => shrinks
+        policy.onBatchCompleted(16, 100, false);
+        assertThat(policy.batchSize(), is(12));
+        assertThat(policy.lingerMs(), is(100));
+
+        // Failed batch => halves the batch
+        policy.onBatchCompleted(12, 10, true);
+        assertThat(policy.batchSize(), is(6));
+        assertThat(policy.lingerMs(), is(100));
+
+        // Never goes below 1
+        for (int i = 0; i < 10; i++) {
+            policy.onBatchCompleted(policy.batchSize(), 10, true);
+        }
+
+        assertThat(policy.batchSize(), is(1));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchPolicy(0, 20, 100, 50));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchPolicy(30, 20, 100, 50));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchPolicy(10, 20, 0, 50));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchPolicy(10, 20, 100, 0));
+    }
+}
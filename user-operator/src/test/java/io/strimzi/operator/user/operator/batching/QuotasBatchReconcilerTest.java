@@ -195,4 +195,37 @@ public class QuotasBatchReconcilerTest {
             reconciler.stop();
         }
     }
+
+    @Test
+    public void testWholeBatchFailureDetection() throws InterruptedException, ExecutionException, TimeoutException {
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        // Mock result => the request fails because of my-user2 only
+        KafkaFuture<Void> mockAllFuture = mock(KafkaFuture.class);
+        when(mockAllFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
+
+        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
+        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
+
+        AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
+        when(mockResult.all()).thenReturn(mockAllFuture);
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, mockMyUser2Future));
+        when(mockClient.alterClientQuotas(any())).thenReturn(mockResult);
+
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        List<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> requests = List.of(
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user", MY_USER_ALTERATION, new CompletableFuture<>()),
+                new AdminApiOperator.ReconcileRequest<>(Reconciliation.DUMMY_RECONCILIATION, "my-user2", MY_USER_2_ALTERATION, new CompletableFuture<>()));
+
+        // Failure of a single entity is not a failure of the whole batch
+        assertThat(reconciler.reconcile(requests).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS), is(true));
+
+        // Failure of all entities is a failure of the whole batch
+        KafkaFuture<Void> mockMyUserFuture = mock(KafkaFuture.class);
+        when(mockMyUserFuture.isCompletedExceptionally()).thenReturn(true);
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, mockMyUserFuture, MY_USER_2_ENTITY, mockMyUser2Future));
+
+        assertThat(reconciler.reconcile(requests).toCompletableFuture().get(1_000, TimeUnit.MILLISECONDS), is(false));
+    }
 }
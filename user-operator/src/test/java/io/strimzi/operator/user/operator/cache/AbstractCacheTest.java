@@ -4,22 +4,30 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 public class AbstractCacheTest {
     private CountDownLatch reload;
 
     @Test
     public void testCache() throws InterruptedException {
-        reload = new CountDownLatch(2);
+        // The latch is released when the third load starts => the first refresh after the initial load is complete
+        reload = new CountDownLatch(3);
 
         AbstractCache<Boolean> cache = new TestCache();
 
@@ -71,20 +79,67 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testIncrementalRefresh() throws InterruptedException {
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+        Set<String> initialValue = Set.of("a");
+        AtomicReference<Map<String, Set<String>>> data = new AtomicReference<>(Map.of("one", initialValue, "two", Set.of("b"), "three", Set.of("c")));
+        CountDownLatch reloaded = new CountDownLatch(2);
+
+        AbstractCache<Set<String>> cache = new AbstractCache<>("Incremental", 100L, metrics) {
+            @Override
+            protected void loadCache(Map<String, Set<String>> latest) {
+                // The map is reused between the refreshes, but it is always empty when loading
+                assertThat(latest.isEmpty(), is(true));
+
+                // We create new instances to check that the unchanged values are kept
+                data.get().forEach((k, v) -> latest.put(k, new HashSet<>(v)));
+
+                if (latest.containsKey("four")) {
+                    reloaded.countDown();
+                }
+            }
+        };
+
+        try {
+            cache.start();
+
+            Set<String> one = cache.get("one");
+            assertThat(one, is(initialValue));
+            assertThat(metrics.meterRegistry().get("strimzi.cache.entries").tag("cache", "Incremental").gauge().value(), is(3.0));
+            assertThat(metrics.meterRegistry().get("strimzi.cache.changes").tag("cache", "Incremental").tag("change", "added").counter().count(), is(3.0));
+
+            // Update the data and wait for the refresh
+            data.set(Map.of("one", initialValue, "two", Set.of("b", "bb"), "four", Set.of("d")));
+            reloaded.await();
+
+            // Unchanged entry keeps the original value
+            assertThat(cache.get("one") == one, is(true));
+            assertThat(cache.get("two"), is(Set.of("b", "bb")));
+            assertThat(cache.get("three"), is(nullValue()));
+            assertThat(cache.get("four"), is(Set.of("d")));
+
+            assertThat(metrics.meterRegistry().get("strimzi.cache.changes").tag("cache", "Incremental").tag("change", "added").counter().count(), is(4.0));
+            assertThat(metrics.meterRegistry().get("strimzi.cache.changes").tag("cache", "Incremental").tag("change", "updated").counter().count(), is(1.0));
+            assertThat(metrics.meterRegistry().get("strimzi.cache.changes").tag("cache", "Incremental").tag("change", "removed").counter().count(), is(1.0));
+            assertThat(metrics.meterRegistry().get("strimzi.cache.refresh.duration").tag("cache", "Incremental").timer().count(), is(greaterThanOrEqualTo(2L)));
+        } finally {
+            cache.stop();
+        }
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
             super("Test", 100L);
         }
 
         @Override
-        protected ConcurrentHashMap<String, Boolean> loadCache() {
-            ConcurrentHashMap<String, Boolean> map = new ConcurrentHashMap<>();
-            map.put("one", Boolean.TRUE);
-            map.put("two", Boolean.TRUE);
-            map.put("three", Boolean.TRUE);
+        protected void loadCache(Map<String, Boolean> latest) {
+            latest.put("one", Boolean.TRUE);
+            latest.put("two", Boolean.TRUE);
+            latest.put("three", Boolean.TRUE);
 
             reload.countDown();
-            return map;
         }
     }
 }
@@ -25,8 +25,11 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -119,4 +122,55 @@ public class AclCacheTest {
             cache.stop();
         }
     }
+
+    @Test
+    public void testCacheSplitByResourceType() throws InterruptedException, ExecutionException, TimeoutException {
+        int requestsPerRefresh = AclCache.resourceTypeFilters().size();
+        CountDownLatch load = new CountDownLatch(2 * requestsPerRefresh);
+
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+
+        AclBinding topicRead = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+        AclBinding groupRead = new AclBinding(
+                new ResourcePattern(ResourceType.GROUP, "my-group", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+
+        // Mock call => returns the ACLs matching the resource type of the filter
+        ArgumentCaptor<AclBindingFilter> aclBindingsFilterCaptor = ArgumentCaptor.forClass(AclBindingFilter.class);
+        when(mockClient.describeAcls(aclBindingsFilterCaptor.capture())).thenAnswer(i -> {
+            AclBindingFilter filter = i.getArgument(0);
+            List<AclBinding> bindings = List.of(topicRead, groupRead).stream().filter(filter::matches).toList();
+
+            KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
+            when(mockFuture.get(anyLong(), any())).thenReturn(bindings);
+            DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+            when(mockResult.values()).thenReturn(mockFuture);
+
+            load.countDown();
+            return mockResult;
+        });
+
+        AclCache cache = new AclCache(mockClient, 10, true, null);
+
+        try {
+            cache.start();
+
+            // Wait for the initial load and one refresh
+            load.await();
+
+            assertThat(cache.get("my-user").size(), is(2));
+            assertThat(cache.get("my-user"), hasItems(SimpleAclRule.fromAclBinding(topicRead), SimpleAclRule.fromAclBinding(groupRead)));
+
+            // Check the parameters
+            assertThat(aclBindingsFilterCaptor.getAllValues(), not(hasItem(AclBindingFilter.ANY)));
+            assertThat(aclBindingsFilterCaptor.getAllValues().stream().map(f -> f.patternFilter().resourceType()).collect(Collectors.toSet()), hasItems(ResourceType.TOPIC, ResourceType.GROUP, ResourceType.CLUSTER, ResourceType.TRANSACTIONAL_ID));
+        } finally   {
+            cache.stop();
+        }
+    }
 }